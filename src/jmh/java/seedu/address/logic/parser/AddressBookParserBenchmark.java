@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.person.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures parsing a {@code find} command of about {@code inputLength} characters, which searches for the names of
+ * the sample persons.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookParserBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int inputLength;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private String findInput;
+
+    @Setup
+    public void setUp() {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        StringBuilder input = new StringBuilder(FindCommand.COMMAND_WORD);
+        for (int i = 0; input.length() < inputLength; i++) {
+            input.append(' ').append(samplePersons[i % samplePersons.length].getName());
+        }
+        findInput = input.toString();
+    }
+
+    @Benchmark
+    public Command parseFind() throws ParseException {
+        return parser.parseCommand(findInput);
+    }
+}
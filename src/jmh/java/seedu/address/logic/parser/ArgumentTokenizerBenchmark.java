@@ -0,0 +1,59 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Measures tokenizing arguments of about {@code argumentsLength} characters, made up of repeated name, phone and
+ * email arguments.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int argumentsLength;
+
+    private String arguments;
+
+    @Setup
+    public void setUp() {
+        arguments = getPersonArguments(argumentsLength);
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(arguments, PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL);
+    }
+
+    /**
+     * Returns the arguments of the sample persons, repeated until they are at least {@code length} characters long.
+     */
+    private static String getPersonArguments(int length) {
+        Person[] samplePersons = SampleDataUtil.getSamplePersons();
+        StringBuilder arguments = new StringBuilder();
+        for (int i = 0; arguments.length() < length; i++) {
+            Person person = samplePersons[i % samplePersons.length];
+            arguments.append(' ').append(PREFIX_NAME).append(person.getName())
+                    .append(' ').append(PREFIX_PHONE).append(person.getPhone())
+                    .append(' ').append(PREFIX_EMAIL).append(person.getEmail());
+        }
+        return arguments.toString();
+    }
+}
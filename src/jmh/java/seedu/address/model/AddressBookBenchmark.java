@@ -0,0 +1,61 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures {@code AddressBook#setPerson}, which also replaces the person in each of the groups they are in.
+ * There is one group for every 20 persons, and every person is a member of {@code groupsPerPerson} groups.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AddressBookBenchmark {
+
+    private static final int PERSONS_PER_GROUP = 20;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int personCount;
+
+    @Param({"1", "10"})
+    public int groupsPerPerson;
+
+    private AddressBook addressBook;
+
+    // The person in the middle of the address book, and an edited version of them that setPerson swaps it with
+    private Person middlePerson;
+    private Person editedMiddlePerson;
+
+    @Setup
+    public void setUp() {
+        int groupCount = Math.max(groupsPerPerson, personCount / PERSONS_PER_GROUP);
+        addressBook = SyntheticDataUtil.getAddressBook(personCount, groupCount, groupsPerPerson);
+
+        middlePerson = addressBook.getPersonList().get(personCount / 2);
+        editedMiddlePerson = new Person(middlePerson.getName(), new Phone("80000000"), middlePerson.getEmail(),
+                middlePerson.getGroups());
+    }
+
+    /**
+     * Replaces the person in the middle of the address book with their edited version, or back again.
+     */
+    @Benchmark
+    public void setPerson() {
+        addressBook.setPerson(middlePerson, editedMiddlePerson);
+        Person swap = middlePerson;
+        middlePerson = editedMiddlePerson;
+        editedMiddlePerson = swap;
+    }
+}
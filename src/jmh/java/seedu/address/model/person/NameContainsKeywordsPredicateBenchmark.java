@@ -0,0 +1,51 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures filtering the persons shown to those whose names contain some keywords, as {@code find} does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NameContainsKeywordsPredicateBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int personCount;
+
+    private Model model;
+    private NameContainsKeywordsPredicate predicate;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(SyntheticDataUtil.getAddressBook(personCount, 0, 0), new UserPrefs());
+        // Matches every sixth person, who is a Bernice, and the persons whose number contains 12
+        predicate = new NameContainsKeywordsPredicate(List.of("bernice", "12"));
+    }
+
+    /**
+     * Filters all persons, then shows all of them again so that every invocation filters the same list.
+     */
+    @Benchmark
+    public int filter() {
+        model.updateFilteredPersonList(predicate);
+        int shown = model.getFilteredPersonList().size();
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        return shown;
+    }
+}
@@ -0,0 +1,93 @@
+package seedu.address.model.person;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures adding, finding and replacing persons in a {@code UniquePersonList} of {@code size} persons.
+ * The list is rebuilt before every iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniquePersonListBenchmark {
+
+    private static final int ADD_BATCH_SIZE = 1000;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private UniquePersonList persons;
+    private Person absentPerson;
+    private Person[] personsToAdd;
+    private int nextToAdd;
+
+    // The person in the middle of the list, and an edited version of them that setPerson swaps it with
+    private Person middlePerson;
+    private Person editedMiddlePerson;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        persons = new UniquePersonList();
+        for (int i = 0; i < size; i++) {
+            persons.add(SyntheticDataUtil.getPerson(i, Set.of()));
+        }
+        absentPerson = SyntheticDataUtil.getPerson(size, Set.of());
+        personsToAdd = new Person[ADD_BATCH_SIZE];
+        for (int i = 0; i < ADD_BATCH_SIZE; i++) {
+            personsToAdd[i] = SyntheticDataUtil.getPerson(size + 1 + i, Set.of());
+        }
+        nextToAdd = 0;
+
+        middlePerson = persons.get(size / 2);
+        editedMiddlePerson = new Person(middlePerson.getName(), new Phone("80000000"), middlePerson.getEmail(),
+                middlePerson.getGroups());
+    }
+
+    /**
+     * Adds a new person. Each iteration adds a batch of persons to the freshly built list, so that the size of
+     * the list stays close to {@code size}.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(batchSize = ADD_BATCH_SIZE)
+    @Measurement(batchSize = ADD_BATCH_SIZE)
+    public void add() {
+        persons.add(personsToAdd[nextToAdd++]);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return persons.contains(middlePerson);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return persons.contains(absentPerson);
+    }
+
+    /**
+     * Replaces the person in the middle of the list with their edited version, or back again.
+     */
+    @Benchmark
+    public void setPerson() {
+        persons.setPerson(middlePerson, editedMiddlePerson);
+        Person swap = middlePerson;
+        middlePerson = editedMiddlePerson;
+        editedMiddlePerson = swap;
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.util;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Contains utility methods for generating large address books for benchmarks.
+ *
+ * Generated persons are numbered variations of the persons in {@link SampleDataUtil}, so their fields look like
+ * real data, and the same arguments always generate the same address book.
+ */
+public class SyntheticDataUtil {
+
+    private static final Person[] SAMPLE_PERSONS = SampleDataUtil.getSamplePersons();
+
+    private SyntheticDataUtil() {} // prevents instantiation
+
+    /**
+     * Returns the {@code index}-th generated person, who is a member of the groups named {@code groupNames}.
+     * Persons with different indexes have different names, phones and emails.
+     */
+    public static Person getPerson(int index, Set<GroupName> groupNames) {
+        Person sample = SAMPLE_PERSONS[index % SAMPLE_PERSONS.length];
+        return new Person(new Name(sample.getName().fullName + " " + index),
+                new Phone(String.format("9%07d", index)),
+                new Email(String.format("e%07d@u.nus.edu", index)),
+                groupNames);
+    }
+
+    /**
+     * Returns the name of the {@code index}-th generated group.
+     */
+    public static GroupName getGroupName(int index) {
+        return new GroupName("Group " + index);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons and {@code groupCount} groups, where every person
+     * is a member of {@code groupsPerPerson} groups.
+     * {@code groupsPerPerson} must not be more than {@code groupCount}.
+     */
+    public static AddressBook getAddressBook(int personCount, int groupCount, int groupsPerPerson) {
+        assert groupsPerPerson <= groupCount;
+
+        Group[] groups = new Group[groupCount];
+        for (int i = 0; i < groupCount; i++) {
+            groups[i] = new Group(getGroupName(i));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            Set<GroupName> groupNames = new HashSet<>();
+            for (int j = 0; j < groupsPerPerson; j++) {
+                groupNames.add(groups[(i + j) % groupCount].getName());
+            }
+            Person person = getPerson(i, groupNames);
+            addressBook.addPerson(person);
+            for (int j = 0; j < groupsPerPerson; j++) {
+                groups[(i + j) % groupCount].addPerson(person);
+            }
+        }
+        for (Group group : groups) {
+            addressBook.addGroup(group);
+        }
+        return addressBook;
+    }
+}
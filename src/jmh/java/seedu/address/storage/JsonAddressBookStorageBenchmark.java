@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures reading and saving an address book of {@code personCount} persons in a json file.
+ * There is one group for every 20 persons, and every person is a member of 3 groups.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonAddressBookStorageBenchmark {
+
+    private static final int PERSONS_PER_GROUP = 20;
+    private static final int GROUPS_PER_PERSON = 3;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int personCount;
+
+    @Param({"false", "true"})
+    public boolean isStreaming;
+
+    private Path folder;
+    private Path filePath;
+    private AddressBook addressBook;
+
+    // Storage that has read the file, so that it journals changes to it
+    private JsonAddressBookStorage journalingStorage;
+    private Person middlePerson;
+    private Person editedMiddlePerson;
+
+    @Setup
+    public void setUp() throws IOException, DataLoadingException {
+        folder = Files.createTempDirectory("JsonAddressBookStorageBenchmark");
+        filePath = folder.resolve("addressbook.json");
+        int groupCount = Math.max(GROUPS_PER_PERSON, personCount / PERSONS_PER_GROUP);
+        addressBook = SyntheticDataUtil.getAddressBook(personCount, groupCount, GROUPS_PER_PERSON);
+        new JsonAddressBookStorage(filePath, isStreaming).saveAddressBook(addressBook);
+
+        journalingStorage = new JsonAddressBookStorage(folder.resolve("journaled.json"), isStreaming);
+        journalingStorage.saveAddressBook(addressBook);
+        middlePerson = addressBook.getPersonList().get(personCount / 2);
+        editedMiddlePerson = new Person(middlePerson.getName(), new Phone("80000000"), middlePerson.getEmail(),
+                middlePerson.getGroups());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(folder)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws DataLoadingException {
+        return new JsonAddressBookStorage(filePath, isStreaming).readAddressBook().get();
+    }
+
+    /**
+     * Writes the whole address book, as a storage that has not read or saved the file before does.
+     */
+    @Benchmark
+    public void save() throws IOException {
+        new JsonAddressBookStorage(filePath, isStreaming).saveAddressBook(addressBook);
+    }
+
+    /**
+     * Edits a person and saves, which appends the change to the journal of the file.
+     */
+    @Benchmark
+    public void saveAfterEdit() throws IOException {
+        addressBook.setPerson(middlePerson, editedMiddlePerson);
+        Person swap = middlePerson;
+        middlePerson = editedMiddlePerson;
+        editedMiddlePerson = swap;
+        journalingStorage.saveAddressBook(addressBook);
+    }
+}
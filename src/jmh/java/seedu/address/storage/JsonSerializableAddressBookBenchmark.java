@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures how long it takes to validate and convert a loaded address book into the model.
+ * There is one group for every 20 persons, and every person is a member of 3 groups.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonSerializableAddressBookBenchmark {
+
+    private static final int PERSONS_PER_GROUP = 20;
+    private static final int GROUPS_PER_PERSON = 3;
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private JsonSerializableAddressBook serializedAddressBook;
+
+    @Setup
+    public void setUp() {
+        int groupCount = Math.max(GROUPS_PER_PERSON, personCount / PERSONS_PER_GROUP);
+        serializedAddressBook = new JsonSerializableAddressBook(
+                SyntheticDataUtil.getAddressBook(personCount, groupCount, GROUPS_PER_PERSON));
+    }
+
+    @Benchmark
+    public AddressBook toModelType() throws IllegalValueException {
+        return serializedAddressBook.toModelType();
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataUtil;
+
+/**
+ * Measures the work done on the JavaFX application thread for each frame while scrolling a {@code PersonListPanel}
+ * of {@code personCount} persons a page at a time, which is mostly updating the cells that come into view.
+ * Rendering itself is not measured. Needs a display to show the panel on.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonListPanelBenchmark {
+
+    private static final double WINDOW_WIDTH = 600;
+    private static final double WINDOW_HEIGHT = 800;
+
+    @Param({"1000", "20000", "100000"})
+    public int personCount;
+
+    private Stage stage;
+    private Parent root;
+    private ListView<?> personListView;
+    private int rowsPerPage;
+    private int topRow;
+
+    @Setup
+    public void setUp() throws Exception {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // The JavaFX runtime was already started by an earlier trial in this JVM
+        }
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < personCount; i++) {
+            persons.add(SyntheticDataUtil.getPerson(i, Set.of(SyntheticDataUtil.getGroupName(i % 50))));
+        }
+
+        runOnFxThread(() -> {
+            PersonListPanel panel = new PersonListPanel(FXCollections.observableArrayList(persons));
+            root = panel.getRoot();
+            stage = new Stage();
+            stage.setScene(new Scene(root, WINDOW_WIDTH, WINDOW_HEIGHT));
+            stage.show();
+            root.applyCss();
+            root.layout();
+            personListView = (ListView<?>) root.lookup("#personListView");
+            rowsPerPage = (int) (WINDOW_HEIGHT / personListView.getFixedCellSize());
+            return null;
+        });
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        runOnFxThread(() -> {
+            stage.close();
+            return null;
+        });
+    }
+
+    /**
+     * Scrolls down a page, wrapping around at the end of the list, and lays out the panel as the next frame would.
+     */
+    @Benchmark
+    public void scrollOnePage() throws Exception {
+        runOnFxThread(() -> {
+            topRow = (topRow + rowsPerPage) % personCount;
+            personListView.scrollTo(topRow);
+            root.applyCss();
+            root.layout();
+            return null;
+        });
+    }
+
+    private static <T> T runOnFxThread(Callable<T> task) throws InterruptedException, ExecutionException {
+        FutureTask<T> future = new FutureTask<>(task);
+        Platform.runLater(future);
+        return future.get();
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log {@code Handler} that passes log records on to other handlers from a background thread, so that logging
+ * does not wait for the console or log file to be written.
+ *
+ * Records wait for the background thread in a bounded queue. When the queue is full, a record is either dropped
+ * or waited on until there is space, according to the {@link OverflowPolicy}. The number of dropped records is
+ * logged once the queue has been emptied.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What is done with a record that is published while the queue is full.
+     */
+    public enum OverflowPolicy {
+        /** The record is dropped, so that logging never waits. */
+        DROP,
+        /** The publishing thread waits until there is space for the record, so that no records are lost. */
+        BLOCK
+    }
+
+    private static final String THREAD_NAME = "LogWriter";
+
+    private final List<Handler> handlers;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+
+    private volatile OverflowPolicy overflowPolicy;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates an {@code AsyncLogHandler} that passes records on to {@code handlers}, holding up to
+     * {@code capacity} records that have not been passed on yet.
+     */
+    public AsyncLogHandler(List<Handler> handlers, int capacity, OverflowPolicy overflowPolicy) {
+        requireNonNull(handlers);
+        requireNonNull(overflowPolicy);
+        this.handlers = List.copyOf(handlers);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+
+        writer = new Thread(this::writeRecords, THREAD_NAME);
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        requireNonNull(overflowPolicy);
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full, which have not been reported yet.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // The source of a record is found from the stack of the thread that logged it, so it must be found here
+        record.getSourceClassName();
+
+        if (overflowPolicy == OverflowPolicy.DROP) {
+            if (!queue.offer(record)) {
+                droppedCount.incrementAndGet();
+            }
+            return;
+        }
+
+        try {
+            queue.put(record);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * Blocks until every record published so far has been passed on, and then flushes the handlers.
+     */
+    @Override
+    public void flush() {
+        if (Thread.currentThread() == writer || !writer.isAlive()) {
+            handlers.forEach(Handler::flush);
+            return;
+        }
+
+        FlushRequest request = new FlushRequest();
+        try {
+            queue.put(request);
+            request.isDone.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Passes on all records published so far, then stops the background thread and closes the handlers.
+     * Records published afterwards are ignored.
+     */
+    @Override
+    public void close() {
+        flush();
+        isClosed = true;
+        writer.interrupt();
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        handlers.forEach(Handler::close);
+    }
+
+    /**
+     * Passes records on to the handlers until the background thread is interrupted.
+     */
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            try {
+                record = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            if (record instanceof FlushRequest) {
+                reportDropped();
+                handlers.forEach(Handler::flush);
+                ((FlushRequest) record).isDone.countDown();
+                continue;
+            }
+
+            passOn(record);
+            if (queue.isEmpty()) {
+                reportDropped();
+            }
+        }
+    }
+
+    /**
+     * Logs the number of records dropped since the last time this was done, if any.
+     * This is done once the queue has been emptied, so that it follows the records published before them.
+     */
+    private void reportDropped() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped == 0) {
+            return;
+        }
+        LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                dropped + " log records were dropped as logging fell behind.");
+        droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+        droppedRecord.setSourceMethodName("publish");
+        passOn(droppedRecord);
+    }
+
+    private void passOn(LogRecord record) {
+        for (Handler handler : handlers) {
+            handler.publish(record);
+        }
+    }
+
+    /**
+     * A request for the handlers to be flushed, queued behind the records to be passed on before it.
+     */
+    private static class FlushRequest extends LogRecord {
+        private final CountDownLatch isDone = new CountDownLatch(1);
+
+        FlushRequest() {
+            super(Level.OFF, null);
+        }
+    }
+}
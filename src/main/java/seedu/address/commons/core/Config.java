@@ -13,10 +13,13 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final long DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS = 500;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long slowCommandThresholdMillis = DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,29 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns the time in milliseconds after which a command is logged as slow.
+     */
+    public long getSlowCommandThresholdMillis() {
+        return slowCommandThresholdMillis;
+    }
+
+    public void setSlowCommandThresholdMillis(long slowCommandThresholdMillis) {
+        this.slowCommandThresholdMillis = slowCommandThresholdMillis;
+    }
+
+    /**
+     * Returns whether log messages are dropped, or logging waits, when messages are logged faster than they can be
+     * written.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +73,14 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && slowCommandThresholdMillis == otherConfig.slowCommandThresholdMillis
+                && logOverflowPolicy == otherConfig.logOverflowPolicy;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, slowCommandThresholdMillis, logOverflowPolicy);
     }
 
     @Override
@@ -60,6 +88,8 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("slowCommandThresholdMillis", slowCommandThresholdMillis)
+                .add("logOverflowPolicy", logOverflowPolicy)
                 .toString();
     }
 
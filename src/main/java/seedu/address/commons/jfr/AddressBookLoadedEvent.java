@@ -0,0 +1,48 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for reading an address book from its data file, including replaying its journal.
+ */
+@Name("seedu.address.AddressBookLoaded")
+@Label("Address Book Loaded")
+@Category({"StudyCircle", "Storage"})
+@Description("Reading of an address book from disk")
+public class AddressBookLoadedEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Read")
+    @Description("Size of the data file, not including its journal")
+    @DataAmount
+    private long bytes;
+
+    @Label("Person Count")
+    private int personCount;
+
+    @Label("Group Count")
+    private int groupCount;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setGroupCount(int groupCount) {
+        this.groupCount = groupCount;
+    }
+}
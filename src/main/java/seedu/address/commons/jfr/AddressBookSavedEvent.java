@@ -0,0 +1,47 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for writing an address book to its data file, or appending its changes to the journal.
+ */
+@Name("seedu.address.AddressBookSaved")
+@Label("Address Book Saved")
+@Category({"StudyCircle", "Storage"})
+@Description("Writing of an address book to disk")
+public class AddressBookSavedEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Written")
+    @DataAmount
+    private long bytes;
+
+    @Label("Person Count")
+    private int personCount;
+
+    @Label("Group Count")
+    private int groupCount;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setGroupCount(int groupCount) {
+        this.groupCount = groupCount;
+    }
+}
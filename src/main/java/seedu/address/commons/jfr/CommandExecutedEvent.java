@@ -0,0 +1,66 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * A Flight Recorder event for the execution of a command entered by the user.
+ * The duration of the event covers executing the command and saving the address book, but not parsing the command,
+ * which is done beforehand on another thread.
+ */
+@Name("seedu.address.CommandExecuted")
+@Label("Command Executed")
+@Category({"StudyCircle", "Logic"})
+@Description("Execution of a command entered by the user")
+public class CommandExecutedEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeDuration;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    @Label("Saved")
+    @Description("Whether the address book had changes to save after the command")
+    private boolean isSaved;
+
+    @Label("Succeeded")
+    private boolean isSuccessful;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setParseDuration(long parseDuration) {
+        this.parseDuration = parseDuration;
+    }
+
+    public void setExecuteDuration(long executeDuration) {
+        this.executeDuration = executeDuration;
+    }
+
+    public void setSaveDuration(long saveDuration) {
+        this.saveDuration = saveDuration;
+    }
+
+    public void setSaved(boolean isSaved) {
+        this.isSaved = isSaved;
+    }
+
+    public void setSuccessful(boolean isSuccessful) {
+        this.isSuccessful = isSuccessful;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.commons.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * A Flight Recorder event for updating the groups of a person that was edited to hold the edited person.
+ */
+@Name("seedu.address.MembershipPropagated")
+@Label("Membership Propagated")
+@Category({"StudyCircle", "Model"})
+@Description("Propagation of an edited person to the groups they belong to")
+public class MembershipPropagatedEvent extends Event {
+
+    @Label("Groups Touched")
+    private int groupCount;
+
+    public void setGroupCount(int groupCount) {
+        this.groupCount = groupCount;
+    }
+}
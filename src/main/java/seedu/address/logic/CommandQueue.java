@@ -0,0 +1,148 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.beans.property.ReadOnlyBooleanProperty;
+import javafx.beans.property.ReadOnlyBooleanWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Executes the commands entered by the user without blocking the JavaFX application thread.
+ *
+ * Commands are parsed one at a time, in the order they are submitted, by a single background thread, which is a
+ * virtual thread when the JVM supports them. Each parsed command is then handed to the application thread to be
+ * executed, since the model's lists are displayed by the UI and must only be modified on that thread. Saving the
+ * model after a command is left to the storage, which writes in the background.
+ * As the application thread runs the tasks handed to it in order, commands are executed, and their results are
+ * reported, in the order they were submitted.
+ */
+public class CommandQueue {
+
+    private static final String THREAD_NAME = "CommandParser";
+
+    private static final Logger logger = LogsCenter.getLogger(CommandQueue.class);
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ExecutorService parsingExecutor = Executors.newSingleThreadExecutor(createThreadFactory(THREAD_NAME));
+
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReadOnlyBooleanWrapper busy = new ReadOnlyBooleanWrapper(false);
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic} on the JavaFX application thread.
+     */
+    public CommandQueue(Logic logic) {
+        this(logic, Platform::runLater);
+    }
+
+    /**
+     * Creates a {@code CommandQueue} that executes commands with {@code logic} using {@code uiExecutor},
+     * which must run tasks one at a time in the order they are given.
+     */
+    CommandQueue(Logic logic, Executor uiExecutor) {
+        requireAllNonNull(logic, uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+    }
+
+    /**
+     * Returns a property that is true while there are submitted commands that have not yet completed.
+     * It is only updated on the application thread.
+     */
+    public ReadOnlyBooleanProperty busyProperty() {
+        return busy.getReadOnlyProperty();
+    }
+
+    /**
+     * Submits the command to be executed after all earlier submitted commands.
+     * Once it has been executed, either {@code onSuccess} is called with its result, or {@code onFailure} is called
+     * with the {@code ParseException} or {@code CommandException} it failed with, on the application thread.
+     */
+    public void submit(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        requireAllNonNull(commandText, onSuccess, onFailure);
+        if (pendingCount.getAndIncrement() == 0) {
+            busy.set(true);
+        }
+        parsingExecutor.execute(() -> parse(commandText, onSuccess, onFailure));
+    }
+
+    /**
+     * Parses the command on the background thread, and hands it to the application thread to be executed.
+     */
+    private void parse(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        try {
+            Command command = logic.parseCommand(commandText);
+            runOnUiThread(() -> execute(command, onSuccess, onFailure));
+        } catch (ParseException e) {
+            runOnUiThread(() -> onFailure.accept(e));
+        } catch (RuntimeException e) {
+            // Rethrown on the application thread, which is where it was thrown before commands were queued
+            logger.warning("Unexpected error while parsing command: " + commandText);
+            runOnUiThread(() -> {
+                throw e;
+            });
+        }
+    }
+
+    private void execute(Command command, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        CommandResult commandResult;
+        try {
+            commandResult = logic.execute(command);
+        } catch (CommandException e) {
+            onFailure.accept(e);
+            return;
+        }
+        onSuccess.accept(commandResult);
+    }
+
+    /**
+     * Runs {@code task} on the application thread, after which the command it completes is no longer pending.
+     */
+    private void runOnUiThread(Runnable task) {
+        uiExecutor.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                if (pendingCount.decrementAndGet() == 0) {
+                    busy.set(false);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns a factory of virtual threads named {@code threadName} if the JVM supports them, or of daemon platform
+     * threads otherwise.
+     */
+    static ThreadFactory createThreadFactory(String threadName) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class).invoke(builder, threadName);
+            Method factory = builderClass.getMethod("factory");
+            return (ThreadFactory) factory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            logger.fine(() -> "Virtual threads are not supported, running " + threadName + " on a platform thread");
+            return runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            };
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,6 +26,44 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Parses the command without executing it.
+     * Parsing does not read or modify the model, so it may be done on any thread.
+     * @param commandText The command as entered by the user.
+     * @return the parsed command, to be executed with {@link #execute(Command)}.
+     * @throws ParseException If an error occurs during parsing.
+     */
+    Command parseCommand(String commandText) throws ParseException;
+
+    /**
+     * Executes a command returned by {@link #parseCommand(String)} and returns the result.
+     * @throws CommandException If an error occurs during command execution.
+     */
+    CommandResult execute(Command command) throws CommandException;
+
+    /**
+     * Shows what {@code commandText} would find in the filtered lists, if it is a find command, once it has been
+     * found in the background. Previews that have not been shown yet are cancelled.
+     *
+     * @see SearchPreview#preview(String)
+     */
+    void previewCommand(String commandText);
+
+    /**
+     * Cancels the previews that have not been shown yet, so that they do not replace the result of a command, and
+     * puts the filtered lists back to the filters set by the last commands, so that a command acts on them.
+     */
+    void cancelPreview();
+
+    /**
+     * Saves the address book if it has changed since it was last saved, such as when the notes of a group's
+     * dashboard are edited outside of a command.
+     * @return a future that completes with true once the address book has been written, or with false right away if
+     *     it has not changed. It completes exceptionally with the {@code IOException} if the address book could not
+     *     be written.
+     */
+    CompletableFuture<Boolean> saveChanges();
+
     /**
      * Returns the AddressBook.
      *
@@ -3,16 +3,24 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.core.Config;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.jfr.CommandExecutedEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.logic.stats.CommandStats.Phase;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
@@ -28,40 +36,201 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long SUMMARY_INTERVAL_NANOS = TimeUnit.MINUTES.toNanos(10);
+    // Never issued as a version stamp, which are all positive
+    private static final long NO_VERSION = 0;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final SearchPreview searchPreview;
+    private final CommandStats commandStats = new CommandStats();
+    private final long slowCommandThresholdNanos;
+    private final AtomicLong nextSummaryTime = new AtomicLong(System.nanoTime() + SUMMARY_INTERVAL_NANOS);
+
+    // Version of the address book in the last save handed to storage, or when it was loaded, which is cleared if
+    // that save fails so that the next command saves again
+    private final AtomicLong enqueuedVersion;
+    private CompletableFuture<Void> enqueuedSave = CompletableFuture.completedFuture(null);
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Config.DEFAULT_SLOW_COMMAND_THRESHOLD_MILLIS);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, that logs a warning
+     * whenever a command takes longer than {@code slowCommandThresholdMillis} milliseconds.
+     */
+    public LogicManager(Model model, Storage storage, long slowCommandThresholdMillis) {
         this.model = model;
         this.storage = storage;
-        addressBookParser = new AddressBookParser();
+        this.slowCommandThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowCommandThresholdMillis);
+        addressBookParser = new AddressBookParser(commandStats);
+        searchPreview = new SearchPreview(model);
+        enqueuedVersion = new AtomicLong(model.getAddressBookVersion());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        return execute(parseCommand(commandText));
+    }
+
+    @Override
+    public Command parseCommand(String commandText) throws ParseException {
+        logger.info(() -> "----------------[USER COMMAND][" + commandText + "]");
+
+        long startTime = System.nanoTime();
+        Command command;
+        try {
+            command = addressBookParser.parseCommand(commandText);
+        } catch (ParseException pe) {
+            commandStats.record(CommandStats.INVALID_COMMAND_WORD, Phase.PARSE, System.nanoTime() - startTime);
+            throw pe;
+        }
+        long parseNanos = System.nanoTime() - startTime;
+
+        String commandWord = commandText.trim().split("\\s+", 2)[0];
+        commandStats.record(commandWord, Phase.PARSE, parseNanos);
+        return new ParsedCommand(command, commandText, commandWord, parseNanos);
+    }
+
+    @Override
+    public CommandResult execute(Command command) throws CommandException {
+        ParsedCommand parsedCommand = command instanceof ParsedCommand
+                ? (ParsedCommand) command
+                : new ParsedCommand(command, command.toString(), command.getClass().getSimpleName(), 0);
 
+        CommandExecutedEvent event = new CommandExecutedEvent();
+        event.begin();
+        event.setCommandWord(parsedCommand.commandWord);
+        event.setParseDuration(parsedCommand.parseNanos);
+
+        long startTime = System.nanoTime();
+        try {
+            CommandResult commandResult = executeAndSave(parsedCommand, event);
+            event.setSuccessful(true);
+            return commandResult;
+        } finally {
+            event.commit();
+            long totalNanos = parsedCommand.parseNanos + System.nanoTime() - startTime;
+            if (totalNanos > slowCommandThresholdNanos) {
+                logger.warning(String.format("Command took %dms, longer than the %dms threshold: %s",
+                        TimeUnit.NANOSECONDS.toMillis(totalNanos),
+                        TimeUnit.NANOSECONDS.toMillis(slowCommandThresholdNanos), parsedCommand.commandText));
+            }
+            logSummaryIfDue();
+        }
+    }
+
+    /**
+     * Executes the command and saves the address book if it has changed since it was last saved, recording how long
+     * each took in the stats and in {@code event}.
+     */
+    private CommandResult executeAndSave(ParsedCommand parsedCommand, CommandExecutedEvent event)
+            throws CommandException {
+        long startTime = System.nanoTime();
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        try {
+            commandResult = parsedCommand.command.execute(model);
+        } finally {
+            long executeNanos = System.nanoTime() - startTime;
+            commandStats.record(parsedCommand.commandWord, Phase.EXECUTE, executeNanos);
+            event.setExecuteDuration(executeNanos);
+        }
+
+        if (model.getAddressBookVersion() == enqueuedVersion.get()) {
+            logger.fine("Address book unchanged, skipping save");
+            return commandResult;
+        }
+
+        event.setSaved(true);
+        startTime = System.nanoTime();
+        CompletableFuture<Void> save;
+        try {
+            save = saveAddressBook();
+        } finally {
+            long saveNanos = System.nanoTime() - startTime;
+            commandStats.record(parsedCommand.commandWord, Phase.SAVE, saveNanos);
+            event.setSaveDuration(saveNanos);
+        }
 
+        // Storage that writes before returning has already failed, while a save written in the background reports
+        // its failure to the storage's failure handler instead
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            save.getNow(null);
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw new CommandException(getSaveFailureMessage(ioe), ioe);
+            }
+            throw e;
         }
 
         return commandResult;
     }
 
+    @Override
+    public void previewCommand(String commandText) {
+        searchPreview.preview(commandText);
+    }
+
+    @Override
+    public void cancelPreview() {
+        searchPreview.cancel();
+    }
+
+    @Override
+    public CompletableFuture<Boolean> saveChanges() {
+        if (model.getAddressBookVersion() != enqueuedVersion.get()) {
+            return saveAddressBook().thenApply(unused -> true);
+        }
+        // The changes may already be waiting to be written
+        return enqueuedSave.isDone()
+                ? CompletableFuture.completedFuture(false)
+                : enqueuedSave.thenApply(unused -> true);
+    }
+
+    /**
+     * Saves the address book, and returns a future that completes once it has been written.
+     * A version is only saved once, unless its save fails, in which case the next save retries it.
+     */
+    private CompletableFuture<Void> saveAddressBook() {
+        long version = model.getAddressBookVersion();
+        enqueuedVersion.set(version);
+        enqueuedSave = storage.saveAddressBookAsync(model.getAddressBook());
+        enqueuedSave.whenComplete((unused, e) -> {
+            if (e != null) {
+                enqueuedVersion.compareAndSet(version, NO_VERSION);
+            }
+        });
+        return enqueuedSave;
+    }
+
+    /**
+     * Logs the latencies recorded so far if it has been long enough since they were last logged.
+     */
+    private void logSummaryIfDue() {
+        long now = System.nanoTime();
+        long summaryTime = nextSummaryTime.get();
+        if (now - summaryTime >= 0 && nextSummaryTime.compareAndSet(summaryTime, now + SUMMARY_INTERVAL_NANOS)) {
+            logger.info(() -> "Latency of commands executed so far:\n" + commandStats.format());
+        }
+    }
+
+    /**
+     * Returns the message shown to the user when saving the address book failed with {@code ioe}.
+     */
+    public static String getSaveFailureMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -91,4 +260,31 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    /**
+     * A command returned by {@link #parseCommand(String)}, along with what is needed to record its latencies.
+     */
+    private static class ParsedCommand extends Command {
+        private final Command command;
+        private final String commandText;
+        private final String commandWord;
+        private final long parseNanos;
+
+        ParsedCommand(Command command, String commandText, String commandWord, long parseNanos) {
+            this.command = command;
+            this.commandText = commandText;
+            this.commandWord = commandWord;
+            this.parseNanos = parseNanos;
+        }
+
+        @Override
+        public CommandResult execute(Model model) throws CommandException {
+            return command.execute(model);
+        }
+
+        @Override
+        public String toString() {
+            return command.toString();
+        }
+    }
 }
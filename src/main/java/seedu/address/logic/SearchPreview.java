@@ -0,0 +1,122 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import javafx.application.Platform;
+import seedu.address.logic.commands.group.FindGroupCommand;
+import seedu.address.logic.commands.person.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.util.IncrementalFilteredList.Result;
+import seedu.address.model.util.IncrementalFilteredList.Snapshot;
+
+/**
+ * Shows what a find command being typed would find in the model's filtered lists, without blocking the JavaFX
+ * application thread.
+ *
+ * A snapshot of the persons or groups to be tested is taken on the application thread, and filtered by a single
+ * background thread. The matches are then handed back to the application thread, where they are shown in one change
+ * to the filtered list. Previewing another command cancels the previews still being prepared, so that only the
+ * latest one is shown, and a preview whose list changed while it was being prepared is prepared again. Once the
+ * text is no longer a find command, or a command is executed, the lists go back to the filters set by the commands.
+ */
+public class SearchPreview {
+
+    private static final String THREAD_NAME = "SearchPreview";
+
+    private final Model model;
+    private final Executor uiExecutor;
+    private final Executor searchExecutor;
+
+    // Incremented by every preview, so that previews being prepared can tell whether they are still the latest
+    private final AtomicLong latestPreview = new AtomicLong();
+
+    /**
+     * Creates a {@code SearchPreview} of the filtered lists of {@code model}, which must only be used on the
+     * JavaFX application thread.
+     */
+    public SearchPreview(Model model) {
+        this(model, Platform::runLater,
+                Executors.newSingleThreadExecutor(CommandQueue.createThreadFactory(THREAD_NAME)));
+    }
+
+    /**
+     * Creates a {@code SearchPreview} of the filtered lists of {@code model}, which filters snapshots using
+     * {@code searchExecutor} and shows them using {@code uiExecutor}, which must be the thread the model is used on.
+     */
+    SearchPreview(Model model, Executor uiExecutor, Executor searchExecutor) {
+        requireAllNonNull(model, uiExecutor, searchExecutor);
+        this.model = model;
+        this.uiExecutor = uiExecutor;
+        this.searchExecutor = searchExecutor;
+    }
+
+    /**
+     * Starts preparing a preview of {@code commandText}, cancelling the previews still being prepared.
+     * Only find commands with keywords are previewed. The list the command does not search, or both lists for any
+     * other text, go back to their filters from before they were previewed.
+     */
+    public void preview(String commandText) {
+        requireNonNull(commandText);
+        long preview = latestPreview.incrementAndGet();
+
+        String[] words = commandText.trim().split("\\s+", 2);
+        if (words.length == 2 && words[0].equals(FindCommand.COMMAND_WORD)) {
+            model.revertFilteredGroupListPreview();
+            prepare(commandText, preview,
+                    model.snapshotFilteredPersons(new NameContainsKeywordsPredicate(toKeywords(words[1]))),
+                    model::showFilteredPersons);
+        } else if (words.length == 2 && words[0].equals(FindGroupCommand.COMMAND_WORD)) {
+            model.revertFilteredPersonListPreview();
+            prepare(commandText, preview,
+                    model.snapshotFilteredGroups(new GroupNameContainsKeywordsPredicate(toKeywords(words[1]))),
+                    model::showFilteredGroups);
+        } else {
+            revertLists();
+        }
+    }
+
+    /**
+     * Cancels the previews still being prepared, and puts the lists back to their filters from before they were
+     * previewed, such as when a command is about to be executed.
+     */
+    public void cancel() {
+        latestPreview.incrementAndGet();
+        revertLists();
+    }
+
+    private void revertLists() {
+        model.revertFilteredPersonListPreview();
+        model.revertFilteredGroupListPreview();
+    }
+
+    private static List<String> toKeywords(String arguments) {
+        return Arrays.asList(arguments.split("\\s+"));
+    }
+
+    /**
+     * Filters {@code snapshot} in the background and shows the result with {@code show} on the application thread,
+     * unless {@code preview} has been cancelled in the meantime.
+     */
+    private <E> void prepare(String commandText, long preview, Snapshot<E> snapshot, Predicate<Result<E>> show) {
+        searchExecutor.execute(() -> snapshot.filter(() -> isCancelled(preview)).ifPresent(result ->
+                uiExecutor.execute(() -> {
+                    if (!isCancelled(preview) && !show.test(result)) {
+                        preview(commandText);
+                    }
+                })));
+    }
+
+    private boolean isCancelled(long preview) {
+        return latestPreview.get() != preview;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each phase of the commands executed so far took.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows the latency of each phase of the commands "
+            + "executed so far, for each command word.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Latency of commands executed so far:\n%1$s";
+
+    private final CommandStats commandStats;
+
+    /**
+     * Creates a StatsCommand that shows the latencies recorded in {@code commandStats}.
+     */
+    public StatsCommand(CommandStats commandStats) {
+        requireNonNull(commandStats);
+        this.commandStats = commandStats;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandStats.format()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StatsCommand)) {
+            return false;
+        }
+
+        StatsCommand otherStatsCommand = (StatsCommand) other;
+        return commandStats == otherStatsCommand.commandStats;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands.group;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupSetOperation;
+
+/**
+ * Lists the persons in every one, any, or only the first of the groups identified by their displayed indexes.
+ */
+public class GroupSetCommand extends Command {
+
+    public static final String INTERSECTION_COMMAND_WORD = "intersect-groups";
+    public static final String UNION_COMMAND_WORD = "union-groups";
+    public static final String DIFFERENCE_COMMAND_WORD = "diff-groups";
+
+    public static final String MESSAGE_USAGE = INTERSECTION_COMMAND_WORD + ", " + UNION_COMMAND_WORD + ", "
+            + DIFFERENCE_COMMAND_WORD + ": Lists the persons in all of the groups identified by the index numbers "
+            + "used in the displayed group list, in any of them, or in the first of them but none of the others.\n"
+            + "Parameters: "
+            + PREFIX_GROUP_INDEX + "GROUP_INDEX (must be a positive integer) "
+            + PREFIX_GROUP_INDEX + "GROUP_INDEX "
+            + "[" + PREFIX_GROUP_INDEX + "GROUP_INDEX]...\n"
+            + "Example: " + DIFFERENCE_COMMAND_WORD + " "
+            + PREFIX_GROUP_INDEX + "1 "
+            + PREFIX_GROUP_INDEX + "2 "
+            + PREFIX_GROUP_INDEX + "3";
+
+    private final GroupSetOperation operation;
+    private final List<Index> groupIndexes;
+
+    /**
+     * Creates a GroupSetCommand to list the persons found by combining the members of the groups at
+     * {@code groupIndexes}, in order, with {@code operation}.
+     */
+    public GroupSetCommand(GroupSetOperation operation, List<Index> groupIndexes) {
+        requireAllNonNull(operation, groupIndexes);
+        this.operation = operation;
+        this.groupIndexes = List.copyOf(groupIndexes);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<Group> lastShownGroupList = model.getFilteredGroupList();
+
+        List<Group> groups = new ArrayList<>();
+        for (Index groupIndex : groupIndexes) {
+            if (groupIndex.getZeroBased() >= lastShownGroupList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_GROUP_DISPLAYED_INDEX);
+            }
+            groups.add(lastShownGroupList.get(groupIndex.getZeroBased()));
+        }
+
+        model.findGroupMembers(operation, groups);
+        return new CommandResult(
+                String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof GroupSetCommand)) {
+            return false;
+        }
+
+        GroupSetCommand otherGroupSetCommand = (GroupSetCommand) other;
+        return operation == otherGroupSetCommand.operation
+                && groupIndexes.equals(otherGroupSetCommand.groupIndexes);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("operation", operation)
+                .add("groupIndexes", groupIndexes)
+                .toString();
+    }
+}
@@ -28,6 +28,7 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Edits the details of an existing person in the address book.
@@ -99,8 +100,13 @@ public class EditCommand extends Command {
         }
 
         //Apply updates
-        model.setPerson(personToEdit, editedPerson);
-        syncGroupWithEditedPerson(groupsIndexes, model, editedPerson);
+        try {
+            model.setPerson(personToEdit, editedPerson);
+        } catch (DuplicatePersonException e) {
+            // editedPerson keeps one identity field of personToEdit but clashes with another person on the rest
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        }
+        syncGroupWithEditedPerson(groupsIndexes, model, personToEdit, editedPerson);
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, Messages.format(editedPerson)));
@@ -123,9 +129,11 @@ public class EditCommand extends Command {
      * @param groupsIndexes the set of group indexes specified by the user input;
      *                      may be {@code null} or empty
      * @param model         the {@code Model} managing persons and groups
+     * @param personToEdit  the {@code Person} before the edit, whose groups {@code editedPerson} is currently in
      * @param editedPerson  the {@code Person} whose group associations should be synchronized
      */
-    private void syncGroupWithEditedPerson(Set<Index> groupsIndexes, Model model, Person editedPerson) {
+    private void syncGroupWithEditedPerson(Set<Index> groupsIndexes, Model model, Person personToEdit,
+                                           Person editedPerson) {
         // groupsIndexes == null means /g is not used in the user input
         if (groupsIndexes == null) {
             return;
@@ -133,7 +141,7 @@ public class EditCommand extends Command {
 
         // /g keyword is used — remove the person from all current groups first
         // If the user provided non-empty group indexes, add them to the person
-        model.removePersonFromAllGroups(editedPerson);
+        model.removePersonFromGroupsByName(personToEdit.getGroups(), editedPerson);
         if (!groupsIndexes.isEmpty()) {
             model.addPersonToGroups(groupsIndexes, editedPerson);
         }
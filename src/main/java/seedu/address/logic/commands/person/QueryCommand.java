@@ -0,0 +1,84 @@
+package seedu.address.logic.commands.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.Model;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+
+/**
+ * Finds and lists all persons in address book satisfying a combination of conditions on their fields.
+ * Text is matched ignoring case.
+ */
+public class QueryCommand extends Command {
+
+    public static final String COMMAND_WORD = "query";
+    public static final String EXPLAIN_KEYWORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons satisfying the conditions, "
+            + "combined with AND, OR and NOT and grouped with parentheses, and displays them as a list with index "
+            + "numbers. Starting with " + EXPLAIN_KEYWORD + " also shows how the persons were found.\n"
+            + "Conditions: "
+            + PREFIX_NAME + "NAME_KEYWORD "
+            + PREFIX_PHONE + "PHONE_PREFIX "
+            + PREFIX_EMAIL + "EMAIL "
+            + PREFIX_GROUP_INDEX + "GROUP_NAME "
+            + PREFIX_DESCRIPTION + "EVENT_TEXT\n"
+            + "Example: " + COMMAND_WORD + " " + EXPLAIN_KEYWORD + " "
+            + PREFIX_GROUP_INDEX + "CS2103T AND (" + PREFIX_NAME + "alex OR " + PREFIX_PHONE + "9123) AND NOT "
+            + PREFIX_DESCRIPTION + "demo";
+
+    private final PersonQuery query;
+    private final boolean isExplain;
+
+    /**
+     * Creates a {@code QueryCommand} to find the persons satisfying {@code query}, which also shows how they were
+     * found if {@code isExplain} is true.
+     */
+    public QueryCommand(PersonQuery query, boolean isExplain) {
+        requireNonNull(query);
+        this.query = query;
+        this.isExplain = isExplain;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        QueryPlan plan = model.findPersons(query);
+        String message = String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size());
+        return new CommandResult(isExplain ? message + "\n" + plan.explain() : message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof QueryCommand)) {
+            return false;
+        }
+
+        QueryCommand otherQueryCommand = (QueryCommand) other;
+        return query.equals(otherQueryCommand.query)
+                && isExplain == otherQueryCommand.isExplain;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("query", query)
+                .add("isExplain", isExplain)
+                .toString();
+    }
+}
@@ -12,6 +12,7 @@ import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.event.AddEventCommand;
 import seedu.address.logic.commands.event.DeleteEventCommand;
 import seedu.address.logic.commands.event.EditEventCommand;
@@ -23,6 +24,7 @@ import seedu.address.logic.commands.group.DeleteRepoCommand;
 import seedu.address.logic.commands.group.EditGroupCommand;
 import seedu.address.logic.commands.group.FindGroupCommand;
 import seedu.address.logic.commands.group.GetRepoCommand;
+import seedu.address.logic.commands.group.GroupSetCommand;
 import seedu.address.logic.commands.group.ListGroupCommand;
 import seedu.address.logic.commands.group.SetRepoCommand;
 import seedu.address.logic.commands.group.ShowDashboardCommand;
@@ -31,6 +33,7 @@ import seedu.address.logic.commands.person.DeleteCommand;
 import seedu.address.logic.commands.person.EditCommand;
 import seedu.address.logic.commands.person.FindCommand;
 import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.logic.commands.person.QueryCommand;
 import seedu.address.logic.parser.event.AddEventCommandParser;
 import seedu.address.logic.parser.event.DeleteEventCommandParser;
 import seedu.address.logic.parser.event.EditEventCommandParser;
@@ -43,12 +46,16 @@ import seedu.address.logic.parser.group.DeleteRepoCommandParser;
 import seedu.address.logic.parser.group.EditGroupCommandParser;
 import seedu.address.logic.parser.group.FindGroupCommandParser;
 import seedu.address.logic.parser.group.GetRepoCommandParser;
+import seedu.address.logic.parser.group.GroupSetCommandParser;
 import seedu.address.logic.parser.group.SetRepoCommandParser;
 import seedu.address.logic.parser.group.ShowDashboardCommandParser;
 import seedu.address.logic.parser.person.AddCommandParser;
 import seedu.address.logic.parser.person.DeleteCommandParser;
 import seedu.address.logic.parser.person.EditCommandParser;
 import seedu.address.logic.parser.person.FindCommandParser;
+import seedu.address.logic.parser.person.QueryCommandParser;
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.model.group.GroupSetOperation;
 
 /**
  * Parses user input.
@@ -61,6 +68,23 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final CommandStats commandStats;
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} command shows the latencies in a new
+     * {@code CommandStats}.
+     */
+    public AddressBookParser() {
+        this(new CommandStats());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose {@code stats} command shows the latencies in {@code commandStats}.
+     */
+    public AddressBookParser(CommandStats commandStats) {
+        this.commandStats = commandStats;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -80,7 +104,7 @@ public class AddressBookParser {
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
         switch (commandWord) {
 
@@ -102,6 +126,9 @@ public class AddressBookParser {
         case EditCommand.COMMAND_WORD:
             return new EditCommandParser().parse(arguments);
 
+        case QueryCommand.COMMAND_WORD:
+            return new QueryCommandParser().parse(arguments);
+
         case AddGroupCommand.COMMAND_WORD:
             return new AddGroupCommandParser().parse(arguments);
 
@@ -123,12 +150,24 @@ public class AddressBookParser {
         case DeleteMemberCommand.COMMAND_WORD:
             return new DeleteMemberCommandParser().parse(arguments);
 
+        case GroupSetCommand.INTERSECTION_COMMAND_WORD:
+            return new GroupSetCommandParser(GroupSetOperation.INTERSECTION).parse(arguments);
+
+        case GroupSetCommand.UNION_COMMAND_WORD:
+            return new GroupSetCommandParser(GroupSetOperation.UNION).parse(arguments);
+
+        case GroupSetCommand.DIFFERENCE_COMMAND_WORD:
+            return new GroupSetCommandParser(GroupSetOperation.DIFFERENCE).parse(arguments);
+
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandStats);
+
         case AddEventCommand.COMMAND_WORD:
             return new AddEventCommandParser().parse(arguments);
 
@@ -151,7 +190,7 @@ public class AddressBookParser {
             return new ShowDashboardCommandParser().parse(arguments);
 
         default:
-            logger.finer("This user input caused a ParseException: " + userInput);
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
@@ -14,6 +14,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_EMAIL = new Prefix("e/");
 
     // Groups
+    // The query command names groups with this prefix rather than indexing them.
     public static final Prefix PREFIX_GROUP_INDEX = new Prefix("g/");
 
     // Events
@@ -0,0 +1,56 @@
+package seedu.address.logic.parser.group;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.group.GroupSetCommand;
+import seedu.address.logic.parser.ArgumentMultimap;
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.group.GroupSetOperation;
+
+/**
+ * Parses input arguments and creates a new GroupSetCommand object
+ */
+public class GroupSetCommandParser implements Parser<GroupSetCommand> {
+
+    private final GroupSetOperation operation;
+
+    /**
+     * Creates a parser of commands combining groups with {@code operation}.
+     */
+    public GroupSetCommandParser(GroupSetOperation operation) {
+        requireNonNull(operation);
+        this.operation = operation;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the GroupSetCommand
+     * and returns a GroupSetCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public GroupSetCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP_INDEX);
+
+        List<String> oneBasedIndexes = argMultimap.getAllValues(PREFIX_GROUP_INDEX);
+        if (oneBasedIndexes.size() < 2 || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupSetCommand.MESSAGE_USAGE));
+        }
+
+        // The order of the indexes matters for a difference, so they are not collected into a set
+        List<Index> groupIndexes = new ArrayList<>();
+        for (String oneBasedIndex : oneBasedIndexes) {
+            groupIndexes.add(ParserUtil.parseGroupIndex(oneBasedIndex));
+        }
+        return new GroupSetCommand(operation, groupIndexes);
+    }
+
+}
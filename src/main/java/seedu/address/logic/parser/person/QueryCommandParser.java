@@ -0,0 +1,297 @@
+package seedu.address.logic.parser.person;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.person.QueryCommand;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.query.PersonQuery;
+
+/**
+ * Parses input arguments and creates a new QueryCommand object.
+ *
+ * The arguments are conditions, each a prefix followed by a value, combined with the operators AND, OR and NOT and
+ * grouped with parentheses. NOT binds tighter than AND, which binds tighter than OR, and conditions without an
+ * operator between them are combined with AND.
+ * A value runs until the next operator or condition, so it may contain spaces, and parentheses in it are part of it
+ * as long as they are balanced.
+ */
+public class QueryCommandParser implements Parser<QueryCommand> {
+
+    public static final String MESSAGE_UNBALANCED_PARENTHESES = "The parentheses in the query are not balanced.";
+    public static final String MESSAGE_EMPTY_CONDITION = "Every condition of the query needs a value after its prefix.";
+    public static final String MESSAGE_INVALID_PHONE_PREFIX =
+            "Phone prefixes should only contain at most 15 digits, optionally after a '+'.";
+
+    private static final String AND = "AND";
+    private static final String OR = "OR";
+    private static final String NOT = "NOT";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private static final List<Prefix> CONDITION_PREFIXES =
+            List.of(PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_GROUP_INDEX, PREFIX_DESCRIPTION);
+    private static final Pattern PHONE_PREFIX_PATTERN = Pattern.compile("\\+?[0-9]{1,15}");
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the QueryCommand
+     * and returns a QueryCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public QueryCommand parse(String args) throws ParseException {
+        List<String> words = new ArrayList<>(Arrays.asList(args.trim().split("\\s+")));
+        boolean isExplain = words.get(0).equals(QueryCommand.EXPLAIN_KEYWORD);
+        if (isExplain) {
+            words.remove(0);
+        }
+        if (words.isEmpty() || words.get(0).isEmpty()) {
+            throw invalidFormat();
+        }
+
+        TokenReader reader = new TokenReader(tokenize(words));
+        PersonQuery query = reader.readOr();
+        if (reader.hasNext()) {
+            // Only an unmatched closing parenthesis can stop the query from being read to the end
+            throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+        }
+        return new QueryCommand(query, isExplain);
+    }
+
+    /**
+     * Splits {@code words} into operators, parentheses and conditions.
+     */
+    private static List<Token> tokenize(List<String> words) throws ParseException {
+        Tokenizer tokenizer = new Tokenizer();
+        for (String word : words) {
+            tokenizer.add(word);
+        }
+        tokenizer.endCondition();
+        return tokenizer.tokens;
+    }
+
+    /**
+     * Creates the condition given by {@code prefix} and {@code value}.
+     */
+    private static PersonQuery parseCondition(Prefix prefix, String value) throws ParseException {
+        if (value.isEmpty()) {
+            throw new ParseException(MESSAGE_EMPTY_CONDITION);
+        }
+
+        if (prefix.equals(PREFIX_NAME)) {
+            return new PersonQuery.NameContains(value);
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            if (!PHONE_PREFIX_PATTERN.matcher(value).matches()) {
+                throw new ParseException(MESSAGE_INVALID_PHONE_PREFIX);
+            }
+            return new PersonQuery.PhoneStartsWith(value);
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return new PersonQuery.EmailIs(ParserUtil.parseEmail(value));
+        } else if (prefix.equals(PREFIX_GROUP_INDEX)) {
+            return new PersonQuery.InGroup(ParserUtil.parseGroupName(value));
+        } else {
+            assert prefix.equals(PREFIX_DESCRIPTION);
+            return new PersonQuery.EventContains(value);
+        }
+    }
+
+    private static ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE));
+    }
+
+    /**
+     * An operator or parenthesis, or a condition.
+     */
+    private record Token(String operator, PersonQuery condition) {
+        boolean isOperator(String expected) {
+            return expected.equals(operator);
+        }
+    }
+
+    /**
+     * Splits words into tokens, one word at a time.
+     */
+    private static class Tokenizer {
+        private final List<Token> tokens = new ArrayList<>();
+
+        // The prefix and value so far of the condition being read, if any
+        private Prefix prefix;
+        private final StringBuilder value = new StringBuilder();
+        private int valueDepth;
+
+        /**
+         * Adds the tokens in {@code word}, which either continues the value of the condition being read, or starts
+         * with opening parentheses followed by an operator or a new condition.
+         */
+        void add(String word) throws ParseException {
+            if (word.equals(AND) || word.equals(OR) || word.equals(NOT)) {
+                endCondition();
+                tokens.add(new Token(word, null));
+                return;
+            }
+            if (prefix != null && findPrefix(word.replaceFirst("^\\(+", "")) == null) {
+                value.append(' ');
+                addToValue(word);
+                return;
+            }
+            endCondition();
+
+            int start = 0;
+            while (start < word.length() && word.charAt(start) == OPEN.charAt(0)) {
+                tokens.add(new Token(OPEN, null));
+                start++;
+            }
+            String rest = word.substring(start);
+            if (rest.isEmpty()) {
+                return;
+            }
+            if (rest.equals(NOT)) {
+                tokens.add(new Token(NOT, null));
+                return;
+            }
+            if (rest.startsWith(CLOSE)) {
+                addClosingParentheses(rest);
+                return;
+            }
+
+            prefix = findPrefix(rest);
+            if (prefix == null) {
+                throw invalidFormat();
+            }
+            value.setLength(0);
+            valueDepth = 0;
+            addToValue(rest.substring(prefix.getPrefix().length()));
+        }
+
+        /**
+         * Returns the prefix of the condition {@code word} starts, or null if it does not start one.
+         */
+        private static Prefix findPrefix(String word) {
+            return CONDITION_PREFIXES.stream().filter(conditionPrefix -> word.startsWith(conditionPrefix.getPrefix()))
+                    .findFirst().orElse(null);
+        }
+
+        /**
+         * Adds {@code text} to the value of the condition being read, up to the first closing parenthesis without
+         * a matching opening one in the value, which ends the condition.
+         */
+        private void addToValue(String text) throws ParseException {
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (c == OPEN.charAt(0)) {
+                    valueDepth++;
+                } else if (c == CLOSE.charAt(0) && valueDepth-- == 0) {
+                    value.append(text, 0, i);
+                    endCondition();
+                    addClosingParentheses(text.substring(i));
+                    return;
+                }
+            }
+            value.append(text);
+        }
+
+        /**
+         * Adds the closing parentheses making up {@code text}.
+         */
+        private void addClosingParentheses(String text) throws ParseException {
+            for (int i = 0; i < text.length(); i++) {
+                if (text.charAt(i) != CLOSE.charAt(0)) {
+                    throw invalidFormat();
+                }
+                tokens.add(new Token(CLOSE, null));
+            }
+        }
+
+        /**
+         * Adds the condition being read, if any, as a token.
+         */
+        void endCondition() throws ParseException {
+            if (prefix == null) {
+                return;
+            }
+            tokens.add(new Token(null, parseCondition(prefix, value.toString().trim())));
+            prefix = null;
+        }
+    }
+
+    /**
+     * Reads a query from tokens, one operator at a time, by recursive descent.
+     */
+    private static class TokenReader {
+        private final List<Token> tokens;
+        private int position;
+
+        TokenReader(List<Token> tokens) {
+            this.tokens = tokens;
+        }
+
+        boolean hasNext() {
+            return position < tokens.size();
+        }
+
+        Token next() throws ParseException {
+            if (!hasNext()) {
+                throw invalidFormat();
+            }
+            return tokens.get(position++);
+        }
+
+        /**
+         * Reads conditions combined with OR.
+         */
+        PersonQuery readOr() throws ParseException {
+            List<PersonQuery> conditions = new ArrayList<>(List.of(readAnd()));
+            while (hasNext() && tokens.get(position).isOperator(OR)) {
+                position++;
+                conditions.add(readAnd());
+            }
+            return conditions.size() == 1 ? conditions.get(0) : new PersonQuery.Or(conditions);
+        }
+
+        /**
+         * Reads conditions combined with AND, or with no operator.
+         */
+        PersonQuery readAnd() throws ParseException {
+            List<PersonQuery> conditions = new ArrayList<>(List.of(readUnary()));
+            while (hasNext() && !tokens.get(position).isOperator(OR) && !tokens.get(position).isOperator(CLOSE)) {
+                if (tokens.get(position).isOperator(AND)) {
+                    position++;
+                }
+                conditions.add(readUnary());
+            }
+            return conditions.size() == 1 ? conditions.get(0) : new PersonQuery.And(conditions);
+        }
+
+        /**
+         * Reads a condition, which may be negated or parenthesised.
+         */
+        PersonQuery readUnary() throws ParseException {
+            Token token = next();
+            if (token.isOperator(NOT)) {
+                return new PersonQuery.Not(readUnary());
+            }
+            if (token.isOperator(OPEN)) {
+                PersonQuery query = readOr();
+                if (!hasNext() || !next().isOperator(CLOSE)) {
+                    throw new ParseException(MESSAGE_UNBALANCED_PARENTHESES);
+                }
+                return query;
+            }
+            if (token.condition() == null) {
+                throw token.isOperator(CLOSE) ? new ParseException(MESSAGE_UNBALANCED_PARENTHESES) : invalidFormat();
+            }
+            return token.condition();
+        }
+    }
+}
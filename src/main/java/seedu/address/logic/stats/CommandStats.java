@@ -0,0 +1,91 @@
+package seedu.address.logic.stats;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The latencies of the phases of the commands executed so far, recorded separately for each command word.
+ * Latencies can be recorded from several threads without locking.
+ */
+public class CommandStats {
+
+    /**
+     * The command word under which the parsing of commands that could not be parsed is recorded.
+     */
+    public static final String INVALID_COMMAND_WORD = "(invalid)";
+
+    /**
+     * The phases that the execution of a command is timed in.
+     */
+    public enum Phase {
+        PARSE, EXECUTE, SAVE;
+
+        @Override
+        public String toString() {
+            return name().toLowerCase();
+        }
+    }
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histograms = new ConcurrentHashMap<>();
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, Phase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        histograms.computeIfAbsent(commandWord, unused -> createHistograms())[phase.ordinal()].record(nanos);
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] phaseHistograms = new LatencyHistogram[Phase.values().length];
+        for (int i = 0; i < phaseHistograms.length; i++) {
+            phaseHistograms[i] = new LatencyHistogram();
+        }
+        return phaseHistograms;
+    }
+
+    /**
+     * Returns true if no latencies have been recorded.
+     */
+    public boolean isEmpty() {
+        return histograms.isEmpty();
+    }
+
+    /**
+     * Returns the summary of the latencies recorded for {@code phase} of commands with {@code commandWord}.
+     */
+    public LatencyHistogram.Summary getSummary(String commandWord, Phase phase) {
+        requireAllNonNull(commandWord, phase);
+        LatencyHistogram[] phaseHistograms = histograms.get(commandWord);
+        return phaseHistograms == null
+                ? new LatencyHistogram().getSummary()
+                : phaseHistograms[phase.ordinal()].getSummary();
+    }
+
+    /**
+     * Returns a table of the latencies of every recorded phase of every command word, with command words in
+     * alphabetical order and latencies in milliseconds.
+     */
+    public String format() {
+        StringBuilder table = new StringBuilder(String.format("%-16s %-8s %6s %9s %9s %9s %9s",
+                "command", "phase", "count", "p50", "p95", "p99", "max"));
+        histograms.keySet().stream().sorted().forEach(commandWord -> {
+            for (Phase phase : Phase.values()) {
+                LatencyHistogram.Summary summary = getSummary(commandWord, phase);
+                if (summary.count() == 0) {
+                    continue;
+                }
+                table.append(String.format("%n%-16s %-8s %6d %9s %9s %9s %9s", commandWord, phase, summary.count(),
+                        toMillis(summary.p50()), toMillis(summary.p95()), toMillis(summary.p99()),
+                        toMillis(summary.max())));
+            }
+        });
+        return table.toString();
+    }
+
+    private static String toMillis(long nanos) {
+        return String.format("%.2fms", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies in nanoseconds that can be recorded to from several threads without locking.
+ *
+ * Latencies are counted in buckets whose width grows with the latency, each power of two being split into
+ * {@value #SUB_BUCKET_COUNT} buckets, so percentiles are estimated to within 12.5% of the actual latency.
+ * The maximum is recorded exactly.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a latency of {@code nanos} nanoseconds. Negative latencies are recorded as 0.
+     */
+    public void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(latency));
+        max.accumulateAndGet(latency, Math::max);
+    }
+
+    /**
+     * Returns the count, percentiles and maximum of the latencies recorded so far.
+     * Latencies recorded while the summary is taken may or may not be included.
+     */
+    public Summary getSummary() {
+        long[] snapshot = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            snapshot[i] = counts.get(i);
+            count += snapshot[i];
+        }
+        long maxNanos = max.get();
+        return new Summary(count, percentile(snapshot, count, 0.50, maxNanos),
+                percentile(snapshot, count, 0.95, maxNanos), percentile(snapshot, count, 0.99, maxNanos), maxNanos);
+    }
+
+    /**
+     * Returns the upper bound of the bucket holding the latency at {@code quantile} of the {@code count} latencies
+     * counted in {@code snapshot}, or {@code max} if it is lower.
+     */
+    private static long percentile(long[] snapshot, long count, double quantile, long max) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Returns the index of the bucket counting {@code latency}, which must not be negative.
+     */
+    static int bucketOf(long latency) {
+        if (latency < SUB_BUCKET_COUNT) {
+            return (int) latency;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(latency);
+        int subBucket = (int) (latency >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the highest latency counted by the bucket at {@code index}.
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowerBound = (long) (SUB_BUCKET_COUNT + index % SUB_BUCKET_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+
+    /**
+     * The number of recorded latencies, along with their median, 95th and 99th percentiles and maximum in
+     * nanoseconds.
+     */
+    public record Summary(long count, long p50, long p95, long p99, long max) {}
+}
@@ -1,18 +1,36 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_UNSYNC_CASE;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Set;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.jfr.MembershipPropagatedEvent;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.AddressBookChange.GroupAdded;
+import seedu.address.model.AddressBookChange.GroupModified;
+import seedu.address.model.AddressBookChange.GroupRemoved;
+import seedu.address.model.AddressBookChange.GroupReplaced;
+import seedu.address.model.AddressBookChange.NotesEdited;
+import seedu.address.model.AddressBookChange.PersonAdded;
+import seedu.address.model.AddressBookChange.PersonEdited;
+import seedu.address.model.AddressBookChange.PersonRemoved;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.GroupSetOperation;
 import seedu.address.model.group.UniqueGroupList;
+import seedu.address.model.person.Email;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrdinals;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.CompressedBitmap;
+import seedu.address.model.util.ModelVersion;
 
 /**
  * Wraps all data at the address-book level
@@ -20,9 +38,15 @@ import seedu.address.model.person.UniquePersonList;
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    // Numbers the persons, so that the members of every group are also kept as a bitmap of their ordinals
+    private final PersonOrdinals personOrdinals = new PersonOrdinals();
+
     private final UniquePersonList persons;
     private final UniqueGroupList groups;
 
+    // Changes made since the contents were last replaced, so that storage can save only what has changed
+    private final AddressBookChangeLog changeLog = new AddressBookChangeLog(ModelVersion.next());
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -31,19 +55,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      *   among constructors.
      */
     {
-        persons = new UniquePersonList();
-        groups = new UniqueGroupList();
+        persons = new UniquePersonList(true);
+        groups = new UniqueGroupList(personOrdinals);
+        groups.setGroupModificationListener(group -> changeLog.record(group.isNotesLastModified()
+                ? new NotesEdited(group.getName())
+                : new GroupModified(group.getName())));
     }
 
     public AddressBook() {
     }
 
     /**
-     * Creates an AddressBook using the Persons in the {@code toBeCopied}
+     * Creates an AddressBook using the Persons in the {@code toBeCopied}.
+     * The copy starts at the version of {@code toBeCopied}, as it holds the same data.
      */
     public AddressBook(ReadOnlyAddressBook toBeCopied) {
         this();
         resetData(toBeCopied);
+        changeLog.reset(toBeCopied.getVersion());
     }
 
     //// list overwrite operations
@@ -54,6 +83,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        renumberPersons();
+        changeLog.reset(ModelVersion.next());
     }
 
     /**
@@ -62,6 +93,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(List<Group> groups) {
         this.groups.setGroups(groups);
+        changeLog.reset(ModelVersion.next());
     }
 
     /**
@@ -70,8 +102,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
-        setPersons(newData.getPersonList());
-        setGroups(newData.getGroupList());
+        persons.setPersons(newData.getPersonList());
+        // Copied, so that the groups, and the bitmaps of their members, are not shared with the other address book
+        groups.setGroups(newData.getGroupList().stream().map(Group::copy).toList());
+        // Renumbered once the groups are replaced, so that only the members of the new groups are numbered
+        renumberPersons();
+        changeLog.reset(ModelVersion.next());
+    }
+
+    /**
+     * Numbers the persons afresh, and rebuilds the bitmaps of the members of every group with the new ordinals.
+     */
+    private void renumberPersons() {
+        personOrdinals.reset(persons.asUnmodifiableObservableList());
+        groups.rebuildMemberOrdinals();
     }
 
     //// person-level operations
@@ -90,6 +134,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person person) {
         persons.add(person);
+        personOrdinals.assign(person);
+        changeLog.record(new PersonAdded(person));
     }
 
     /**
@@ -101,17 +147,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
-
-        // Propagate changes to persons throughout the model
-        // TODO: ugly solution, lacking sanity checks
-        Set<GroupName> targetGroups = target.getGroups();
-        for (Group group : groups) {
-            if (targetGroups.contains(group.getName())) {
-                assert group.containsPerson(target) : String.format(MESSAGE_UNSYNC_CASE, group.getName(),
-                        target.getName());
-                group.updatePerson(target, editedPerson);
+        changeLog.record(new PersonEdited(target, editedPerson));
+        // Transferred before the groups are updated, so that their bitmaps keep the person's ordinal
+        personOrdinals.transfer(target, editedPerson);
+
+        // Propagate changes to the groups the person belongs to
+        MembershipPropagatedEvent event = new MembershipPropagatedEvent();
+        event.begin();
+        int groupCount = 0;
+        for (GroupName groupName : target.getGroups()) {
+            Optional<Group> group = groups.getGroup(groupName);
+            if (group.isEmpty()) {
+                continue;
             }
+            assert group.get().containsPerson(target) : String.format(MESSAGE_UNSYNC_CASE, groupName,
+                    target.getName());
+            group.get().updatePerson(target, editedPerson);
+            groupCount++;
         }
+        event.setGroupCount(groupCount);
+        event.commit();
     }
 
     /**
@@ -123,14 +178,19 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedGroup);
 
         groups.setGroup(target, editedGroup);
+        changeLog.record(new GroupReplaced(target.getName(), editedGroup.getName()));
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Removes {@code key} from this {@code AddressBook} and from all groups it belongs to.
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        changeLog.record(new PersonRemoved(key));
+        // Removed from the groups before its ordinal is released, so that no bitmap keeps the ordinal
+        groups.removePersonFromAllGroups(key);
+        personOrdinals.release(key);
     }
 
     /// group-level operations
@@ -141,6 +201,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addGroup(Group group) {
         groups.add(group);
+        changeLog.record(new GroupAdded(group.getName()));
     }
 
     /**
@@ -149,10 +210,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeGroup(Group key) {
         groups.remove(key);
+        changeLog.record(new GroupRemoved(key.getName()));
     }
 
     /**
-     * Removes {@code toRemove} from all groups.
+     * Removes {@code toRemove} from all groups it belongs to.
      * {@code toRemove} must exist in the address book.
      */
     public void removePersonFromAllGroups(Person toRemove) {
@@ -160,6 +222,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         groups.removePersonFromAllGroups(toRemove);
     }
 
+    /**
+     * Removes {@code toRemove} from the groups named in {@code groupNames}.
+     */
+    public void removePersonFromGroups(Set<GroupName> groupNames, Person toRemove) {
+        requireAllNonNull(groupNames, toRemove);
+        groups.removePersonFromGroups(groupNames, toRemove);
+    }
+
     /**
      * Returns true if a group with the same identity as {@code group} exists in the address book.
      */
@@ -168,6 +238,96 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.contains(group);
     }
 
+    /**
+     * Returns the persons whose names could contain any of {@code keywords}, ignoring case, or an empty
+     * {@code Optional} if every person could match.
+     *
+     * @see UniquePersonList#findNameCandidates(List)
+     */
+    public Optional<Set<Person>> findPersonNameCandidates(List<String> keywords) {
+        return persons.findNameCandidates(keywords);
+    }
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findPersonNameCandidates(List)} returns for
+     * {@code keywords}, or an empty {@code OptionalInt} if it returns none.
+     *
+     * @see UniquePersonList#estimateNameCandidates(List)
+     */
+    public OptionalInt estimatePersonNameCandidates(List<String> keywords) {
+        return persons.estimateNameCandidates(keywords);
+    }
+
+    /**
+     * Returns the persons whose phone numbers start with {@code prefix}.
+     *
+     * @see UniquePersonList#findPhonePrefixMatches(String)
+     */
+    public Set<Person> findPersonsByPhonePrefix(String prefix) {
+        return persons.findPhonePrefixMatches(prefix).orElseThrow();
+    }
+
+    /**
+     * Returns the number of persons whose phone numbers start with {@code prefix}.
+     *
+     * @see UniquePersonList#countPhonePrefixMatches(String)
+     */
+    public int countPersonsByPhonePrefix(String prefix) {
+        return persons.countPhonePrefixMatches(prefix).orElseThrow();
+    }
+
+    /**
+     * Returns the person with {@code email}, if any.
+     */
+    public Optional<Person> findPersonByEmail(Email email) {
+        return persons.findByEmail(email);
+    }
+
+    @Override
+    public Optional<Group> getGroup(GroupName name) {
+        return groups.getGroup(name);
+    }
+
+    /**
+     * Returns the groups whose names could contain any of {@code keywords}, ignoring case, or an empty
+     * {@code Optional} if every group could match.
+     *
+     * @see UniqueGroupList#findNameCandidates(List)
+     */
+    public Optional<Set<Group>> findGroupNameCandidates(List<String> keywords) {
+        return groups.findNameCandidates(keywords);
+    }
+
+    /**
+     * Returns the persons found by combining the members of {@code groups}, of which there must be at least one,
+     * with {@code operation}. The groups are combined as bitmaps of the ordinals of their members, so that no
+     * persons are compared, and each ordinal in the result is mapped straight to its person through their email.
+     */
+    public Set<Person> findGroupMembers(GroupSetOperation operation, List<Group> groups) {
+        requireAllNonNull(operation, groups);
+        CompressedBitmap members = operation.apply(groups.stream()
+                .map(group -> group.getMemberOrdinals(personOrdinals)).toList());
+
+        Set<Person> found = new HashSet<>();
+        members.forEach(ordinal -> personOrdinals.getEmail(ordinal).flatMap(persons::findByEmail)
+                .ifPresent(found::add));
+        return found;
+    }
+
+    /**
+     * Returns the version stamp of the last modification of the address book.
+     * The stamp changes whenever a person, group, event or dashboard in the address book is modified.
+     */
+    @Override
+    public long getVersion() {
+        return changeLog.getLatestVersion();
+    }
+
+    @Override
+    public Optional<List<AddressBookChange>> getChangesBetween(long fromVersion, long toVersion) {
+        return changeLog.getChangesBetween(fromVersion, toVersion);
+    }
+
     /// / util methods
 
     @Override
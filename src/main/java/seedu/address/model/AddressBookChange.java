@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+
+/**
+ * A single change made to an address book, as recorded for storage to save only what has changed.
+ * Persons are immutable, so changes refer to them directly. Groups are mutable, so changes only name them, and the
+ * current state of a changed group is looked up when it is saved.
+ *
+ * @see ReadOnlyAddressBook#getChangesBetween(long, long)
+ */
+public interface AddressBookChange {
+
+    /**
+     * {@code person} was added to the end of the person list.
+     */
+    record PersonAdded(Person person) implements AddressBookChange {}
+
+    /**
+     * {@code target} was replaced in the person list by {@code edited}.
+     */
+    record PersonEdited(Person target, Person edited) implements AddressBookChange {}
+
+    /**
+     * {@code person} was removed from the person list.
+     */
+    record PersonRemoved(Person person) implements AddressBookChange {}
+
+    /**
+     * The group named {@code name} was added to the end of the group list.
+     */
+    record GroupAdded(GroupName name) implements AddressBookChange {}
+
+    /**
+     * The group named {@code target} was replaced in the group list by the group named {@code edited}.
+     */
+    record GroupReplaced(GroupName target, GroupName edited) implements AddressBookChange {}
+
+    /**
+     * The group named {@code name} was removed from the group list.
+     */
+    record GroupRemoved(GroupName name) implements AddressBookChange {}
+
+    /**
+     * The members or events of the group named {@code name} were modified.
+     */
+    record GroupModified(GroupName name) implements AddressBookChange {}
+
+    /**
+     * The notes on the dashboard of the group named {@code name} were edited.
+     */
+    record NotesEdited(GroupName name) implements AddressBookChange {}
+}
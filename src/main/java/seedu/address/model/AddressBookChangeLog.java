@@ -0,0 +1,96 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.util.ModelVersion;
+
+/**
+ * The changes made to an address book since its contents were last replaced, each with the version stamp the address
+ * book had after it. Only the latest {@code MAX_CHANGES} changes are kept, so the log does not grow without bound.
+ *
+ * Storage reads the log from its own thread, so access to the log is synchronized.
+ */
+class AddressBookChangeLog {
+
+    static final int MAX_CHANGES = 10_000;
+
+    private final Deque<AddressBookChange> changes = new ArrayDeque<>();
+    private final Deque<Long> versions = new ArrayDeque<>();
+
+    // Every change made after this version is in the log
+    private long baseVersion;
+    private long latestVersion;
+
+    /**
+     * Creates an empty log of an address book whose contents are at {@code version}.
+     */
+    AddressBookChangeLog(long version) {
+        reset(version);
+    }
+
+    /**
+     * Records {@code change} with a new version stamp, dropping the oldest change if the log is full.
+     */
+    synchronized void record(AddressBookChange change) {
+        requireNonNull(change);
+        latestVersion = ModelVersion.next();
+        changes.addLast(change);
+        versions.addLast(latestVersion);
+        if (changes.size() > MAX_CHANGES) {
+            changes.removeFirst();
+            baseVersion = versions.removeFirst();
+        }
+    }
+
+    /**
+     * Empties the log, as the contents of the address book are replaced and are now at {@code version}.
+     */
+    synchronized void reset(long version) {
+        changes.clear();
+        versions.clear();
+        baseVersion = version;
+        latestVersion = version;
+    }
+
+    /**
+     * Returns the version stamp of the latest change, or of the last reset if there has been no change since.
+     */
+    synchronized long getLatestVersion() {
+        return latestVersion;
+    }
+
+    /**
+     * Returns the changes made after {@code fromVersion}, up to and including {@code toVersion}, in the order they
+     * were made, or an empty {@code Optional} if some of those changes are no longer in the log.
+     * The log is searched back from its latest change, so older changes are not looked at.
+     */
+    synchronized Optional<List<AddressBookChange>> getChangesBetween(long fromVersion, long toVersion) {
+        if (fromVersion < baseVersion) {
+            return Optional.empty();
+        }
+
+        List<AddressBookChange> found = new ArrayList<>();
+        Iterator<AddressBookChange> change = changes.descendingIterator();
+        Iterator<Long> version = versions.descendingIterator();
+        while (version.hasNext()) {
+            long changeVersion = version.next();
+            AddressBookChange current = change.next();
+            if (changeVersion <= fromVersion) {
+                break;
+            }
+            if (changeVersion <= toVersion) {
+                found.add(current);
+            }
+        }
+        Collections.reverse(found);
+        return Optional.of(found);
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -8,8 +9,15 @@ import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
+import seedu.address.model.group.GroupSetOperation;
 import seedu.address.model.group.RepoLink;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.util.IncrementalFilteredList;
 
 /**
  * The API of the Model component.
@@ -57,6 +65,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version stamp of the last modification of the address book.
+     * The stamp is unchanged if and only if the address book has not been modified since it was last read.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -132,6 +146,16 @@ public interface Model {
      */
     void removePersonFromAllGroups(Person toRemove);
 
+    /**
+     * Removes the specified person from the member lists of the groups named in {@code groupNames}.
+     * Unlike {@link #removePersonFromGroups(Set, Person)}, the person's own group set is left unchanged.
+     *
+     * @param groupNames the names of the groups to remove the person from
+     * @param toRemove the person to remove, as stored in the groups' member lists
+     * @throws NullPointerException if {@code groupNames} or {@code toRemove} is {@code null}
+     */
+    void removePersonFromGroupsByName(Set<GroupName> groupNames, Person toRemove);
+
     /**
      * Sets the given group's repository link and updates it in the address book.
      *
@@ -157,4 +181,73 @@ public interface Model {
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
+
+    /**
+     * Updates the filter of the filtered group list to filter by the given {@code predicate}, using the index of
+     * group names so that only the groups whose names could match are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findGroupsByName(GroupNameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, using the index of
+     * person names so that only the persons whose names could match are tested.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void findPersonsByName(NameContainsKeywordsPredicate predicate);
+
+    /**
+     * Updates the filter of the filtered person list to the persons satisfying {@code query}, testing only the persons
+     * found by the most selective index the query can use.
+     * @return the plan the query was run with, along with the number of persons examined.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan findPersons(PersonQuery query);
+
+    /**
+     * Updates the filter of the filtered person list to the persons found by combining the members of
+     * {@code groups}, of which there must be at least one, with {@code operation}.
+     * @throws NullPointerException if {@code operation} or {@code groups} is null.
+     */
+    void findGroupMembers(GroupSetOperation operation, List<Group> groups);
+
+    /**
+     * Returns a snapshot of the groups that {@code predicate} could accept, which may be filtered on any thread, and
+     * then shown in the filtered group list with {@link #showFilteredGroups}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    IncrementalFilteredList.Snapshot<Group> snapshotFilteredGroups(Predicate<Group> predicate);
+
+    /**
+     * Shows the groups of {@code result} in the filtered group list, unless the groups or the filter have changed
+     * since its snapshot was taken.
+     * @return true if the result was shown, or false if it is out of date.
+     */
+    boolean showFilteredGroups(IncrementalFilteredList.Result<Group> result);
+
+    /**
+     * Filters the filtered group list by the predicate last set again if it shows a result previewed with
+     * {@link #showFilteredGroups}.
+     */
+    void revertFilteredGroupListPreview();
+
+    /**
+     * Returns a snapshot of the persons that {@code predicate} could accept, which may be filtered on any thread, and
+     * then shown in the filtered person list with {@link #showFilteredPersons}.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    IncrementalFilteredList.Snapshot<Person> snapshotFilteredPersons(Predicate<Person> predicate);
+
+    /**
+     * Shows the persons of {@code result} in the filtered person list, unless the persons or the filter have changed
+     * since its snapshot was taken.
+     * @return true if the result was shown, or false if it is out of date.
+     */
+    boolean showFilteredPersons(IncrementalFilteredList.Result<Person> result);
+
+    /**
+     * Filters the filtered person list by the predicate last set again if it shows a result previewed with
+     * {@link #showFilteredPersons}.
+     */
+    void revertFilteredPersonListPreview();
 }
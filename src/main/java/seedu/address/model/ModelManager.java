@@ -4,19 +4,26 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
+import seedu.address.model.group.GroupSetOperation;
 import seedu.address.model.group.RepoLink;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.util.IncrementalFilteredList;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -26,8 +33,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
-    private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Group> filteredGroups;
+    private final IncrementalFilteredList<Person> filteredPersons;
+    private final IncrementalFilteredList<Group> filteredGroups;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -35,12 +42,12 @@ public class ModelManager implements Model {
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredGroups = new FilteredList<>(this.addressBook.getGroupList());
+        filteredPersons = new IncrementalFilteredList<>(this.addressBook.getPersonList());
+        filteredGroups = new IncrementalFilteredList<>(this.addressBook.getGroupList());
     }
 
     public ModelManager() {
@@ -94,6 +101,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -103,7 +115,6 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
-        removePersonFromAllGroups(target);
     }
 
     @Override
@@ -150,13 +161,13 @@ public class ModelManager implements Model {
         //create person with groups from targetGroupIndex
         Person personToAdd = toAdd;
         for (Index index : targetGroupIndexes) {
-            Group groupToAddTo = filteredGroups.get(index.getZeroBased());
+            Group groupToAddTo = getFilteredGroupList().get(index.getZeroBased());
             personToAdd = personToAdd.addGroup(new GroupName(groupToAddTo.getNameAsString()));
         }
 
         //add person to group member list
         for (Index index : targetGroupIndexes) {
-            Group groupToAddTo = filteredGroups.get(index.getZeroBased());
+            Group groupToAddTo = getFilteredGroupList().get(index.getZeroBased());
             groupToAddTo.addPerson(personToAdd);
         }
 
@@ -169,7 +180,7 @@ public class ModelManager implements Model {
         Person personToRemove = toRemove;
 
         for (Index index : targetGroupIndexes) {
-            Group groupToRemoveFrom = filteredGroups.get(index.getZeroBased());
+            Group groupToRemoveFrom = getFilteredGroupList().get(index.getZeroBased());
             personToRemove = personToRemove.removeGroup(new GroupName(groupToRemoveFrom.getNameAsString()));
             setPerson(toRemove, personToRemove);
             groupToRemoveFrom.removePerson(personToRemove);
@@ -182,6 +193,12 @@ public class ModelManager implements Model {
         addressBook.removePersonFromAllGroups(toRemove);
     }
 
+    @Override
+    public void removePersonFromGroupsByName(Set<GroupName> groupNames, Person toRemove) {
+        requireAllNonNull(groupNames, toRemove);
+        addressBook.removePersonFromGroups(groupNames, toRemove);
+    }
+
     @Override
     public void setGroupRepo(Group group, RepoLink repoLink) {
         requireAllNonNull(group, repoLink);
@@ -196,7 +213,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return filteredPersons;
+        return filteredPersons.asUnmodifiableObservableList();
     }
 
     @Override
@@ -205,6 +222,55 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public void findPersonsByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Optional<Set<Person>> candidates = addressBook.findPersonNameCandidates(predicate.getKeywords());
+        if (candidates.isPresent()) {
+            filteredPersons.setPredicate(predicate, candidates.get());
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public QueryPlan findPersons(PersonQuery query) {
+        requireNonNull(query);
+        QueryPlan plan = QueryPlan.plan(query, addressBook);
+        Optional<Set<Person>> candidates = plan.getCandidates();
+        if (candidates.isPresent()) {
+            filteredPersons.setPredicate(plan.getPredicate(), candidates.get());
+        } else {
+            filteredPersons.setPredicate(plan.getPredicate());
+        }
+        QueryPlan executedPlan = plan.withRowsExamined(filteredPersons.getElementsExamined());
+        logger.fine(() -> "Ran query with " + executedPlan.explain());
+        return executedPlan;
+    }
+
+    @Override
+    public void findGroupMembers(GroupSetOperation operation, List<Group> groups) {
+        requireAllNonNull(operation, groups);
+        Set<Person> members = addressBook.findGroupMembers(operation, groups);
+        // The members are looked up by their positions in the person list, so the other persons are not visited
+        filteredPersons.setPredicate(members::contains, members);
+    }
+
+    @Override
+    public IncrementalFilteredList.Snapshot<Person> snapshotFilteredPersons(Predicate<Person> predicate) {
+        return filteredPersons.snapshot(predicate);
+    }
+
+    @Override
+    public boolean showFilteredPersons(IncrementalFilteredList.Result<Person> result) {
+        return filteredPersons.show(result);
+    }
+
+    @Override
+    public void revertFilteredPersonListPreview() {
+        filteredPersons.revertPreview();
+    }
+
     //=========== Filtered Group List Accessors =============================================================
 
     /**
@@ -213,7 +279,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Group> getFilteredGroupList() {
-        return filteredGroups;
+        return filteredGroups.asUnmodifiableObservableList();
     }
 
     @Override
@@ -222,6 +288,32 @@ public class ModelManager implements Model {
         filteredGroups.setPredicate(predicate);
     }
 
+    @Override
+    public void findGroupsByName(GroupNameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        Optional<Set<Group>> candidates = addressBook.findGroupNameCandidates(predicate.getKeywords());
+        if (candidates.isPresent()) {
+            filteredGroups.setPredicate(predicate, candidates.get());
+        } else {
+            filteredGroups.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public IncrementalFilteredList.Snapshot<Group> snapshotFilteredGroups(Predicate<Group> predicate) {
+        return filteredGroups.snapshot(predicate);
+    }
+
+    @Override
+    public boolean showFilteredGroups(IncrementalFilteredList.Result<Group> result) {
+        return filteredGroups.show(result);
+    }
+
+    @Override
+    public void revertFilteredGroupListPreview() {
+        filteredGroups.revertPreview();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -236,7 +328,7 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
     }
 
 }
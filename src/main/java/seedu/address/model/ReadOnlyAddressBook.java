@@ -1,7 +1,11 @@
 package seedu.address.model;
 
+import java.util.List;
+import java.util.Optional;
+
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,4 +24,24 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate groups.
      */
     ObservableList<Group> getGroupList();
+
+    /**
+     * Returns the group named {@code name}, if any.
+     */
+    Optional<Group> getGroup(GroupName name);
+
+    /**
+     * Returns the version stamp of the last modification of the address book.
+     *
+     * @see seedu.address.model.util.ModelVersion
+     */
+    long getVersion();
+
+    /**
+     * Returns the changes made to the address book after {@code fromVersion}, up to and including
+     * {@code toVersion}, in the order they were made, or an empty {@code Optional} if they are not all known,
+     * such as when the contents of the address book were replaced in between.
+     * This may be called from any thread.
+     */
+    Optional<List<AddressBookChange>> getChangesBetween(long fromVersion, long toVersion);
 }
@@ -3,13 +3,20 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.util.Interner;
+
 /**
  * Represents an Event's Description
+ *
+ * The description text is interned, as the same event is often added to many groups. Equal descriptions then share
+ * their text, which is compared by identity before its characters are.
  */
 public record Description(String description) {
     public static final String MESSAGE_CONSTRAINTS =
             "Descriptions should not be empty";
 
+    private static final Interner<String> INTERNER = new Interner<>();
+
     /**
      * Constructs a {@code Description}.
      *
@@ -18,6 +25,7 @@ public record Description(String description) {
     public Description {
         requireNonNull(description);
         checkArgument(isValidDescription(description), MESSAGE_CONSTRAINTS);
+        description = INTERNER.intern(description);
     }
 
     /**
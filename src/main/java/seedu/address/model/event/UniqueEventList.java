@@ -9,10 +9,14 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.exceptions.DuplicateEventException;
 import seedu.address.model.event.exceptions.EventNotFoundException;
+import seedu.address.model.util.ModelVersion;
 
 /**
  * A list of events that enforces uniqueness between its elements and does not allow nulls.
  * Supports a minimal set of list operations.
+ *
+ * A list can also take a snapshot of itself, which cannot be modified and is shared by every snapshot taken until the
+ * list is next modified.
  */
 public class UniqueEventList implements Iterable<Event> {
 
@@ -20,6 +24,13 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    private long version = ModelVersion.next();
+    private Runnable modificationListener = () -> {};
+
+    // Snapshot of this list taken since it was last modified, if any
+    private UniqueEventList snapshot;
+    private boolean isSnapshot;
+
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
@@ -34,10 +45,12 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void add(Event toAdd) {
         requireNonNull(toAdd);
+        requireModifiable();
         if (contains(toAdd)) {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
+        recordModification();
     }
 
     /**
@@ -47,6 +60,7 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void setEvent(Event target, Event edited) {
         requireAllNonNull(target, edited);
+        requireModifiable();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -58,6 +72,7 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, edited);
+        recordModification();
     }
 
     /**
@@ -66,9 +81,44 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
+        requireModifiable();
         if (!internalList.remove(toRemove)) {
             throw new EventNotFoundException();
         }
+        recordModification();
+    }
+
+    /**
+     * Returns the version stamp of the last modification of this list.
+     *
+     * @see ModelVersion
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the listener called after every modification of this list, replacing the previous one.
+     */
+    public void setModificationListener(Runnable modificationListener) {
+        requireNonNull(modificationListener);
+        this.modificationListener = modificationListener;
+    }
+
+    /**
+     * Returns a copy of this list that is not affected by later modifications of this list, and that cannot itself
+     * be modified. The copy is reused until this list is next modified.
+     */
+    public UniqueEventList snapshot() {
+        if (isSnapshot) {
+            return this;
+        }
+        if (snapshot == null) {
+            snapshot = new UniqueEventList();
+            snapshot.internalList.setAll(internalList);
+            snapshot.isSnapshot = true;
+        }
+        return snapshot;
     }
 
     /**
@@ -106,4 +156,19 @@ public class UniqueEventList implements Iterable<Event> {
     public String toString() {
         return internalList.toString();
     }
+
+    /**
+     * Records a modification of this list with a new version stamp, and tells the listener about it.
+     */
+    private void recordModification() {
+        version = ModelVersion.next();
+        snapshot = null;
+        modificationListener.run();
+    }
+
+    private void requireModifiable() {
+        if (isSnapshot) {
+            throw new UnsupportedOperationException("A snapshot of a list cannot be modified.");
+        }
+    }
 }
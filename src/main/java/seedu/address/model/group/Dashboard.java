@@ -1,11 +1,17 @@
 package seedu.address.model.group;
 
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.util.ModelVersion;
+
 /**
  * Represents a Dashboard for a Group with various metrics and notes.
  */
 public class Dashboard {
     private Group groupAttachedTo;
     private String notes;
+    private long version = ModelVersion.next();
+    private Runnable modificationListener = () -> {};
 
     /**
      * Creates a dashboard with no notes
@@ -27,8 +33,34 @@ public class Dashboard {
         return this.notes;
     }
 
+    /**
+     * Sets the notes of this dashboard, recording a modification only if they differ from the current notes.
+     */
     public void setNotes(String notes) {
-        this.notes = notes != null ? notes : "";
+        String newNotes = notes != null ? notes : "";
+        if (newNotes.equals(this.notes)) {
+            return;
+        }
+        this.notes = newNotes;
+        version = ModelVersion.next();
+        modificationListener.run();
+    }
+
+    /**
+     * Returns the version stamp of the last modification of the notes.
+     *
+     * @see ModelVersion
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the listener called after every modification of the notes, replacing the previous one.
+     */
+    public void setModificationListener(Runnable modificationListener) {
+        requireNonNull(modificationListener);
+        this.modificationListener = modificationListener;
     }
 
     @Override
@@ -5,13 +5,17 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.event.Event;
 import seedu.address.model.event.UniqueEventList;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrdinals;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.util.CompressedBitmap;
+import seedu.address.model.util.ModelVersion;
 
 /**
  * Represents a Group in the address book.
@@ -30,6 +34,13 @@ public class Group {
     //quick link fields
     private final RepoLink repoLink;
 
+    // Version stamp of the last modification of the members, events or dashboard, which they report to this group.
+    // It is the stamp of the part that was modified, so the dashboard has the same stamp if it was modified last.
+    private long version;
+    private Consumer<Group> modificationListener = group -> {};
+
+    // Snapshot of this group taken since it was last modified, if any
+    private Group snapshot;
 
     // To be used only by the factory method
     private Group(GroupName name, UniqueEventList events, UniquePersonList persons, RepoLink repoLink) {
@@ -39,6 +50,7 @@ public class Group {
         this.persons = persons;
         this.repoLink = repoLink;
         this.dashboard = new Dashboard(this, "");
+        listenToParts();
     }
 
     private Group(GroupName name, UniqueEventList events, UniquePersonList persons, RepoLink repoLink,
@@ -49,6 +61,7 @@ public class Group {
         this.persons = persons;
         this.repoLink = repoLink;
         this.dashboard = dashboard;
+        listenToParts();
     }
 
     /**
@@ -61,6 +74,7 @@ public class Group {
         persons = new UniquePersonList();
         repoLink = new RepoLink();
         dashboard = new Dashboard(this);
+        listenToParts();
     }
 
     /**
@@ -75,12 +89,36 @@ public class Group {
     }
 
     /**
-     * Returns a new Group with updated name.
+     * Returns a copy of this group with its own members, events and dashboard, so that changes to either group do not
+     * affect the other.
+     */
+    public Group copy() {
+        UniqueEventList copiedEvents = new UniqueEventList();
+        events.forEach(copiedEvents::add);
+        UniquePersonList copiedPersons = new UniquePersonList();
+        copiedPersons.setPersons(persons);
+        return fromStorage(name, copiedEvents, copiedPersons, repoLink, dashboard.getNotes());
+    }
+
+    /**
+     * Returns a copy of this group that is not affected by later changes to this group, and whose members and events
+     * cannot be modified. Members and events that have not been modified are shared with earlier snapshots, and the
+     * copy is reused until this group is next modified.
+     */
+    public Group snapshot() {
+        if (snapshot == null) {
+            snapshot = fromStorage(name, events.snapshot(), persons.snapshot(), repoLink, dashboard.getNotes());
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns a new Group with updated name, which shares its members, events and dashboard with this group.
      */
     public Group withUpdatedName(GroupName newName) {
         requireNonNull(newName);
 
-        return new Group(newName, events, persons, repoLink);
+        return new Group(newName, events, persons, repoLink, dashboard);
     }
 
     public GroupName getName() {
@@ -131,6 +169,23 @@ public class Group {
         persons.setPersons(replacement);
     }
 
+    /**
+     * Keeps a bitmap of the ordinals given to this group's members by {@code ordinals}, which is shared with the
+     * groups sharing its members.
+     */
+    public void trackMemberOrdinals(PersonOrdinals ordinals) {
+        persons.trackOrdinals(ordinals);
+    }
+
+    /**
+     * Returns a bitmap of the ordinals given to this group's members by {@code ordinals}.
+     *
+     * @see UniquePersonList#toOrdinalBitmap(PersonOrdinals)
+     */
+    public CompressedBitmap getMemberOrdinals(PersonOrdinals ordinals) {
+        return persons.toOrdinalBitmap(ordinals);
+    }
+
     public void setDashboard(String dashboardNotes) {
         this.dashboard.setNotes(dashboardNotes);
     }
@@ -145,6 +200,49 @@ public class Group {
         return repoLink;
     }
 
+    /**
+     * Returns the version stamp of the last modification of this group's members, events or dashboard.
+     *
+     * @see ModelVersion
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the listener called with this group after every modification of its members, events or dashboard,
+     * replacing the previous one.
+     */
+    public void setModificationListener(Consumer<Group> modificationListener) {
+        requireNonNull(modificationListener);
+        this.modificationListener = modificationListener;
+    }
+
+    /**
+     * Returns true if the last modification of this group was to the notes on its dashboard, rather than to its
+     * members or events.
+     */
+    public boolean isNotesLastModified() {
+        return version == dashboard.getVersion();
+    }
+
+    /**
+     * Has the members, events and dashboard report their modifications to this group, rather than to any group they
+     * were shared with before.
+     */
+    private void listenToParts() {
+        version = Math.max(Math.max(persons.getVersion(), events.getVersion()), dashboard.getVersion());
+        persons.setModificationListener(() -> recordModification(persons.getVersion()));
+        events.setModificationListener(() -> recordModification(events.getVersion()));
+        dashboard.setModificationListener(() -> recordModification(dashboard.getVersion()));
+    }
+
+    private void recordModification(long partVersion) {
+        version = partVersion;
+        snapshot = null;
+        modificationListener.accept(this);
+    }
+
     /**
      * Returns group name as a String
      */
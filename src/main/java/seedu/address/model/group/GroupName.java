@@ -3,6 +3,10 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import seedu.address.model.util.Interner;
+
 /**
  * Represents a Group's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,9 +23,14 @@ public class GroupName {
      * otherwise " " (a blank string) becomes a valid input.
      */
     public static final String VALIDATION_REGEX = "^(?=.*[\\p{Alnum}_\\-()])[\\p{Alnum}_\\-() ]{1,50}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final Interner<GroupName> INTERNER = new Interner<>();
 
     public final String fullName;
 
+    // Unlike person names, group names are case-sensitive, so fullName is already canonical
+    private final int hash;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,15 +40,30 @@ public class GroupName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        hash = fullName.hashCode();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
+    /**
+     * Returns the canonical {@code GroupName} equal to this one, which is shared by everything interning an equal
+     * group name.
+     */
+    public GroupName intern() {
+        return INTERNER.intern(this);
+    }
+
+    /**
+     * Returns the form of this group name that equality is defined on, suitable as a key in hash-based structures.
+     */
+    public String getCanonicalName() {
+        return fullName;
+    }
 
     @Override
     public String toString() {
@@ -58,12 +82,12 @@ public class GroupName {
         }
 
         GroupName otherName = (GroupName) other;
-        return fullName.equals(otherName.fullName);
+        return hash == otherName.hash && fullName.equals(otherName.fullName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hash;
     }
 
 }
@@ -1,26 +1,56 @@
 package seedu.address.model.group;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.util.RefinablePredicate;
 
 /**
  * Tests that a {@code Group}'s {@code Name} matches any of the keywords given.
  */
-public class GroupNameContainsKeywordsPredicate implements Predicate<Group> {
+public class GroupNameContainsKeywordsPredicate implements RefinablePredicate<Group> {
     private final List<String> keywords;
 
+    // The keywords in lower case, which names in lower case are matched against
+    private final List<String> lowerCaseKeywords;
+
+    /**
+     * Creates a {@code GroupNameContainsKeywordsPredicate} that tests for any of {@code keywords}.
+     */
     public GroupNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = keywords.stream().map(keyword -> keyword.toLowerCase(Locale.ROOT)).toList();
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Group group) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        group.getName().fullName.toLowerCase().contains(keyword.toLowerCase())
-                );
+        String name = group.getNameAsString().toLowerCase(Locale.ROOT);
+        for (String keyword : lowerCaseKeywords) {
+            if (name.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code other} is a predicate of this type having, for each keyword of this predicate, a
+     * keyword contained in it, such as when keywords are lengthened as they are typed.
+     */
+    @Override
+    public boolean isRefinementOf(Predicate<?> other) {
+        if (!(other instanceof GroupNameContainsKeywordsPredicate otherPredicate)) {
+            return false;
+        }
+
+        return lowerCaseKeywords.stream().allMatch(keyword ->
+                otherPredicate.lowerCaseKeywords.stream().anyMatch(keyword::contains));
     }
 
     @Override
@@ -0,0 +1,40 @@
+package seedu.address.model.group;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+import seedu.address.model.util.CompressedBitmap;
+
+/**
+ * A way of combining the members of groups into a single set of persons.
+ */
+public enum GroupSetOperation {
+    /** The persons in every group. */
+    INTERSECTION,
+    /** The persons in any of the groups. */
+    UNION,
+    /** The persons in the first group but in none of the others. */
+    DIFFERENCE;
+
+    /**
+     * Combines the bitmaps of the ordinals of the members of some groups, of which there must be at least one, into
+     * a bitmap of the ordinals of the persons this operation finds.
+     */
+    public CompressedBitmap apply(List<CompressedBitmap> memberships) {
+        requireAllNonNull(memberships);
+        checkArgument(!memberships.isEmpty(), "At least one group is needed to combine the members of.");
+
+        CompressedBitmap first = memberships.get(0);
+        List<CompressedBitmap> others = memberships.subList(1, memberships.size());
+        switch (this) {
+        case INTERSECTION:
+            return others.stream().reduce(first, CompressedBitmap::and);
+        case UNION:
+            return others.stream().reduce(first, CompressedBitmap::or);
+        default:
+            return first.andNot(others.stream().reduce(new CompressedBitmap(), CompressedBitmap::or));
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Group's GitHub repository link in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -34,9 +36,13 @@ public class RepoLink {
     public static final String VALIDATION_REGEX = "^https://github\\.com/"
             + "[A-Za-z0-9](?:[A-Za-z0-9]|-(?=[A-Za-z0-9])){0,38}/"
             + "[A-Za-z0-9](?:[A-Za-z0-9]|[_.-](?=[A-Za-z0-9])){0,99}$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String repolink;
 
+    // As a repo link is compared whenever its group is, its hash code is computed once
+    private final int hash;
+
     /**
      * Constructs a {@code RepoLink}.
      *
@@ -46,6 +52,7 @@ public class RepoLink {
         requireNonNull(link);
         checkArgument(isValidName(link), MESSAGE_CONSTRAINTS);
         repolink = link;
+        hash = repolink.hashCode();
     }
 
     /**
@@ -60,6 +67,7 @@ public class RepoLink {
             checkArgument(isValidName(link), MESSAGE_CONSTRAINTS);
         }
         repolink = link;
+        hash = repolink.hashCode();
     }
 
     /**
@@ -67,6 +75,7 @@ public class RepoLink {
      */
     public RepoLink() {
         repolink = "none";
+        hash = repolink.hashCode();
     }
 
 
@@ -83,7 +92,7 @@ public class RepoLink {
      * Returns true if a given string is a valid link.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public boolean isRepoSet() {
@@ -107,12 +116,12 @@ public class RepoLink {
         }
 
         RepoLink otherRepo = (RepoLink) other;
-        return repolink.equals(otherRepo.repolink);
+        return hash == otherRepo.hash && repolink.equals(otherRepo.repolink);
     }
 
     @Override
     public int hashCode() {
-        return repolink.hashCode();
+        return hash;
     }
 
 }
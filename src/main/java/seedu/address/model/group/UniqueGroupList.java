@@ -3,14 +3,24 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonOrdinals;
+import seedu.address.model.util.ModelVersion;
+import seedu.address.model.util.TrigramIndex;
 
 /**
  * A list of groups that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +30,10 @@ import seedu.address.model.person.Person;
  * Removal of a group uses {@code Group#equals(Object)} to ensure that the group with
  * exactly the same fields will be removed.
  *
+ * Groups are also indexed by {@code GroupName}, so that identity checks and lookups by name do not need to scan
+ * the whole list, and by the trigrams of their names, so that searches by name do not need to test every group.
+ * A list can also have every group in it keep a bitmap of the ordinals of its members.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Group#isSameGroup(Group)
@@ -29,13 +43,45 @@ public class UniqueGroupList implements Iterable<Group> {
     private final ObservableList<Group> internalList = FXCollections.observableArrayList();
     private final ObservableList<Group> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<GroupName, Group> groupsByName = new HashMap<>();
+    private final TrigramIndex<Group> nameTrigramIndex = new TrigramIndex<>();
+
+    // The ordinals of the members of the groups, which are only tracked if not null
+    private final PersonOrdinals memberOrdinals;
+
+    // Version stamp of the last modification of this list or of any group in it, which the groups report to the list
+    private long version = ModelVersion.next();
+    private Consumer<Group> groupModificationListener = group -> {};
+
+    /**
+     * Creates an empty list whose groups do not track the ordinals of their members.
+     */
+    public UniqueGroupList() {
+        this(null);
+    }
+
+    /**
+     * Creates an empty list whose groups track the ordinals given to their members by {@code memberOrdinals}, if it
+     * is not null.
+     */
+    public UniqueGroupList(PersonOrdinals memberOrdinals) {
+        this.memberOrdinals = memberOrdinals;
+    }
 
     /**
      * Returns true if the list contains an equivalent group as the given argument.
      */
     public boolean contains(Group toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameGroup);
+        return groupsByName.containsKey(toCheck.getName());
+    }
+
+    /**
+     * Returns the group in the list named {@code name}, if any.
+     */
+    public Optional<Group> getGroup(GroupName name) {
+        requireNonNull(name);
+        return Optional.ofNullable(groupsByName.get(name));
     }
 
     /**
@@ -48,6 +94,8 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
         internalList.add(toAdd);
+        addToIndex(toAdd);
+        version = ModelVersion.next();
     }
 
     /**
@@ -67,7 +115,10 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
 
-        internalList.set(index, editedGroup);
+        Group stored = internalList.set(index, editedGroup);
+        removeFromIndex(stored);
+        addToIndex(editedGroup);
+        version = ModelVersion.next();
     }
 
     /**
@@ -76,19 +127,44 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void remove(Group toRemove) {
         requireNonNull(toRemove);
+        // The group in the list may be a different, but equal, instance
+        Group stored = groupsByName.get(toRemove.getName());
         if (!internalList.remove(toRemove)) {
             throw new GroupNotFoundException();
         }
+        removeFromIndex(stored);
+        version = ModelVersion.next();
     }
 
     /**
-     * Removes the specified person from all groups.
+     * Returns the groups in the list whose names could contain any of {@code keywords}, ignoring case, or an empty
+     * {@code Optional} if every group could match, such as when a keyword is too short to be looked up.
+     * Every group whose name does contain a keyword is returned, along with some whose names do not.
+     * The returned set compares groups by identity.
+     */
+    public Optional<Set<Group>> findNameCandidates(List<String> keywords) {
+        requireAllNonNull(keywords);
+        return nameTrigramIndex.findCandidates(keywords.stream().map(UniqueGroupList::toSearchable).toList());
+    }
+
+    /**
+     * Removes the specified person from all groups it belongs to, as given by {@code Person#getGroups()}.
      */
     public void removePersonFromAllGroups(Person toRemove) {
         requireAllNonNull(toRemove);
+        removePersonFromGroups(toRemove.getGroups(), toRemove);
+    }
+
+    /**
+     * Removes the specified person from the groups named in {@code groupNames}.
+     * Names of groups that are not in the list, or that do not contain the person, are ignored.
+     */
+    public void removePersonFromGroups(Set<GroupName> groupNames, Person toRemove) {
+        requireAllNonNull(groupNames, toRemove);
 
-        for (Group group : internalList) {
-            if (group.containsPerson(toRemove)) {
+        for (GroupName groupName : groupNames) {
+            Group group = groupsByName.get(groupName);
+            if (group != null && group.containsPerson(toRemove)) {
                 group.removePerson(toRemove);
             }
         }
@@ -99,7 +175,10 @@ public class UniqueGroupList implements Iterable<Group> {
      */
     public void setGroups(UniqueGroupList replacement) {
         requireNonNull(replacement);
+        clearIndex();
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
+        version = ModelVersion.next();
     }
 
     /**
@@ -112,7 +191,37 @@ public class UniqueGroupList implements Iterable<Group> {
             throw new DuplicateGroupException();
         }
 
+        clearIndex();
         internalList.setAll(groups);
+        rebuildIndex();
+        version = ModelVersion.next();
+    }
+
+    /**
+     * Rebuilds the bitmaps of the ordinals of the members of every group, such as after the ordinals are reset.
+     */
+    public void rebuildMemberOrdinals() {
+        if (memberOrdinals != null) {
+            internalList.forEach(group -> group.trackMemberOrdinals(memberOrdinals));
+        }
+    }
+
+    /**
+     * Returns the version stamp of the last modification of this list or of any group in it.
+     *
+     * @see ModelVersion
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the listener called with every group in the list whose members, events or dashboard are modified,
+     * replacing the previous one.
+     */
+    public void setGroupModificationListener(Consumer<Group> groupModificationListener) {
+        requireNonNull(groupModificationListener);
+        this.groupModificationListener = groupModificationListener;
     }
 
     /**
@@ -154,13 +263,56 @@ public class UniqueGroupList implements Iterable<Group> {
      * Returns true if {@code groups} contains only unique groups.
      */
     private boolean groupsAreUnique(List<Group> groups) {
-        for (int i = 0; i < groups.size() - 1; i++) {
-            for (int j = i + 1; j < groups.size(); j++) {
-                if (groups.get(i).isSameGroup(groups.get(j))) {
-                    return false;
-                }
+        Set<GroupName> names = new HashSet<>();
+        for (Group group : groups) {
+            if (!names.add(group.getName())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Rebuilds the indexes from the backing list.
+     */
+    private void rebuildIndex() {
+        clearIndex();
+        internalList.forEach(this::addToIndex);
+    }
+
+    /**
+     * Empties the indexes, and stops listening to the groups in them.
+     */
+    private void clearIndex() {
+        groupsByName.values().forEach(group -> group.setModificationListener(unused -> {}));
+        groupsByName.clear();
+        nameTrigramIndex.clear();
+    }
+
+    private void addToIndex(Group group) {
+        group.setModificationListener(this::groupModified);
+        groupsByName.put(group.getName(), group);
+        nameTrigramIndex.add(toSearchable(group.getNameAsString()), group);
+        if (memberOrdinals != null) {
+            group.trackMemberOrdinals(memberOrdinals);
+        }
+    }
+
+    private void removeFromIndex(Group group) {
+        group.setModificationListener(unused -> {});
+        groupsByName.remove(group.getName());
+        nameTrigramIndex.remove(toSearchable(group.getNameAsString()), group);
+    }
+
+    private void groupModified(Group group) {
+        version = ModelVersion.next();
+        groupModificationListener.accept(group);
+    }
+
+    /**
+     * Returns the form of {@code text} that group names are searched in, which ignores case.
+     */
+    private static String toSearchable(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
 }
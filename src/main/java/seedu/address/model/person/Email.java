@@ -3,9 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
+ *
+ * As every valid email differs from the others only in its 7 digits, only the number they form is stored, and the
+ * email is rendered from it when needed.
  */
 public class Email {
 
@@ -20,8 +25,14 @@ public class Email {
     // follow by 7 digit
     // must end with @u.nus.edu
     public static final String VALIDATION_REGEX = "^e\\d{7}@u\\.nus\\.edu$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    private static final String PREFIX = "e";
+    private static final String DOMAIN = "@u.nus.edu";
+    private static final int ID_LENGTH = 7;
 
-    public final String value;
+    // The 7 digits of the email, as a number
+    private final int id;
 
     /**
      * Constructs an {@code Email}.
@@ -31,19 +42,22 @@ public class Email {
     public Email(String email) {
         requireNonNull(email);
         checkArgument(isValidEmail(email), MESSAGE_CONSTRAINTS);
-        value = email;
+        id = Integer.parseInt(email, PREFIX.length(), PREFIX.length() + ID_LENGTH, 10);
     }
 
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public String toString() {
-        return value;
+        StringBuilder email = new StringBuilder(PREFIX.length() + ID_LENGTH + DOMAIN.length()).append(PREFIX);
+        String digits = Integer.toString(id);
+        email.append("0".repeat(ID_LENGTH - digits.length())).append(digits);
+        return email.append(DOMAIN).toString();
     }
 
     @Override
@@ -58,12 +72,12 @@ public class Email {
         }
 
         Email otherEmail = (Email) other;
-        return value.equals(otherEmail.value);
+        return id == otherEmail.id;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Integer.hashCode(id);
     }
 
 }
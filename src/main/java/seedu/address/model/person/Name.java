@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -26,9 +29,14 @@ public class Name {
      */
     public static final String VALIDATION_REGEX =
             "^(?=.{1,50}$)[A-Za-z0-9]+(?: [A-Za-z0-9]+)*(?: [sd]\\/o [A-Za-z0-9]+(?: [A-Za-z0-9]+)*)?$";
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
 
     public final String fullName;
 
+    // Case-folded form of fullName, which equals() and hashCode() are defined on
+    private final String canonicalName;
+    private final int hash;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -38,15 +46,31 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        canonicalName = toCanonical(name);
+        hash = canonicalName.hashCode();
     }
 
     /**
      * Returns true if a given string is a valid name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    /**
+     * Returns the case-folded form of {@code name}. Two names are equal iff their canonical forms are equal.
+     */
+    public static String toCanonical(String name) {
+        requireNonNull(name);
+        return name.toLowerCase(Locale.ROOT);
     }
 
+    /**
+     * Returns the case-folded form of this name, suitable as a key in hash-based structures.
+     */
+    public String getCanonicalName() {
+        return canonicalName;
+    }
 
     @Override
     public String toString() {
@@ -65,12 +89,12 @@ public class Name {
         }
 
         Name otherName = (Name) other;
-        return fullName.toLowerCase().equals(otherName.fullName.toLowerCase());
+        return hash == otherName.hash && canonicalName.equals(otherName.canonicalName);
     }
 
     @Override
     public int hashCode() {
-        return fullName.hashCode();
+        return hash;
     }
 
 }
@@ -1,9 +1,9 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -21,17 +21,34 @@ public class Person {
     private final Phone phone;
     private final Email email;
 
+    // The group names are interned, as every member of a group holds its name
     private final Set<GroupName> groups;
 
+    // As a person is immutable, its hash code is computed once
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Set<GroupName> groups) {
-        requireAllNonNull(name, phone, email, groups);
+        this(name, phone, email, internAll(groups));
+    }
+
+    /**
+     * Creates a {@code Person} in the given groups, whose names must be distinct and already interned.
+     */
+    private Person(Name name, Phone phone, Email email, GroupName[] internedGroups) {
+        requireAllNonNull(name, phone, email);
         this.name = name;
         this.phone = phone;
         this.email = email;
-        this.groups = Set.copyOf(groups);
+        this.groups = Set.of(internedGroups);
+        this.hash = Objects.hash(name, phone, email, groups);
+    }
+
+    private static GroupName[] internAll(Set<GroupName> groups) {
+        requireAllNonNull(groups);
+        return groups.stream().map(GroupName::intern).toArray(GroupName[]::new);
     }
 
     public Name getName() {
@@ -61,8 +78,13 @@ public class Person {
      * @return a new {@code Person} instance with the specified group added
      */
     public Person addGroup(GroupName groupName) {
-        Set<GroupName> newGroups = new HashSet<>(groups);
-        newGroups.add(groupName);
+        requireNonNull(groupName);
+        if (groups.contains(groupName)) {
+            return new Person(name, phone, email, groups.toArray(GroupName[]::new));
+        }
+
+        GroupName[] newGroups = groups.toArray(new GroupName[groups.size() + 1]);
+        newGroups[groups.size()] = groupName.intern();
         return new Person(name, phone, email, newGroups);
     }
 
@@ -77,9 +99,9 @@ public class Person {
      * @return a new {@code Person} instance with the specified group removed
      */
     public Person removeGroup(GroupName groupName) {
-        Set<GroupName> newGroups = new HashSet<>(groups);
-        newGroups.remove(groupName);
-        return new Person(name, phone, email, newGroups);
+        return new Person(name, phone, email, groups.stream()
+                .filter(group -> !group.equals(groupName))
+                .toArray(GroupName[]::new));
     }
 
     /**
@@ -123,7 +145,8 @@ public class Person {
         }
 
         Person otherPerson = (Person) other;
-        return name.equals(otherPerson.name)
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && groups.equals(otherPerson.groups);
@@ -131,8 +154,7 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, groups);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,112 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * Numbers the persons of an address book with small, dense ordinals, so that sets of persons can be stored as
+ * bitmaps of their ordinals.
+ *
+ * Persons are numbered by their emails, so a person keeps their ordinal when edited, as long as their email is
+ * transferred along with them. The ordinals of released persons are reused, smallest first, so that the ordinals
+ * stay close to the number of persons numbered.
+ */
+public class PersonOrdinals {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Email, Integer> ordinals = new HashMap<>();
+    private final PriorityQueue<Integer> freeOrdinals = new PriorityQueue<>();
+    private Email[] emails = new Email[INITIAL_CAPACITY];
+    private int nextOrdinal;
+
+    /**
+     * Returns the ordinal of {@code person}, numbering them first if they have none.
+     */
+    public int assign(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.get(person.getEmail());
+        if (ordinal != null) {
+            return ordinal;
+        }
+
+        int newOrdinal = freeOrdinals.isEmpty() ? nextOrdinal++ : freeOrdinals.poll();
+        if (newOrdinal == emails.length) {
+            emails = Arrays.copyOf(emails, emails.length * 2);
+        }
+        emails[newOrdinal] = person.getEmail();
+        ordinals.put(person.getEmail(), newOrdinal);
+        return newOrdinal;
+    }
+
+    /**
+     * Returns the ordinal of {@code person}, or -1 if they have none.
+     */
+    public int find(Person person) {
+        requireNonNull(person);
+        return ordinals.getOrDefault(person.getEmail(), -1);
+    }
+
+    /**
+     * Returns the email of the person numbered {@code ordinal}, if any.
+     */
+    public Optional<Email> getEmail(int ordinal) {
+        return ordinal >= 0 && ordinal < nextOrdinal ? Optional.ofNullable(emails[ordinal]) : Optional.empty();
+    }
+
+    /**
+     * Gives the ordinal of {@code target}, if any, to {@code editedPerson}, such as when {@code target} is edited.
+     */
+    public void transfer(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        if (target.getEmail().equals(editedPerson.getEmail())) {
+            return;
+        }
+
+        Integer ordinal = ordinals.remove(target.getEmail());
+        if (ordinal != null) {
+            emails[ordinal] = editedPerson.getEmail();
+            ordinals.put(editedPerson.getEmail(), ordinal);
+        }
+    }
+
+    /**
+     * Releases the ordinal of {@code person}, if any, to be reused.
+     * Every set of ordinals the person is in must already have been updated.
+     */
+    public void release(Person person) {
+        requireNonNull(person);
+        Integer ordinal = ordinals.remove(person.getEmail());
+        if (ordinal != null) {
+            emails[ordinal] = null;
+            freeOrdinals.add(ordinal);
+        }
+    }
+
+    /**
+     * Numbers {@code persons} afresh, in order, releasing every other ordinal.
+     * Every set of ordinals must be rebuilt afterwards.
+     */
+    public void reset(List<Person> persons) {
+        requireAllNonNull(persons);
+        ordinals.clear();
+        freeOrdinals.clear();
+        Arrays.fill(emails, null);
+        nextOrdinal = 0;
+        persons.forEach(this::assign);
+    }
+
+    /**
+     * Returns the number of persons numbered.
+     */
+    public int size() {
+        return ordinals.size();
+    }
+}
@@ -3,19 +3,28 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
+ *
+ * As a valid phone number has at most 15 digits, it is stored as the number its digits form, along with the number
+ * of digits so that leading zeros are kept, and whether it starts with a '+'. It is rendered from these when needed.
  */
 public class Phone {
 
-
     public static final String MESSAGE_CONSTRAINTS = "Phone numbers have following constraints:\n"
             + "- Must contain only digits\n"
             + "- Minimum 8 digits\n"
             + "- Maximum 15 digits";
     public static final String VALIDATION_REGEX = "^\\+?[0-9]{8,15}$";
-    public final String value;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+    private static final char PLUS_SIGN = '+';
+
+    private final long digits;
+    private final byte digitCount;
+    private final boolean hasPlusSign;
 
     /**
      * Constructs a {@code Phone}.
@@ -25,19 +34,28 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = phone;
+        hasPlusSign = phone.charAt(0) == PLUS_SIGN;
+        int start = hasPlusSign ? 1 : 0;
+        digits = Long.parseLong(phone, start, phone.length(), 10);
+        digitCount = (byte) (phone.length() - start);
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
     public String toString() {
-        return value;
+        StringBuilder phone = new StringBuilder(digitCount + 1);
+        if (hasPlusSign) {
+            phone.append(PLUS_SIGN);
+        }
+        String number = Long.toString(digits);
+        phone.append("0".repeat(digitCount - number.length())).append(number);
+        return phone.toString();
     }
 
     @Override
@@ -52,12 +70,16 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return digits == otherPhone.digits
+                && digitCount == otherPhone.digitCount
+                && hasPlusSign == otherPhone.hasPlusSign;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        int hash = Long.hashCode(digits);
+        hash = 31 * hash + digitCount;
+        return hasPlusSign ? ~hash : hash;
     }
 
 }
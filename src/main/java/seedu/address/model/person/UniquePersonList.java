@@ -3,14 +3,25 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.CompressedBitmap;
+import seedu.address.model.util.ModelVersion;
+import seedu.address.model.util.TrigramIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -19,6 +30,16 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Identity lookups are served by hash indexes on the name, phone and email of every person in the list, so that
+ * duplicate detection does not need to scan the whole list. A list can also index the trigrams of every person's
+ * name and keep the phone numbers in order, so that searches by name or phone prefix do not need to test every
+ * person. A list can also keep a bitmap of the ordinals of its persons, so that lists, such as the members of
+ * groups, can be intersected and combined without comparing their persons. The indexes are kept in sync with the
+ * backing list by every mutating operation.
+ *
+ * A list can also take a snapshot of itself, which cannot be modified and is shared by every snapshot taken until the
+ * list is next modified. The identity indexes of a snapshot are only built once it is first looked up.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,12 +50,54 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // Identity indexes, each mapping an identity field to the person in the list holding it
+    private final Map<Name, Person> nameIndex = new HashMap<>();
+    private final Map<Phone, Person> phoneIndex = new HashMap<>();
+    private final Map<Email, Person> emailIndex = new HashMap<>();
+
+    // Search indexes, which are null if the list is not searchable
+    private final TrigramIndex<Person> nameTrigramIndex;
+    private final NavigableMap<String, Person> phonePrefixIndex;
+
+    // The ordinals of the persons in the list, which are only kept once the list tracks its ordinals
+    private PersonOrdinals ordinals;
+    private final CompressedBitmap ordinalBitmap = new CompressedBitmap();
+
+    private long version = ModelVersion.next();
+    private Runnable modificationListener = () -> {};
+
+    // Snapshot of this list taken since it was last modified, if any
+    private UniquePersonList snapshot;
+    private boolean isSnapshot;
+    private boolean isIndexed = true;
+
+    /**
+     * Creates an empty list that is not searchable by name or phone prefix.
+     */
+    public UniquePersonList() {
+        this(false);
+    }
+
+    /**
+     * Creates an empty list.
+     *
+     * @param isSearchable whether the trigrams of names and the phone numbers are indexed, for
+     *     {@link #findNameCandidates(List)} and {@link #findPhonePrefixMatches(String)}.
+     */
+    public UniquePersonList(boolean isSearchable) {
+        nameTrigramIndex = isSearchable ? new TrigramIndex<>() : null;
+        phonePrefixIndex = isSearchable ? new TreeMap<>() : null;
+    }
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        ensureIndexed();
+        return nameIndex.containsKey(toCheck.getName())
+                || phoneIndex.containsKey(toCheck.getPhone())
+                || emailIndex.containsKey(toCheck.getEmail());
     }
 
     /**
@@ -43,10 +106,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
+        requireModifiable();
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIndexes(toAdd);
+        recordModification();
     }
 
     /**
@@ -71,6 +137,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
+        requireModifiable();
 
         int index = internalList.indexOf(target);
         if (index == -1) {
@@ -81,7 +148,18 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        // editedPerson may share some identity fields with target, but none with any other person
+        Person stored = internalList.get(index);
+        if (isHeldByOther(nameIndex, editedPerson.getName(), stored)
+                || isHeldByOther(phoneIndex, editedPerson.getPhone(), stored)
+                || isHeldByOther(emailIndex, editedPerson.getEmail(), stored)) {
+            throw new DuplicatePersonException();
+        }
+
         internalList.set(index, editedPerson);
+        removeFromIndexes(stored);
+        addToIndexes(editedPerson);
+        recordModification();
     }
 
     /**
@@ -90,14 +168,25 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
+        requireModifiable();
+        // The person in the list may be a different, but equal, instance
+        Person stored = nameIndex.get(toRemove.getName());
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIndexes(stored);
+        recordModification();
     }
 
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        requireModifiable();
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
+        recordModification();
     }
 
     /**
@@ -106,11 +195,133 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
+        requireModifiable();
         if (!personsAreUnique(persons)) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
+        recordModification();
+    }
+
+    /**
+     * Returns the version stamp of the last modification of this list.
+     *
+     * @see ModelVersion
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Sets the listener called after every modification of this list, replacing the previous one.
+     */
+    public void setModificationListener(Runnable modificationListener) {
+        requireNonNull(modificationListener);
+        this.modificationListener = modificationListener;
+    }
+
+    /**
+     * Returns a copy of this list that is not affected by later modifications of this list, and that cannot itself
+     * be modified. The copy is not searchable, and is reused until this list is next modified.
+     */
+    public UniquePersonList snapshot() {
+        if (isSnapshot) {
+            return this;
+        }
+        if (snapshot == null) {
+            snapshot = new UniquePersonList();
+            snapshot.internalList.setAll(internalList);
+            snapshot.isSnapshot = true;
+            snapshot.isIndexed = false;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Returns the persons in the list whose names could contain any of {@code keywords}, ignoring case, or an empty
+     * {@code Optional} if every person could match, such as when a keyword is too short to be looked up.
+     * Every person whose name does contain a keyword is returned, along with some whose names do not.
+     * The returned set compares persons by identity.
+     */
+    public Optional<Set<Person>> findNameCandidates(List<String> keywords) {
+        requireAllNonNull(keywords);
+        if (nameTrigramIndex == null) {
+            return Optional.empty();
+        }
+        return nameTrigramIndex.findCandidates(keywords.stream().map(Name::toCanonical).toList());
+    }
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findNameCandidates(List)} returns for
+     * {@code keywords}, or an empty {@code OptionalInt} if it returns none, without finding them.
+     */
+    public OptionalInt estimateNameCandidates(List<String> keywords) {
+        requireAllNonNull(keywords);
+        if (nameTrigramIndex == null) {
+            return OptionalInt.empty();
+        }
+        return nameTrigramIndex.estimateCandidates(keywords.stream().map(Name::toCanonical).toList());
+    }
+
+    /**
+     * Returns the number of persons in the list whose phone numbers start with {@code prefix}, or an empty
+     * {@code OptionalInt} if the phone numbers are not indexed. The matching persons are counted in place, rather
+     * than copied.
+     */
+    public OptionalInt countPhonePrefixMatches(String prefix) {
+        requireNonNull(prefix);
+        if (phonePrefixIndex == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(phonePrefixIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false).size());
+    }
+
+    /**
+     * Returns the persons in the list whose phone numbers start with {@code prefix}, or an empty {@code Optional} if
+     * the phone numbers are not indexed.
+     */
+    public Optional<Set<Person>> findPhonePrefixMatches(String prefix) {
+        requireNonNull(prefix);
+        if (phonePrefixIndex == null) {
+            return Optional.empty();
+        }
+        // Every phone number starting with the prefix sorts between it and the prefix followed by the last character
+        return Optional.of(new HashSet<>(
+                phonePrefixIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()));
+    }
+
+    /**
+     * Returns the person in the list with {@code email}, if any.
+     */
+    public Optional<Person> findByEmail(Email email) {
+        requireNonNull(email);
+        ensureIndexed();
+        return Optional.ofNullable(emailIndex.get(email));
+    }
+
+    /**
+     * Keeps a bitmap of the ordinals given to the persons in the list by {@code ordinals}, numbering any person who
+     * has none.
+     */
+    public void trackOrdinals(PersonOrdinals ordinals) {
+        requireNonNull(ordinals);
+        this.ordinals = ordinals;
+        ordinalBitmap.clear();
+        internalList.forEach(person -> ordinalBitmap.add(ordinals.assign(person)));
+    }
+
+    /**
+     * Returns a bitmap of the ordinals given to the persons in the list by {@code ordinals}, which the list tracks
+     * from then on if it did not already.
+     */
+    public CompressedBitmap toOrdinalBitmap(PersonOrdinals ordinals) {
+        requireNonNull(ordinals);
+        if (this.ordinals != ordinals) {
+            trackOrdinals(ordinals);
+        }
+        return ordinalBitmap.copy();
     }
 
     /**
@@ -160,17 +371,98 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Records a modification of this list with a new version stamp, and tells the listener about it.
+     */
+    private void recordModification() {
+        version = ModelVersion.next();
+        snapshot = null;
+        modificationListener.run();
+    }
+
+    private void requireModifiable() {
+        if (isSnapshot) {
+            throw new UnsupportedOperationException("A snapshot of a list cannot be modified.");
+        }
+    }
+
+    /**
+     * Builds the identity indexes of a snapshot, if they have not been built yet.
+     */
+    private void ensureIndexed() {
+        if (!isIndexed) {
+            isIndexed = true;
+            rebuildIndexes();
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> names = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(person.getName()) || !phones.add(person.getPhone()) || !emails.add(person.getEmail())) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Adds the identity fields of {@code person} to the indexes.
+     */
+    private void addToIndexes(Person person) {
+        nameIndex.put(person.getName(), person);
+        phoneIndex.put(person.getPhone(), person);
+        emailIndex.put(person.getEmail(), person);
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.add(person.getName().getCanonicalName(), person);
+            phonePrefixIndex.put(person.getPhone().toString(), person);
+        }
+        if (ordinals != null) {
+            ordinalBitmap.add(ordinals.assign(person));
+        }
+    }
+
+    /**
+     * Removes the identity fields of {@code person} from the indexes.
+     */
+    private void removeFromIndexes(Person person) {
+        nameIndex.remove(person.getName());
+        phoneIndex.remove(person.getPhone());
+        emailIndex.remove(person.getEmail());
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.remove(person.getName().getCanonicalName(), person);
+            phonePrefixIndex.remove(person.getPhone().toString());
+        }
+        if (ordinals != null) {
+            ordinalBitmap.remove(ordinals.find(person));
+        }
+    }
+
+    /**
+     * Rebuilds the indexes from the backing list.
+     */
+    private void rebuildIndexes() {
+        nameIndex.clear();
+        phoneIndex.clear();
+        emailIndex.clear();
+        if (nameTrigramIndex != null) {
+            nameTrigramIndex.clear();
+            phonePrefixIndex.clear();
+        }
+        ordinalBitmap.clear();
+        internalList.forEach(this::addToIndexes);
+    }
+
+    /**
+     * Returns true if {@code key} is held in {@code index} by a person other than {@code owner}.
+     */
+    private static <K> boolean isHeldByOther(Map<K, Person> index, K key, Person owner) {
+        Person holder = index.get(key);
+        return holder != null && holder != owner;
+    }
 }
@@ -0,0 +1,377 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryPlan.AccessPath;
+
+/**
+ * A condition on the persons in an address book, which is either a condition on a single field of a person, or a
+ * combination of other conditions with AND, OR or NOT.
+ *
+ * Besides testing persons, a condition can tell which persons an index of the address book finds for it, so that
+ * only they need to be tested. How many persons an index finds can be estimated from the sizes the index keeps,
+ * without finding them, so that a combined condition only finds the persons of the index it uses.
+ * Text is matched ignoring case.
+ */
+public interface PersonQuery {
+
+    /**
+     * Returns a predicate testing whether a person of {@code addressBook} satisfies this condition.
+     */
+    Predicate<Person> toPredicate(AddressBook addressBook);
+
+    /**
+     * Returns the persons of {@code addressBook} that an index finds for this condition, which include every person
+     * satisfying it, or an empty {@code Optional} if every person must be tested.
+     */
+    Optional<AccessPath> findAccessPath(AddressBook addressBook);
+
+    /**
+     * Returns an upper bound on the number of persons {@link #findAccessPath(AddressBook)} finds, or an empty
+     * {@code OptionalInt} if it finds none because every person must be tested.
+     */
+    OptionalInt estimateCandidates(AddressBook addressBook);
+
+    /**
+     * Persons whose names contain {@code keyword}.
+     */
+    record NameContains(String keyword) implements PersonQuery {
+        public NameContains {
+            requireNonNull(keyword);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            return new NameContainsKeywordsPredicate(List.of(keyword));
+        }
+
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            return addressBook.findPersonNameCandidates(List.of(keyword))
+                    .map(candidates -> new AccessPath(candidates, "name trigram index for '" + keyword + "'"));
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return addressBook.estimatePersonNameCandidates(List.of(keyword));
+        }
+
+        @Override
+        public String toString() {
+            return "name contains '" + keyword + "'";
+        }
+    }
+
+    /**
+     * Persons whose phone numbers start with {@code prefix}.
+     */
+    record PhoneStartsWith(String prefix) implements PersonQuery {
+        public PhoneStartsWith {
+            requireNonNull(prefix);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            return person -> person.getPhone().toString().startsWith(prefix);
+        }
+
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            return Optional.of(new AccessPath(addressBook.findPersonsByPhonePrefix(prefix),
+                    "phone prefix index for '" + prefix + "'"));
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.of(addressBook.countPersonsByPhonePrefix(prefix));
+        }
+
+        @Override
+        public String toString() {
+            return "phone starts with '" + prefix + "'";
+        }
+    }
+
+    /**
+     * The person with {@code email}.
+     */
+    record EmailIs(Email email) implements PersonQuery {
+        public EmailIs {
+            requireNonNull(email);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            return person -> person.getEmail().equals(email);
+        }
+
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            Set<Person> persons = addressBook.findPersonByEmail(email).map(Set::of).orElse(Set.of());
+            return Optional.of(new AccessPath(persons, "email hash index for " + email));
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.of(addressBook.findPersonByEmail(email).isPresent() ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return "email is " + email;
+        }
+    }
+
+    /**
+     * Members of the group named {@code groupName}.
+     */
+    record InGroup(GroupName groupName) implements PersonQuery {
+        public InGroup {
+            requireNonNull(groupName);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            return person -> person.getGroups().contains(groupName);
+        }
+
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            Set<Person> members = addressBook.getGroup(groupName)
+                    .<Set<Person>>map(group -> new HashSet<>(group.getPersons()))
+                    .orElse(Set.of());
+            return Optional.of(new AccessPath(members, "membership set of " + groupName));
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.of(addressBook.getGroup(groupName).map(group -> group.getPersons().size()).orElse(0));
+        }
+
+        @Override
+        public String toString() {
+            return "in group " + groupName;
+        }
+    }
+
+    /**
+     * Members of the groups having an event whose description contains {@code text}.
+     */
+    record EventContains(String text) implements PersonQuery {
+        public EventContains {
+            requireNonNull(text);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            Set<GroupName> groupNames = findGroups(addressBook).stream().map(Group::getName)
+                    .collect(Collectors.toSet());
+            return person -> !Collections.disjoint(person.getGroups(), groupNames);
+        }
+
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            List<Group> groups = findGroups(addressBook);
+            Set<Person> members = new HashSet<>();
+            groups.forEach(group -> members.addAll(group.getPersons()));
+            return Optional.of(new AccessPath(members, "membership sets of the " + groups.size()
+                    + " groups with an event containing '" + text + "'"));
+        }
+
+        /**
+         * Returns the total size of the groups with a matching event, which counts a person in several of them
+         * more than once.
+         */
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.of(findGroups(addressBook).stream().mapToInt(group -> group.getPersons().size()).sum());
+        }
+
+        /**
+         * Returns the groups of {@code addressBook} having an event whose description contains the text.
+         */
+        private List<Group> findGroups(AddressBook addressBook) {
+            String lowerCaseText = text.toLowerCase(Locale.ROOT);
+            return addressBook.getGroupList().stream()
+                    .filter(group -> group.getEvents().stream().map(Event::description).anyMatch(description ->
+                            description.toString().toLowerCase(Locale.ROOT).contains(lowerCaseText)))
+                    .toList();
+        }
+
+        @Override
+        public String toString() {
+            return "in a group with an event containing '" + text + "'";
+        }
+    }
+
+    /**
+     * Persons satisfying every one of {@code conditions}.
+     */
+    record And(List<PersonQuery> conditions) implements PersonQuery {
+        /**
+         * Creates a condition satisfied by persons satisfying every one of {@code conditions}.
+         */
+        public And {
+            requireAllNonNull(conditions);
+            conditions = List.copyOf(conditions);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            List<Predicate<Person>> predicates = conditions.stream()
+                    .map(condition -> condition.toPredicate(addressBook)).toList();
+            return person -> predicates.stream().allMatch(predicate -> predicate.test(person));
+        }
+
+        /**
+         * Returns the access path of the condition estimated to find the fewest persons, as only they can satisfy
+         * every condition, or an empty {@code Optional} if no condition has one. Only that condition finds its
+         * persons.
+         */
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            PersonQuery mostSelective = null;
+            int fewestCandidates = Integer.MAX_VALUE;
+            for (PersonQuery condition : conditions) {
+                OptionalInt estimate = condition.estimateCandidates(addressBook);
+                if (estimate.isPresent() && (mostSelective == null || estimate.getAsInt() < fewestCandidates)) {
+                    mostSelective = condition;
+                    fewestCandidates = estimate.getAsInt();
+                }
+            }
+            return mostSelective == null ? Optional.empty() : mostSelective.findAccessPath(addressBook);
+        }
+
+        /**
+         * Returns the smallest estimate of the conditions.
+         */
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return conditions.stream()
+                    .map(condition -> condition.estimateCandidates(addressBook))
+                    .filter(OptionalInt::isPresent)
+                    .mapToInt(OptionalInt::getAsInt)
+                    .min();
+        }
+
+        @Override
+        public String toString() {
+            return conditions.stream().map(PersonQuery::toString).collect(Collectors.joining(" AND ", "(", ")"));
+        }
+    }
+
+    /**
+     * Persons satisfying any of {@code conditions}.
+     */
+    record Or(List<PersonQuery> conditions) implements PersonQuery {
+        /**
+         * Creates a condition satisfied by persons satisfying any of {@code conditions}.
+         */
+        public Or {
+            requireAllNonNull(conditions);
+            conditions = List.copyOf(conditions);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            List<Predicate<Person>> predicates = conditions.stream()
+                    .map(condition -> condition.toPredicate(addressBook)).toList();
+            return person -> predicates.stream().anyMatch(predicate -> predicate.test(person));
+        }
+
+        /**
+         * Returns the union of the access paths of the conditions, or an empty {@code Optional} if a condition has
+         * none, as every person could then satisfy it. Whether every condition has one is checked from their
+         * estimates, before any of them finds its persons.
+         */
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            if (estimateCandidates(addressBook).isEmpty()) {
+                return Optional.empty();
+            }
+
+            Set<Person> persons = new HashSet<>();
+            List<String> descriptions = new ArrayList<>();
+            for (PersonQuery condition : conditions) {
+                AccessPath accessPath = condition.findAccessPath(addressBook).orElseThrow();
+                persons.addAll(accessPath.persons());
+                descriptions.add(accessPath.description());
+            }
+            return Optional.of(new AccessPath(persons, "union of " + String.join(" and ", descriptions)));
+        }
+
+        /**
+         * Returns the sum of the estimates of the conditions, or an empty {@code OptionalInt} if a condition has
+         * none.
+         */
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            long estimate = 0;
+            for (PersonQuery condition : conditions) {
+                OptionalInt conditionEstimate = condition.estimateCandidates(addressBook);
+                if (conditionEstimate.isEmpty()) {
+                    return OptionalInt.empty();
+                }
+                estimate += conditionEstimate.getAsInt();
+            }
+            return OptionalInt.of((int) Math.min(estimate, Integer.MAX_VALUE));
+        }
+
+        @Override
+        public String toString() {
+            return conditions.stream().map(PersonQuery::toString).collect(Collectors.joining(" OR ", "(", ")"));
+        }
+    }
+
+    /**
+     * Persons not satisfying {@code condition}.
+     */
+    record Not(PersonQuery condition) implements PersonQuery {
+        public Not {
+            requireNonNull(condition);
+        }
+
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            return condition.toPredicate(addressBook).negate();
+        }
+
+        /**
+         * Returns an empty {@code Optional}, as the persons not found by an index cannot be found without testing
+         * every person.
+         */
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            return Optional.empty();
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.empty();
+        }
+
+        @Override
+        public String toString() {
+            return "NOT " + condition;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model.query;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * How a {@link PersonQuery} is run against an address book: the persons found by the most selective index the query
+ * can use, which are the only persons tested against it, or every person if it cannot use any index.
+ */
+public class QueryPlan {
+
+    private final PersonQuery query;
+    private final Predicate<Person> predicate;
+    private final AccessPath accessPath;
+    private final int personCount;
+    // Negative until the query has been run
+    private final int rowsExamined;
+
+    private QueryPlan(PersonQuery query, Predicate<Person> predicate, AccessPath accessPath, int personCount,
+            int rowsExamined) {
+        this.query = query;
+        this.predicate = predicate;
+        this.accessPath = accessPath;
+        this.personCount = personCount;
+        this.rowsExamined = rowsExamined;
+    }
+
+    /**
+     * Plans how {@code query} is run against {@code addressBook}.
+     */
+    public static QueryPlan plan(PersonQuery query, AddressBook addressBook) {
+        requireAllNonNull(query, addressBook);
+        return new QueryPlan(query, query.toPredicate(addressBook), query.findAccessPath(addressBook).orElse(null),
+                addressBook.getPersonList().size(), -1);
+    }
+
+    /**
+     * Returns a copy of this plan recording that running it examined {@code rowsExamined} persons.
+     */
+    public QueryPlan withRowsExamined(int rowsExamined) {
+        assert rowsExamined >= 0;
+        return new QueryPlan(query, predicate, accessPath, personCount, rowsExamined);
+    }
+
+    /**
+     * Returns the predicate the persons are tested against.
+     */
+    public Predicate<Person> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Returns the only persons that need to be tested, or an empty {@code Optional} if every person must be.
+     */
+    public Optional<Set<Person>> getCandidates() {
+        return Optional.ofNullable(accessPath).map(AccessPath::persons);
+    }
+
+    /**
+     * Returns the number of persons examined when the query was run, or an empty {@code OptionalInt} if it has not
+     * been run. Candidates are only looked up one by one when they are much fewer than the persons, so a query using
+     * an index may still examine every person.
+     */
+    public OptionalInt getRowsExamined() {
+        return rowsExamined < 0 ? OptionalInt.empty() : OptionalInt.of(rowsExamined);
+    }
+
+    /**
+     * Returns a description of the plan for the user, with the number of persons it examined if it has been run.
+     */
+    public String explain() {
+        String access = accessPath == null
+                ? "full scan of all persons"
+                : accessPath.description() + " (" + accessPath.size() + " candidates)";
+        String description = String.format("Plan: %s, filtered by %s", access, query);
+        if (rowsExamined < 0) {
+            return description;
+        }
+        return description + String.format("\nRows examined: %d of %d", rowsExamined, personCount);
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    /**
+     * The persons found by an index for a query, along with a description of the index for the user.
+     */
+    public record AccessPath(Set<Person> persons, String description) {
+        /**
+         * Creates an {@code AccessPath} to {@code persons}.
+         */
+        public AccessPath {
+            requireAllNonNull(persons, description);
+        }
+
+        public int size() {
+            return persons.size();
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of non-negative integers, stored as a bitmap of which only the 64-bit words with a bit set are kept, in order
+ * of their positions.
+ *
+ * A sparse set takes space in proportion to its size rather than to its largest integer, and the intersection, union
+ * and difference of two sets are found by merging their words, in time proportional to the number of words kept.
+ */
+public class CompressedBitmap {
+
+    private static final int WORD_SIZE_LOG = 6;
+    private static final int INITIAL_CAPACITY = 4;
+
+    // The positions of the words kept, in increasing order, and the words at those positions
+    private int[] positions;
+    private long[] words;
+    private int wordCount;
+
+    /**
+     * Creates an empty bitmap.
+     */
+    public CompressedBitmap() {
+        this(new int[INITIAL_CAPACITY], new long[INITIAL_CAPACITY], 0);
+    }
+
+    private CompressedBitmap(int[] positions, long[] words, int wordCount) {
+        this.positions = positions;
+        this.words = words;
+        this.wordCount = wordCount;
+    }
+
+    /**
+     * Returns a bitmap of {@code values}, which must not be negative.
+     */
+    public static CompressedBitmap of(int... values) {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int value : values) {
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    /**
+     * Returns true if the bitmap contains {@code value}.
+     */
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf(value >>> WORD_SIZE_LOG);
+        return index >= 0 && (words[index] & (1L << value)) != 0;
+    }
+
+    /**
+     * Adds {@code value}, which must not be negative, to the bitmap.
+     * @return true if the bitmap did not already contain it.
+     */
+    public boolean add(int value) {
+        checkArgument(value >= 0, "Only non-negative integers can be added to a bitmap.");
+        int position = value >>> WORD_SIZE_LOG;
+        int index = indexOf(position);
+        if (index < 0) {
+            index = -index - 1;
+            insertWord(index, position);
+        }
+        long word = words[index];
+        words[index] = word | (1L << value);
+        return words[index] != word;
+    }
+
+    /**
+     * Removes {@code value} from the bitmap.
+     * @return true if the bitmap contained it.
+     */
+    public boolean remove(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = indexOf(value >>> WORD_SIZE_LOG);
+        if (index < 0 || (words[index] & (1L << value)) == 0) {
+            return false;
+        }
+        words[index] &= ~(1L << value);
+        if (words[index] == 0) {
+            removeWord(index);
+        }
+        return true;
+    }
+
+    /**
+     * Removes every integer from the bitmap.
+     */
+    public void clear() {
+        wordCount = 0;
+    }
+
+    public boolean isEmpty() {
+        return wordCount == 0;
+    }
+
+    /**
+     * Returns the number of integers in the bitmap.
+     */
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < wordCount; i++) {
+            cardinality += Long.bitCount(words[i]);
+        }
+        return cardinality;
+    }
+
+    /**
+     * Returns a bitmap of the integers in both this bitmap and {@code other}.
+     */
+    public CompressedBitmap and(CompressedBitmap other) {
+        requireNonNull(other);
+        int capacity = Math.max(Math.min(wordCount, other.wordCount), 1);
+        CompressedBitmap result = new CompressedBitmap(new int[capacity], new long[capacity], 0);
+        int i = 0;
+        int j = 0;
+        while (i < wordCount && j < other.wordCount) {
+            if (positions[i] < other.positions[j]) {
+                i++;
+            } else if (positions[i] > other.positions[j]) {
+                j++;
+            } else {
+                result.appendWord(positions[i], words[i++] & other.words[j++]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a bitmap of the integers in either this bitmap or {@code other}.
+     */
+    public CompressedBitmap or(CompressedBitmap other) {
+        requireNonNull(other);
+        int capacity = Math.max(wordCount + other.wordCount, 1);
+        CompressedBitmap result = new CompressedBitmap(new int[capacity], new long[capacity], 0);
+        int i = 0;
+        int j = 0;
+        while (i < wordCount || j < other.wordCount) {
+            if (j == other.wordCount || (i < wordCount && positions[i] < other.positions[j])) {
+                result.appendWord(positions[i], words[i++]);
+            } else if (i == wordCount || positions[i] > other.positions[j]) {
+                result.appendWord(other.positions[j], other.words[j++]);
+            } else {
+                result.appendWord(positions[i], words[i++] | other.words[j++]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns a bitmap of the integers in this bitmap but not in {@code other}.
+     */
+    public CompressedBitmap andNot(CompressedBitmap other) {
+        requireNonNull(other);
+        int capacity = Math.max(wordCount, 1);
+        CompressedBitmap result = new CompressedBitmap(new int[capacity], new long[capacity], 0);
+        int j = 0;
+        for (int i = 0; i < wordCount; i++) {
+            while (j < other.wordCount && other.positions[j] < positions[i]) {
+                j++;
+            }
+            boolean isInOther = j < other.wordCount && other.positions[j] == positions[i];
+            result.appendWord(positions[i], isInOther ? words[i] & ~other.words[j] : words[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a copy of this bitmap, which changes independently of it.
+     */
+    public CompressedBitmap copy() {
+        int capacity = Math.max(wordCount, 1);
+        return new CompressedBitmap(Arrays.copyOf(positions, capacity), Arrays.copyOf(words, capacity), wordCount);
+    }
+
+    /**
+     * Performs {@code action} on every integer in the bitmap, in increasing order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < wordCount; i++) {
+            int base = positions[i] << WORD_SIZE_LOG;
+            for (long word = words[i]; word != 0; word &= word - 1) {
+                action.accept(base + Long.numberOfTrailingZeros(word));
+            }
+        }
+    }
+
+    /**
+     * Returns the integers in the bitmap, in increasing order.
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int[] count = {0};
+        forEach(value -> values[count[0]++] = value);
+        return values;
+    }
+
+    /**
+     * Returns the index of the word at {@code position}, or {@code -(insertion point) - 1} if it is not kept.
+     */
+    private int indexOf(int position) {
+        return Arrays.binarySearch(positions, 0, wordCount, position);
+    }
+
+    private void insertWord(int index, int position) {
+        if (wordCount == positions.length) {
+            positions = Arrays.copyOf(positions, wordCount * 2);
+            words = Arrays.copyOf(words, wordCount * 2);
+        }
+        System.arraycopy(positions, index, positions, index + 1, wordCount - index);
+        System.arraycopy(words, index, words, index + 1, wordCount - index);
+        positions[index] = position;
+        words[index] = 0;
+        wordCount++;
+    }
+
+    private void removeWord(int index) {
+        System.arraycopy(positions, index + 1, positions, index, wordCount - index - 1);
+        System.arraycopy(words, index + 1, words, index, wordCount - index - 1);
+        wordCount--;
+    }
+
+    /**
+     * Appends {@code word} at {@code position}, which must come after every word kept, unless it has no bit set.
+     * The arrays must have room for it.
+     */
+    private void appendWord(int position, long word) {
+        if (word != 0) {
+            positions[wordCount] = position;
+            words[wordCount++] = word;
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CompressedBitmap otherBitmap)) {
+            return false;
+        }
+
+        return Arrays.equals(positions, 0, wordCount, otherBitmap.positions, 0, otherBitmap.wordCount)
+                && Arrays.equals(words, 0, wordCount, otherBitmap.words, 0, otherBitmap.wordCount);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int i = 0; i < wordCount; i++) {
+            hash = 31 * (31 * hash + positions[i]) + Long.hashCode(words[i]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach(value -> joiner.add(Integer.toString(value)));
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,505 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A view of the elements of a source list that are accepted by a predicate, in the order they are in the source list,
+ * which tests as few elements as it can when either the source list or the predicate changes.
+ *
+ * When the source list changes, only the elements that were added or replaced are tested.
+ * When the predicate changes to a {@link RefinablePredicate} refining the current one, only the elements currently
+ * in the view are tested, and when the elements that could be accepted are known from an index, only they are tested,
+ * looked up by their positions in the source list when they are few enough. Otherwise, every element of the source
+ * list is tested, as a {@code FilteredList} would.
+ *
+ * The view is updated as part of each change to the source list or predicate, and must only be used on the thread
+ * that changes them. To filter without blocking that thread, a {@link Snapshot} of the elements to be tested can be
+ * taken on it, filtered on any other thread, and its {@link Result} shown back on it, unless the source list or
+ * predicate has changed in the meantime. A result is only a preview, and can be reverted to the view filtered by
+ * the predicate that was last set.
+ *
+ * @param <E> the type of the elements.
+ */
+public class IncrementalFilteredList<E> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // How many elements a snapshot tests between checks of whether it has been cancelled
+    private static final int CANCELLATION_CHECK_INTERVAL = 1024;
+
+    // Candidates are looked up by position instead of being checked during a pass over the elements when there are
+    // at least this many times fewer of them than elements
+    private static final int CANDIDATE_LOOKUP_RATIO = 4;
+
+    private final ObservableList<E> source;
+    private final ObservableList<E> filtered = FXCollections.observableArrayList();
+    private final ObservableList<E> unmodifiableFiltered = FXCollections.unmodifiableObservableList(filtered);
+
+    // The indexes in the source list of the elements in the view, in increasing order
+    private int[] sourceIndexes = new int[INITIAL_CAPACITY];
+    private int size;
+
+    // Null when every element is accepted
+    private Predicate<? super E> predicate;
+
+    // The index in the source list of each of its elements, kept up to date as elements are appended or set, and
+    // rebuilt when it is next needed after other changes
+    private final Map<Object, Integer> positions = new HashMap<>();
+    private boolean arePositionsStale = true;
+    // Positions can't be looked up if the source list contains equal elements
+    private boolean hasEqualElements;
+
+    // A copy of the source list shared by the snapshots taken until it changes; null until one is next needed
+    private Object[] sourceElements;
+
+    // The view filtered by the predicate last set, kept while a result is shown as a preview of another predicate
+    private boolean isPreviewing;
+    private Predicate<? super E> committedPredicate;
+    private int[] committedSourceIndexes;
+    private int committedSize;
+    private long committedSourceChangeCount;
+
+    // Changes whenever the source list changes
+    private long sourceChangeCount;
+
+    // How many elements were examined when the predicate was last set
+    private int elementsExamined;
+
+    // Changes whenever the source list or predicate changes, so that results of out of date snapshots are recognised
+    private long modificationCount;
+
+    /**
+     * Creates a view of all the elements of {@code source}.
+     */
+    public IncrementalFilteredList(ObservableList<E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(this::handleSourceChanged);
+        setPredicate(null);
+    }
+
+    /**
+     * Returns the view as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableFiltered;
+    }
+
+    /**
+     * Returns the predicate the view is filtered by, which is that of the result being previewed if there is one,
+     * or null if every element is in the view.
+     */
+    public Predicate<? super E> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Filters the view by {@code predicate}, or shows every element if it is null.
+     * The result being previewed, if any, is discarded.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        filter(predicate, null);
+    }
+
+    /**
+     * Filters the view by {@code predicate}, testing only the elements in {@code candidates}, which must contain
+     * every element of the source list that {@code predicate} accepts.
+     */
+    public void setPredicate(Predicate<? super E> predicate, Set<?> candidates) {
+        requireAllNonNull(predicate, candidates);
+        filter(predicate, candidates);
+    }
+
+    /**
+     * Returns how many elements were examined when the predicate was last set, which is every element that had to be
+     * tested, unless only the candidates were looked up.
+     */
+    public int getElementsExamined() {
+        return elementsExamined;
+    }
+
+    /**
+     * Returns a snapshot of the elements that {@code predicate} could accept, to be filtered on any thread.
+     * Only the elements currently in the view are copied if {@code predicate} refines the current one. Otherwise,
+     * the source list is copied once after each change to it, and the copy is shared by later snapshots.
+     */
+    public Snapshot<E> snapshot(Predicate<? super E> predicate) {
+        requireNonNull(predicate);
+        if (isRefinement(predicate)) {
+            return new Snapshot<>(predicate, filtered.toArray(), Arrays.copyOf(sourceIndexes, size),
+                    modificationCount);
+        }
+        if (sourceElements == null) {
+            sourceElements = source.toArray();
+        }
+        return new Snapshot<>(predicate, sourceElements, null, modificationCount);
+    }
+
+    /**
+     * Shows the elements of {@code result} as the view, filtered by its predicate, if neither the source list nor
+     * the predicate has changed since its snapshot was taken. The result is a preview, which is shown until the
+     * predicate is set or {@link #revertPreview()} is called.
+     *
+     * @return true if the result was shown, or false if it is out of date and the snapshot must be taken again.
+     */
+    public boolean show(Result<E> result) {
+        requireNonNull(result);
+        if (result.modificationCount != modificationCount) {
+            return false;
+        }
+
+        if (!isPreviewing) {
+            isPreviewing = true;
+            committedPredicate = predicate;
+            committedSourceIndexes = sourceIndexes;
+            committedSize = size;
+            committedSourceChangeCount = sourceChangeCount;
+        }
+        setView(result.predicate, result.sourceIndexes, result.elements.size(), result.elements);
+        return true;
+    }
+
+    /**
+     * Returns whether the view shows a result previewed with {@link #show(Result)}.
+     */
+    public boolean isPreviewing() {
+        return isPreviewing;
+    }
+
+    /**
+     * Filters the view by the predicate last set again if it shows a preview. Unless the source list has changed
+     * since the preview was first shown, the view is restored without testing any element.
+     */
+    public void revertPreview() {
+        if (!isPreviewing) {
+            return;
+        }
+
+        Predicate<? super E> restoredPredicate = committedPredicate;
+        int[] restoredSourceIndexes = committedSourceIndexes;
+        int restoredSize = committedSize;
+        boolean hasSourceChanged = committedSourceChangeCount != sourceChangeCount;
+        discardPreview();
+        if (hasSourceChanged) {
+            filter(restoredPredicate, null);
+            return;
+        }
+
+        List<E> elements = new ArrayList<>(restoredSize);
+        for (int i = 0; i < restoredSize; i++) {
+            elements.add(source.get(restoredSourceIndexes[i]));
+        }
+        setView(restoredPredicate, restoredSourceIndexes, restoredSize, elements);
+    }
+
+    private void discardPreview() {
+        isPreviewing = false;
+        committedPredicate = null;
+        committedSourceIndexes = null;
+    }
+
+    private boolean isRefinement(Predicate<? super E> newPredicate) {
+        return predicate != null && newPredicate instanceof RefinablePredicate<?> refinable
+                && refinable.isRefinementOf(predicate);
+    }
+
+    /**
+     * Filters the view by {@code newPredicate}, testing only the elements in {@code candidates} if it is not null.
+     */
+    private void filter(Predicate<? super E> newPredicate, Set<?> candidates) {
+        discardPreview();
+        boolean isRefinement = isRefinement(newPredicate);
+        int elementCount = isRefinement ? size : source.size();
+        if (candidates != null && (long) candidates.size() * CANDIDATE_LOOKUP_RATIO < elementCount
+                && updatePositions()) {
+            // Any element accepted by a refinement is in the view already, so only the candidates need testing
+            filterCandidates(newPredicate, candidates);
+            return;
+        }
+
+        int[] newSourceIndexes = new int[isRefinement ? Math.max(size, 1) : INITIAL_CAPACITY];
+        int newSize = 0;
+        List<E> newElements = new ArrayList<>();
+        elementsExamined = elementCount;
+        for (int i = 0; i < elementCount; i++) {
+            int sourceIndex = isRefinement ? sourceIndexes[i] : i;
+            E element = source.get(sourceIndex);
+            if ((candidates == null || candidates.contains(element)) && isAccepted(newPredicate, element)) {
+                newSourceIndexes = ensureCapacity(newSourceIndexes, newSize + 1);
+                newSourceIndexes[newSize++] = sourceIndex;
+                newElements.add(element);
+            }
+        }
+        setView(newPredicate, newSourceIndexes, newSize, newElements);
+    }
+
+    /**
+     * Filters the view by {@code newPredicate}, testing only the {@code candidates} found in the source list,
+     * in the order of their positions in it.
+     */
+    private void filterCandidates(Predicate<? super E> newPredicate, Set<?> candidates) {
+        int[] candidateIndexes = new int[candidates.size()];
+        int candidateCount = 0;
+        for (Object candidate : candidates) {
+            Integer sourceIndex = positions.get(candidate);
+            if (sourceIndex != null) {
+                candidateIndexes[candidateCount++] = sourceIndex;
+            }
+        }
+        Arrays.sort(candidateIndexes, 0, candidateCount);
+        elementsExamined = candidateCount;
+
+        int[] newSourceIndexes = new int[Math.max(candidateCount, 1)];
+        int newSize = 0;
+        List<E> newElements = new ArrayList<>(candidateCount);
+        for (int i = 0; i < candidateCount; i++) {
+            E element = source.get(candidateIndexes[i]);
+            if (newPredicate.test(element)) {
+                newSourceIndexes[newSize++] = candidateIndexes[i];
+                newElements.add(element);
+            }
+        }
+        setView(newPredicate, newSourceIndexes, newSize, newElements);
+    }
+
+    private void setView(Predicate<? super E> newPredicate, int[] newSourceIndexes, int newSize,
+            List<E> newElements) {
+        predicate = newPredicate;
+        sourceIndexes = newSourceIndexes;
+        size = newSize;
+        modificationCount++;
+        filtered.setAll(newElements);
+    }
+
+    /**
+     * Rebuilds the positions of the elements of the source list if they are out of date.
+     *
+     * @return true if the elements can be looked up by their positions.
+     */
+    private boolean updatePositions() {
+        if (arePositionsStale) {
+            positions.clear();
+            hasEqualElements = false;
+            for (int i = 0; i < source.size() && !hasEqualElements; i++) {
+                hasEqualElements = positions.putIfAbsent(source.get(i), i) != null;
+            }
+            // Equal elements may have been removed by the time positions are next needed
+            arePositionsStale = hasEqualElements;
+        }
+        return !hasEqualElements;
+    }
+
+    /**
+     * Updates the positions of the elements of the source list with {@code change} if that is cheap, which it is
+     * when elements are set, or added or removed at the end of the list, or marks them to be rebuilt otherwise.
+     */
+    private void updatePositions(ListChangeListener.Change<? extends E> change) {
+        if (arePositionsStale) {
+            return;
+        }
+        boolean isAtEnd = change.getFrom() + change.getAddedSize() == source.size();
+        if (change.wasPermutated() || change.wasUpdated()
+                || (change.getRemovedSize() != change.getAddedSize() && !isAtEnd)) {
+            arePositionsStale = true;
+            return;
+        }
+
+        List<? extends E> removed = change.getRemoved();
+        for (int i = 0; i < removed.size() && !arePositionsStale; i++) {
+            arePositionsStale = !positions.remove(removed.get(i), change.getFrom() + i);
+        }
+        List<? extends E> added = change.getAddedSubList();
+        for (int i = 0; i < added.size() && !arePositionsStale; i++) {
+            arePositionsStale = positions.putIfAbsent(added.get(i), change.getFrom() + i) != null;
+        }
+    }
+
+    /**
+     * Updates the view with the changes to the source list.
+     */
+    private void handleSourceChanged(ListChangeListener.Change<? extends E> change) {
+        modificationCount++;
+        sourceChangeCount++;
+        sourceElements = null;
+        while (change.next()) {
+            updatePositions(change);
+            if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                replace(change.getFrom(), change.getTo() - change.getFrom(), change.getTo() - change.getFrom());
+            } else {
+                replace(change.getFrom(), change.getRemovedSize(), change.getAddedSize());
+            }
+        }
+    }
+
+    /**
+     * Updates the view with the replacement of {@code removedCount} elements of the source list starting at
+     * {@code from} by {@code addedCount} elements, testing only the added elements.
+     */
+    private void replace(int from, int removedCount, int addedCount) {
+        int start = firstIndexAtOrAfter(from);
+        int end = firstIndexAtOrAfter(from + removedCount);
+
+        List<E> addedElements = new ArrayList<>();
+        List<Integer> addedSourceIndexes = new ArrayList<>();
+        for (int sourceIndex = from; sourceIndex < from + addedCount; sourceIndex++) {
+            E element = source.get(sourceIndex);
+            if (isAccepted(predicate, element)) {
+                addedElements.add(element);
+                addedSourceIndexes.add(sourceIndex);
+            }
+        }
+
+        // Moves the indexes after the replaced elements to make room for the added ones, and shifts them
+        int removedMatches = end - start;
+        int newSize = size - removedMatches + addedElements.size();
+        int[] newSourceIndexes = ensureCapacity(sourceIndexes, newSize);
+        System.arraycopy(sourceIndexes, end, newSourceIndexes, start + addedElements.size(), size - end);
+        for (int i = start + addedElements.size(); i < newSize; i++) {
+            newSourceIndexes[i] += addedCount - removedCount;
+        }
+        for (int i = 0; i < addedSourceIndexes.size(); i++) {
+            newSourceIndexes[start + i] = addedSourceIndexes.get(i);
+        }
+        sourceIndexes = newSourceIndexes;
+        size = newSize;
+
+        if (removedMatches == addedElements.size()) {
+            for (int i = 0; i < removedMatches; i++) {
+                filtered.set(start + i, addedElements.get(i));
+            }
+            return;
+        }
+        if (removedMatches > 0) {
+            filtered.remove(start, end);
+        }
+        if (!addedElements.isEmpty()) {
+            filtered.addAll(start, addedElements);
+        }
+    }
+
+    /**
+     * Updates the view with the reordering of the source list, without testing any element.
+     */
+    private void permute(ListChangeListener.Change<? extends E> change) {
+        for (int i = 0; i < size; i++) {
+            if (sourceIndexes[i] >= change.getFrom() && sourceIndexes[i] < change.getTo()) {
+                sourceIndexes[i] = change.getPermutation(sourceIndexes[i]);
+            }
+        }
+        Arrays.sort(sourceIndexes, 0, size);
+
+        List<E> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(source.get(sourceIndexes[i]));
+        }
+        filtered.setAll(elements);
+    }
+
+    /**
+     * Returns the position in the view of the first element at or after {@code sourceIndex} in the source list.
+     */
+    private int firstIndexAtOrAfter(int sourceIndex) {
+        int position = Arrays.binarySearch(sourceIndexes, 0, size, sourceIndex);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    private static <E> boolean isAccepted(Predicate<? super E> predicate, E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    private static int[] ensureCapacity(int[] array, int capacity) {
+        if (array.length >= capacity) {
+            return array;
+        }
+        return Arrays.copyOf(array, Math.max(capacity, array.length * 2));
+    }
+
+    /**
+     * A copy of the elements of a source list that a predicate could accept, taken so that they can be tested on
+     * another thread than the one the list is used on.
+     *
+     * @param <E> the type of the elements.
+     */
+    public static class Snapshot<E> {
+        private final Predicate<? super E> predicate;
+        private final Object[] elements;
+        // The indexes in the source list of the elements, or null if they are the whole source list
+        private final int[] sourceIndexes;
+        private final long modificationCount;
+
+        private Snapshot(Predicate<? super E> predicate, Object[] elements, int[] sourceIndexes,
+                long modificationCount) {
+            this.predicate = predicate;
+            this.elements = elements;
+            this.sourceIndexes = sourceIndexes;
+            this.modificationCount = modificationCount;
+        }
+
+        /**
+         * Tests the elements against the predicate, giving up if {@code isCancelled} becomes true, which it is
+         * checked for every so often. This may be done on any thread.
+         *
+         * @return the elements accepted, or an empty {@code Optional} if filtering was cancelled.
+         */
+        @SuppressWarnings("unchecked")
+        public Optional<Result<E>> filter(BooleanSupplier isCancelled) {
+            requireNonNull(isCancelled);
+            int[] acceptedSourceIndexes = new int[INITIAL_CAPACITY];
+            List<E> acceptedElements = new ArrayList<>();
+            for (int i = 0; i < elements.length; i++) {
+                if (i % CANCELLATION_CHECK_INTERVAL == 0 && isCancelled.getAsBoolean()) {
+                    return Optional.empty();
+                }
+                E element = (E) elements[i];
+                if (predicate.test(element)) {
+                    acceptedSourceIndexes = ensureCapacity(acceptedSourceIndexes, acceptedElements.size() + 1);
+                    acceptedSourceIndexes[acceptedElements.size()] = sourceIndexes == null ? i : sourceIndexes[i];
+                    acceptedElements.add(element);
+                }
+            }
+            return Optional.of(new Result<>(predicate, acceptedElements, acceptedSourceIndexes, modificationCount));
+        }
+    }
+
+    /**
+     * The elements of a {@link Snapshot} accepted by its predicate, to be shown with {@link #show(Result)}.
+     *
+     * @param <E> the type of the elements.
+     */
+    public static class Result<E> {
+        private final Predicate<? super E> predicate;
+        private final List<E> elements;
+        private final int[] sourceIndexes;
+        private final long modificationCount;
+
+        private Result(Predicate<? super E> predicate, List<E> elements, int[] sourceIndexes,
+                long modificationCount) {
+            this.predicate = predicate;
+            this.elements = elements;
+            this.sourceIndexes = sourceIndexes;
+            this.modificationCount = modificationCount;
+        }
+
+        public List<E> getElements() {
+            return Collections.unmodifiableList(elements);
+        }
+    }
+}
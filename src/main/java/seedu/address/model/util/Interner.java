@@ -0,0 +1,38 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Shares a single canonical instance among equal immutable values, so that a value repeated throughout the model
+ * is only held in memory once, and equal values can be recognised by identity.
+ *
+ * Canonical instances are only weakly held, so values are forgotten once the model no longer uses them.
+ * It is safe to intern values from several threads.
+ *
+ * @param <T> the type of the values, which must be immutable.
+ */
+public class Interner<T> {
+
+    // Each canonical instance is its own key, so the map holds no strong reference to it
+    private final Map<T, WeakReference<T>> canonicalInstances = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}, which is {@code value} itself if no equal value is
+     * in use.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = canonicalInstances.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+
+        canonicalInstances.put(value, new WeakReference<>(value));
+        return value;
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.model.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues the version stamps that mutable parts of the model record whenever they are modified.
+ *
+ * Stamps increase across the whole model rather than per object, so the latest stamp among the parts of an
+ * address book increases whenever any of those parts is modified, including when a part is replaced by one
+ * that was modified earlier.
+ */
+public class ModelVersion {
+
+    private static final AtomicLong latest = new AtomicLong();
+
+    private ModelVersion() {} // prevents instantiation
+
+    /**
+     * Returns a stamp greater than all stamps issued before.
+     */
+    public static long next() {
+        return latest.incrementAndGet();
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.model.util;
+
+import java.util.function.Predicate;
+
+/**
+ * A {@code Predicate} that can tell when it only accepts values that another predicate also accepts, so that a list
+ * filtered by the other predicate can be filtered by this one by testing only the values it currently shows.
+ *
+ * @param <T> the type of the values tested.
+ */
+public interface RefinablePredicate<T> extends Predicate<T> {
+
+    /**
+     * Returns true if every value this predicate accepts is also accepted by {@code other}.
+     * Returning false is always safe, as it only means that the refinement is not recognised.
+     */
+    boolean isRefinementOf(Predicate<?> other);
+}
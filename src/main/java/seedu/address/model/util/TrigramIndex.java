@@ -0,0 +1,144 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+/**
+ * An index of elements by the trigrams, or runs of 3 characters, of a text describing each element, which finds
+ * the elements whose text could contain a given keyword without testing every element.
+ *
+ * An element whose text contains a keyword must have every trigram of the keyword, so the elements having all of
+ * them are a superset of the elements matching the keyword, which only those elements need to be tested against.
+ * Keywords shorter than a trigram cannot be looked up, and every element must be tested against them.
+ *
+ * Elements are compared by identity, and texts are indexed as given, so callers normalise the case of texts and
+ * keywords themselves.
+ *
+ * @param <T> the type of the indexed elements.
+ */
+public class TrigramIndex<T> {
+
+    public static final int TRIGRAM_LENGTH = 3;
+
+    private final Map<Long, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code element} by the trigrams of {@code text}.
+     */
+    public void add(String text, T element) {
+        requireAllNonNull(text, element);
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            postings.computeIfAbsent(trigramAt(text, i), unused -> newIdentitySet()).add(element);
+        }
+    }
+
+    /**
+     * Removes {@code element}, which was indexed by the trigrams of {@code text}, from the index.
+     */
+    public void remove(String text, T element) {
+        requireAllNonNull(text, element);
+        for (int i = 0; i + TRIGRAM_LENGTH <= text.length(); i++) {
+            Long trigram = trigramAt(text, i);
+            Set<T> elements = postings.get(trigram);
+            if (elements != null && elements.remove(element) && elements.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Removes all elements from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the elements whose text could contain any of {@code keywords}, or an empty {@code Optional} if one of
+     * the keywords is too short to be looked up, in which case any element could contain it.
+     * The returned set compares elements by identity.
+     */
+    public Optional<Set<T>> findCandidates(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        Set<T> candidates = newIdentitySet();
+        for (String keyword : keywords) {
+            if (keyword.length() < TRIGRAM_LENGTH) {
+                return Optional.empty();
+            }
+            candidates.addAll(findCandidates(keyword));
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns an upper bound on the number of elements {@link #findCandidates(Collection)} returns for
+     * {@code keywords}, or an empty {@code OptionalInt} if it returns none. Only the sizes of the postings of the
+     * trigrams are looked at, so no set of elements is built.
+     */
+    public OptionalInt estimateCandidates(Collection<String> keywords) {
+        requireAllNonNull(keywords);
+        int estimate = 0;
+        for (String keyword : keywords) {
+            if (keyword.length() < TRIGRAM_LENGTH) {
+                return OptionalInt.empty();
+            }
+            // The elements having every trigram of the keyword are at most those having its rarest trigram
+            int fewest = Integer.MAX_VALUE;
+            for (int i = 0; i + TRIGRAM_LENGTH <= keyword.length() && fewest > 0; i++) {
+                Set<T> elements = postings.get(trigramAt(keyword, i));
+                fewest = Math.min(fewest, elements == null ? 0 : elements.size());
+            }
+            estimate += fewest;
+        }
+        return OptionalInt.of(estimate);
+    }
+
+    /**
+     * Returns the elements having every trigram of {@code keyword}, which must be at least a trigram long.
+     */
+    private Set<T> findCandidates(String keyword) {
+        List<Set<T>> keywordPostings = new ArrayList<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= keyword.length(); i++) {
+            Set<T> elements = postings.get(trigramAt(keyword, i));
+            if (elements == null) {
+                return Collections.emptySet();
+            }
+            keywordPostings.add(elements);
+        }
+
+        // Starting from the fewest elements keeps the intersection small
+        keywordPostings.sort(Comparator.comparingInt(Set::size));
+        Set<T> candidates = newIdentitySet();
+        candidates.addAll(keywordPostings.get(0));
+        for (int i = 1; i < keywordPostings.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(keywordPostings.get(i));
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the trigram of {@code text} starting at {@code index}, packed into a {@code long}.
+     */
+    private static long trigramAt(String text, int index) {
+        requireNonNull(text);
+        return ((long) text.charAt(index) << (2 * Character.SIZE))
+                | ((long) text.charAt(index + 1) << Character.SIZE)
+                | text.charAt(index + 2);
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
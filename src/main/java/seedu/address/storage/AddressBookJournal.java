@@ -0,0 +1,336 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.GroupAdded;
+import seedu.address.model.AddressBookChange.GroupModified;
+import seedu.address.model.AddressBookChange.GroupRemoved;
+import seedu.address.model.AddressBookChange.GroupReplaced;
+import seedu.address.model.AddressBookChange.NotesEdited;
+import seedu.address.model.AddressBookChange.PersonAdded;
+import seedu.address.model.AddressBookChange.PersonEdited;
+import seedu.address.model.AddressBookChange.PersonRemoved;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+
+/**
+ * An append-only journal of changes made to an address book data file since it was last written in full.
+ *
+ * Each save appends one line per change the address book records since the version that is currently on disk,
+ * so saving does not look at the persons and groups that did not change. A changed group is written as it is when
+ * saved, so a group changed several times is only written once. If the changes are not all known, such as after the
+ * contents of the address book were replaced, the save compacts instead. Once the journal grows past half the size of
+ * the data file, the next save compacts it by rewriting the data file in full and starting a new journal.
+ * The journal starts with the checksum of the data file it applies to, so a journal left behind by an
+ * interrupted compaction is ignored rather than replayed onto the wrong data.
+ */
+class AddressBookJournal {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+
+    public static final String MESSAGE_UNKNOWN_SAVED_VERSION =
+            "Notes cannot be saved on their own, as the data on disk is not at the version they were edited from.";
+
+    /** Journals smaller than this are never compacted, however small the data file is. */
+    static final long MIN_COMPACTION_BYTES = 64 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final JsonAddressBookFile dataFile;
+    private final Path journalPath;
+
+    // Version of the address book whose data is on disk, or null if it is unknown and the next save has to write
+    // the data file in full.
+    private Long savedVersion;
+
+    private boolean isJournalValid;
+    private long dataFileBytes;
+    private long journalBytes;
+
+    /**
+     * Creates a journal for {@code dataFile}.
+     */
+    public AddressBookJournal(JsonAddressBookFile dataFile) {
+        requireNonNull(dataFile);
+        this.dataFile = dataFile;
+        this.journalPath = getJournalPath(dataFile.getFilePath());
+    }
+
+    /**
+     * Returns the path of the journal kept next to the data file at {@code dataFilePath}.
+     */
+    public static Path getJournalPath(Path dataFilePath) {
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Applies the changes recorded in the journal to {@code addressBook}, the contents of the data file.
+     * A journal that belongs to a different version of the data file is ignored, as is a final line that was
+     * only partially written.
+     *
+     * @param dataFileSummary the checksum and size of the data file {@code addressBook} was read from.
+     * @throws DataLoadingException if the journal could not be read or does not apply to {@code addressBook}.
+     */
+    public void replay(JsonSerializableAddressBook addressBook, JsonAddressBookFile.Summary dataFileSummary)
+            throws DataLoadingException {
+        requireAllNonNull(addressBook, dataFileSummary);
+
+        dataFileBytes = dataFileSummary.size();
+        journalBytes = 0;
+        isJournalValid = false;
+
+        if (!FileUtil.isFileExists(journalPath)) {
+            return;
+        }
+
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+
+        if (lines.isEmpty() || !isSnapshotHeader(lines.get(0), dataFileSummary.checksum())) {
+            logger.warning("Ignoring journal " + journalPath + " as it does not match " + dataFile.getFilePath());
+            return;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                    addressBook.finishApplyingJournal();
+                    return;
+                }
+                logger.warning("Error reading entry " + i + " of journal " + journalPath + ": " + e);
+                throw new DataLoadingException(e);
+            }
+
+            try {
+                entry.applyTo(addressBook);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in entry " + i + " of journal " + journalPath + ": "
+                        + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+        }
+
+        addressBook.finishApplyingJournal();
+        logger.info("Replayed " + (lines.size() - 1) + " journal entries from " + journalPath);
+        isJournalValid = true;
+        try {
+            journalBytes = Files.size(journalPath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * Records {@code addressBook} as the data currently on disk, so that the next save only journals the changes
+     * made since.
+     */
+    public void setSavedState(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        savedVersion = addressBook.getVersion();
+    }
+
+    /**
+     * Saves {@code addressBook}, appending its changes to the journal where possible and rewriting the data file
+     * in full otherwise.
+     *
+     * @return the number of bytes written.
+     * @throws IOException if there was any problem writing to the data file or the journal.
+     */
+    public long save(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        long version = addressBook.getVersion();
+        Optional<List<AddressBookChange>> changes = savedVersion == null || !isJournalValid
+                ? Optional.empty()
+                : addressBook.getChangesBetween(savedVersion, version);
+        if (changes.isEmpty()) {
+            return compact(addressBook, version);
+        }
+
+        StringBuilder entries = new StringBuilder();
+        Set<GroupName> writtenGroups = new HashSet<>();
+        Set<GroupName> writtenNotes = new HashSet<>();
+        for (AddressBookChange change : changes.get()) {
+            Optional<JsonJournalEntry> entry = toEntry(change, addressBook, writtenGroups, writtenNotes);
+            if (entry.isPresent()) {
+                entries.append(JsonUtil.toCompactJsonString(entry.get())).append('\n');
+            }
+        }
+
+        if (entries.length() == 0) {
+            savedVersion = version;
+            return 0;
+        }
+
+        byte[] bytes = entries.toString().getBytes(StandardCharsets.UTF_8);
+        if (journalBytes + bytes.length > Math.max(MIN_COMPACTION_BYTES, dataFileBytes / 2)) {
+            return compact(addressBook, version);
+        }
+
+        append(bytes, version);
+        return bytes.length;
+    }
+
+    /**
+     * Saves the dashboard notes in {@code notes}, by group name, which must be the only changes made to the address
+     * book after {@code fromVersion}, up to {@code toVersion}. Only the notes are appended to the journal, so the
+     * rest of the address book is not needed.
+     *
+     * @return the number of bytes written.
+     * @throws IOException if the data on disk is not at {@code fromVersion}, or there was any problem writing to the
+     *     journal.
+     */
+    public long saveNotes(Map<GroupName, String> notes, long fromVersion, long toVersion) throws IOException {
+        requireNonNull(notes);
+
+        if (savedVersion == null || savedVersion != fromVersion || !isJournalValid) {
+            throw new IOException(MESSAGE_UNKNOWN_SAVED_VERSION);
+        }
+
+        StringBuilder entries = new StringBuilder();
+        for (Map.Entry<GroupName, String> groupNotes : notes.entrySet()) {
+            entries.append(JsonUtil.toCompactJsonString(JsonJournalEntry.setNotes(groupNotes.getKey().fullName,
+                    groupNotes.getValue()))).append('\n');
+        }
+
+        // Compacting needs the whole address book, so a journal grown past its limit is compacted by the next save
+        byte[] bytes = entries.toString().getBytes(StandardCharsets.UTF_8);
+        append(bytes, toVersion);
+        return bytes.length;
+    }
+
+    /**
+     * Appends {@code bytes} to the journal, after which the data on disk is at {@code version}.
+     */
+    private void append(byte[] bytes, long version) throws IOException {
+        try {
+            Files.write(journalPath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            // Part of the entries may have been written, so the next save rewrites the data file in full
+            savedVersion = null;
+            throw e;
+        }
+        journalBytes += bytes.length;
+        savedVersion = version;
+    }
+
+    /**
+     * Returns the journal entry that makes {@code change} to the data on disk, or an empty {@code Optional} if
+     * it does not need one.
+     * Groups are written as they are in {@code addressBook}, so {@code writtenGroups} holds the names of the
+     * groups already written that way, which later modifications do not need to write again, and
+     * {@code writtenNotes} likewise holds the names of the groups whose notes are already written. A group that was
+     * replaced again before this save is only written with its name, as a later entry replaces it.
+     */
+    private static Optional<JsonJournalEntry> toEntry(AddressBookChange change, ReadOnlyAddressBook addressBook,
+                                                      Set<GroupName> writtenGroups, Set<GroupName> writtenNotes) {
+        if (change instanceof PersonAdded added) {
+            return Optional.of(JsonJournalEntry.addPerson(new JsonAdaptedPerson(added.person())));
+        }
+        if (change instanceof PersonEdited edited) {
+            return Optional.of(JsonJournalEntry.setPerson(edited.target().getName().fullName,
+                    new JsonAdaptedPerson(edited.edited())));
+        }
+        if (change instanceof PersonRemoved removed) {
+            return Optional.of(JsonJournalEntry.removePerson(removed.person().getName().fullName));
+        }
+        if (change instanceof GroupAdded added) {
+            return Optional.of(JsonJournalEntry.addGroup(toJsonGroup(added.name(), addressBook, writtenGroups)));
+        }
+        if (change instanceof GroupReplaced replaced) {
+            writtenGroups.remove(replaced.target());
+            return Optional.of(JsonJournalEntry.setGroup(replaced.target().fullName,
+                    toJsonGroup(replaced.edited(), addressBook, writtenGroups)));
+        }
+        if (change instanceof GroupRemoved removed) {
+            writtenGroups.remove(removed.name());
+            return Optional.of(JsonJournalEntry.removeGroup(removed.name().fullName));
+        }
+        if (change instanceof GroupModified modified) {
+            // A group that is no longer in the address book is replaced or removed by a later entry
+            if (writtenGroups.contains(modified.name()) || addressBook.getGroup(modified.name()).isEmpty()) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonJournalEntry.setGroup(modified.name().fullName,
+                    toJsonGroup(modified.name(), addressBook, writtenGroups)));
+        }
+        if (change instanceof NotesEdited edited) {
+            Optional<Group> group = addressBook.getGroup(edited.name());
+            if (writtenGroups.contains(edited.name()) || group.isEmpty() || !writtenNotes.add(edited.name())) {
+                return Optional.empty();
+            }
+            return Optional.of(JsonJournalEntry.setNotes(edited.name().fullName,
+                    group.get().getDashboard().getNotes()));
+        }
+        throw new AssertionError("Unknown change " + change);
+    }
+
+    private static JsonAdaptedGroup toJsonGroup(GroupName name, ReadOnlyAddressBook addressBook,
+                                                Set<GroupName> writtenGroups) {
+        Optional<Group> group = addressBook.getGroup(name);
+        if (group.isEmpty()) {
+            return new JsonAdaptedGroup(new Group(name));
+        }
+        writtenGroups.add(name);
+        return new JsonAdaptedGroup(group.get());
+    }
+
+    /**
+     * Rewrites the data file with {@code addressBook}, which is at {@code version}, and starts a new, empty journal
+     * for it.
+     *
+     * @return the number of bytes written to the data file and the journal.
+     */
+    private long compact(ReadOnlyAddressBook addressBook, long version) throws IOException {
+        savedVersion = null;
+        JsonAddressBookFile.Summary dataFileSummary = dataFile.write(addressBook);
+
+        // The data file is written first, so a crash in between leaves a journal that no longer matches it
+        String header = JsonUtil.toCompactJsonString(JsonJournalEntry.snapshot(dataFileSummary.checksum())) + "\n";
+        FileUtil.writeToFile(journalPath, header);
+
+        logger.fine(() -> "Compacted journal " + journalPath + " into " + dataFile.getFilePath());
+        dataFileBytes = dataFileSummary.size();
+        journalBytes = header.getBytes(StandardCharsets.UTF_8).length;
+        isJournalValid = true;
+        savedVersion = version;
+        return dataFileBytes + journalBytes;
+    }
+
+    private static boolean isSnapshotHeader(String line, long checksum) {
+        try {
+            return JsonUtil.fromJsonString(line, JsonJournalEntry.class).isSnapshotOf(checksum);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -2,10 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.GroupName;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -42,4 +45,25 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook} to the storage, without necessarily waiting for it to be written.
+     * @param addressBook cannot be null.
+     * @return a future that completes once the address book has been written, or completes exceptionally with the
+     *     {@code IOException} if it could not be written.
+     */
+    CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Saves the dashboard notes in {@code notes}, by group name, which must be the only changes made to the address
+     * book after {@code fromVersion}, up to {@code toVersion}, without the rest of the address book.
+     * @throws IOException if the saved address book is not at {@code fromVersion}, or there was any problem writing
+     *     to the file.
+     */
+    void saveDashboardNotes(Map<GroupName, String> notes, long fromVersion, long toVersion) throws IOException;
+
+    /**
+     * Blocks until every save requested so far has been written to the storage.
+     */
+    void flush();
+
 }
@@ -0,0 +1,402 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookChange.NotesEdited;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+
+/**
+ * An {@code AddressBookStorage} that writes to another {@code AddressBookStorage} in the background.
+ *
+ * Saving takes a snapshot of the address book and returns without waiting for it to be written.
+ * Snapshots are written one at a time by a single background thread, and a snapshot that is superseded
+ * by a newer one for the same file before it is written is skipped. Reads are also done by the background
+ * thread, after all earlier saves have been written.
+ * Since saves do not throw, failures are reported to the handler set by {@link #setSaveFailureHandler(Consumer)},
+ * and to the futures returned by {@link #saveAddressBookAsync(ReadOnlyAddressBook)}. The future of a skipped
+ * snapshot completes with the snapshot that superseded it.
+ *
+ * If the only changes to the address book since the last save to this storage's own file are edited dashboard
+ * notes, such as when notes are saved as they are typed, no snapshot is taken. Only the edited notes are saved,
+ * after any snapshot still waiting to be written, and are merged with notes edited later until they are written.
+ */
+public class AsyncAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookStorage.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBookWriter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Latest save waiting to be written for each file, guarded by this
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+    private boolean isWriteScheduled;
+
+    // Version of the address book in this storage's own file once the saves requested so far are written, or null
+    // if it is unknown, such as after a save failed. Guarded by this.
+    private Long enqueuedVersion;
+
+    private volatile Consumer<IOException> saveFailureHandler = e -> {};
+
+    /**
+     * Creates an {@code AsyncAddressBookStorage} that reads from and writes to {@code addressBookStorage}.
+     */
+    public AsyncAddressBookStorage(AddressBookStorage addressBookStorage) {
+        requireNonNull(addressBookStorage);
+        this.addressBookStorage = addressBookStorage;
+    }
+
+    /**
+     * Sets the handler called with the exception of every save that could not be written.
+     * The handler is called on the background thread.
+     */
+    public void setSaveFailureHandler(Consumer<IOException> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        this.saveFailureHandler = saveFailureHandler;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return addressBookStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        Optional<ReadOnlyAddressBook> addressBook = runInBackground(() -> addressBookStorage.readAddressBook(filePath));
+        if (filePath.equals(getAddressBookFilePath())) {
+            synchronized (this) {
+                enqueuedVersion = addressBook.map(ReadOnlyAddressBook::getVersion).orElse(null);
+            }
+        }
+        return addressBook;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        saveAddressBookAsync(addressBook, filePath);
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook) {
+        return saveAddressBookAsync(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBookAsync(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        long version = addressBook.getVersion();
+        Long savedVersion = null;
+        if (filePath.equals(getAddressBookFilePath())) {
+            synchronized (this) {
+                savedVersion = enqueuedVersion;
+            }
+        }
+        Optional<Map<GroupName, String>> editedNotes = savedVersion == null
+                ? Optional.empty()
+                : findEditedNotes(addressBook, savedVersion, version);
+        if (editedNotes.isPresent()) {
+            return enqueueNotes(editedNotes.get(), savedVersion, version);
+        }
+
+        PendingSave save = new PendingSave(new Snapshot(addressBook), version);
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        synchronized (this) {
+            PendingSave superseded = pendingSaves.put(filePath, save);
+            if (superseded != null) {
+                save.futures.addAll(superseded.futures);
+            }
+            save.futures.add(written);
+            if (filePath.equals(getAddressBookFilePath())) {
+                enqueuedVersion = version;
+            }
+            scheduleWrite();
+        }
+        return written;
+    }
+
+    /**
+     * Saves the notes after every save requested so far, and waits for them to be written.
+     */
+    @Override
+    public void saveDashboardNotes(Map<GroupName, String> notes, long fromVersion, long toVersion)
+            throws IOException {
+        requireNonNull(notes);
+        try {
+            enqueueNotes(new LinkedHashMap<>(notes), fromVersion, toVersion).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Returns the notes edited in {@code addressBook} after {@code fromVersion}, up to {@code toVersion}, by group
+     * name, if they are the only changes made in between.
+     */
+    private static Optional<Map<GroupName, String>> findEditedNotes(ReadOnlyAddressBook addressBook,
+                                                                    long fromVersion, long toVersion) {
+        Optional<List<AddressBookChange>> changes = addressBook.getChangesBetween(fromVersion, toVersion);
+        if (changes.isEmpty() || changes.get().isEmpty()) {
+            return Optional.empty();
+        }
+
+        Map<GroupName, String> notes = new LinkedHashMap<>();
+        for (AddressBookChange change : changes.get()) {
+            if (!(change instanceof NotesEdited edited)) {
+                return Optional.empty();
+            }
+            Optional<Group> group = addressBook.getGroup(edited.name());
+            if (group.isEmpty()) {
+                return Optional.empty();
+            }
+            notes.put(edited.name(), group.get().getDashboard().getNotes());
+        }
+        return Optional.of(notes);
+    }
+
+    /**
+     * Saves {@code notes}, edited after {@code fromVersion} up to {@code toVersion}, to this storage's own file
+     * after the save already waiting to be written to it, if any.
+     */
+    private CompletableFuture<Void> enqueueNotes(Map<GroupName, String> notes, long fromVersion, long toVersion) {
+        CompletableFuture<Void> written = new CompletableFuture<>();
+        synchronized (this) {
+            PendingSave save = pendingSaves.computeIfAbsent(getAddressBookFilePath(), unused ->
+                    new PendingSave(null, fromVersion));
+            save.addNotes(notes, toVersion);
+            save.futures.add(written);
+            enqueuedVersion = toVersion;
+            scheduleWrite();
+        }
+        return written;
+    }
+
+    /**
+     * Has the background thread write the pending saves, unless it is already going to.
+     * Must be called while holding the lock on this.
+     */
+    private void scheduleWrite() {
+        if (isWriteScheduled) {
+            return;
+        }
+        isWriteScheduled = true;
+        executor.execute(this::writePendingSaves);
+    }
+
+    /**
+     * Blocks until every save requested so far has been written, or has failed.
+     */
+    @Override
+    public void flush() {
+        try {
+            runInBackground(() -> null);
+        } catch (DataLoadingException e) {
+            throw new AssertionError("Flushing does not load data.", e);
+        }
+    }
+
+    /**
+     * Writes pending snapshots until there are none left.
+     */
+    private void writePendingSaves() {
+        while (true) {
+            Path filePath;
+            PendingSave save;
+            synchronized (this) {
+                Iterator<Map.Entry<Path, PendingSave>> pending = pendingSaves.entrySet().iterator();
+                if (!pending.hasNext()) {
+                    isWriteScheduled = false;
+                    return;
+                }
+                Map.Entry<Path, PendingSave> next = pending.next();
+                filePath = next.getKey();
+                save = next.getValue();
+                pending.remove();
+            }
+
+            try {
+                if (save.snapshot != null) {
+                    addressBookStorage.saveAddressBook(save.snapshot, filePath);
+                }
+                if (!save.notes.isEmpty()) {
+                    addressBookStorage.saveDashboardNotes(save.notes, save.baseVersion, save.version);
+                }
+                save.futures.forEach(future -> future.complete(null));
+            } catch (IOException e) {
+                logger.warning("Failed to save address book to " + filePath + ": " + StringUtil.getDetails(e));
+                forgetEnqueuedVersion(filePath);
+                saveFailureHandler.accept(e);
+                save.futures.forEach(future -> future.completeExceptionally(e));
+            } catch (RuntimeException e) {
+                // Lets the next save schedule a new write, rather than waiting for this one forever
+                synchronized (this) {
+                    isWriteScheduled = false;
+                }
+                forgetEnqueuedVersion(filePath);
+                save.futures.forEach(future -> future.completeExceptionally(e));
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Has the next save to {@code filePath} take a snapshot, as the version of the address book in it is no longer
+     * known after a failed save.
+     */
+    private synchronized void forgetEnqueuedVersion(Path filePath) {
+        if (filePath.equals(getAddressBookFilePath())) {
+            enqueuedVersion = null;
+        }
+    }
+
+    /**
+     * Runs {@code task} on the background thread after all earlier saves, and returns its result.
+     */
+    private <T> T runInBackground(Callable<T> task) throws DataLoadingException {
+        try {
+            return executor.submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DataLoadingException(e);
+        }
+    }
+
+    /**
+     * A snapshot, notes edited after it, or both, waiting to be written, with the futures of the saves they are
+     * written for.
+     */
+    private static class PendingSave {
+        // Null if only notes were edited since the last save
+        private final ReadOnlyAddressBook snapshot;
+        // Version of the snapshot, or of the saved address book the notes were edited from
+        private final long baseVersion;
+        private final Map<GroupName, String> notes = new LinkedHashMap<>();
+        private long version;
+        private final List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        PendingSave(ReadOnlyAddressBook snapshot, long baseVersion) {
+            this.snapshot = snapshot;
+            this.baseVersion = baseVersion;
+            this.version = baseVersion;
+        }
+
+        void addNotes(Map<GroupName, String> editedNotes, long newVersion) {
+            notes.putAll(editedNotes);
+            version = newVersion;
+        }
+    }
+
+    /**
+     * A copy of an address book that is not affected by later changes to it.
+     * Persons are immutable and shared with the original, while groups are snapshots, which share the members and
+     * events of groups that have not been modified since the last save. The changes made up to the snapshot are
+     * read from the original.
+     *
+     * @see Group#snapshot()
+     */
+    private static class Snapshot implements ReadOnlyAddressBook {
+        private final ObservableList<Person> persons;
+        private final ObservableList<Group> groups;
+        private final Map<GroupName, Group> groupsByName = new HashMap<>();
+        private final ReadOnlyAddressBook source;
+        private final long version;
+
+        Snapshot(ReadOnlyAddressBook source) {
+            persons = FXCollections.observableArrayList(source.getPersonList());
+            groups = FXCollections.observableArrayList(source.getGroupList().stream().map(Group::snapshot)
+                    .toList());
+            groups.forEach(group -> groupsByName.put(group.getName(), group));
+            this.source = source;
+            version = source.getVersion();
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return FXCollections.unmodifiableObservableList(persons);
+        }
+
+        @Override
+        public ObservableList<Group> getGroupList() {
+            return FXCollections.unmodifiableObservableList(groups);
+        }
+
+        @Override
+        public Optional<Group> getGroup(GroupName name) {
+            return Optional.ofNullable(groupsByName.get(name));
+        }
+
+        @Override
+        public long getVersion() {
+            return version;
+        }
+
+        @Override
+        public Optional<List<AddressBookChange>> getChangesBetween(long fromVersion, long toVersion) {
+            return source.getChangesBetween(fromVersion, Math.min(toVersion, version));
+        }
+    }
+}
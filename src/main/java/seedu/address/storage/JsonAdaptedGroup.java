@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -18,6 +20,9 @@ import seedu.address.storage.event.JsonAdaptedEvent;
 
 /**
  * Jackson-friendly version of {@link Group}.
+ *
+ * Members are stored as the names of persons in the address book. Older files store a full copy of every member
+ * instead, which is still accepted when reading.
  */
 class JsonAdaptedGroup {
 
@@ -28,7 +33,9 @@ class JsonAdaptedGroup {
     public static final String MESSAGE_INVALID_GROUP_DASHBOARD = "Group %s dashboard notes should not be null.";
 
     private final String groupName;
-    private final List<JsonAdaptedPerson> persons = new ArrayList<>();
+    private final List<String> members = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final List<JsonAdaptedPerson> persons;
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
     private final String repoLink;
     private final String dashboardNotes;
@@ -39,12 +46,16 @@ class JsonAdaptedGroup {
      */
     @JsonCreator
     public JsonAdaptedGroup(@JsonProperty("name") String groupName,
+                            @JsonProperty("members") List<String> members,
                             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                             @JsonProperty("events") List<JsonAdaptedEvent> events,
                             @JsonProperty("repoLink") String repoLink,
                             @JsonProperty("dashboardNotes") String dashboardNotes) {
         this.groupName = groupName;
-        this.persons.addAll(persons);
+        if (members != null) {
+            this.members.addAll(members);
+        }
+        this.persons = persons;
         this.events.addAll(events);
         this.repoLink = repoLink;
         this.dashboardNotes = dashboardNotes;
@@ -55,20 +66,36 @@ class JsonAdaptedGroup {
      */
     public JsonAdaptedGroup(Group source) {
         groupName = source.getName().fullName;
-        persons.addAll(source.getPersons()
-                .stream().map(JsonAdaptedPerson::new).toList());
+        members.addAll(source.getPersons()
+                .stream().map(person -> person.getName().fullName).toList());
+        persons = null;
         events.addAll(source.getEvents()
                 .stream().map(JsonAdaptedEvent::new).toList());
         repoLink = source.getRepoLink().toString();
         dashboardNotes = source.getDashboard().getNotes();
     }
 
+    /**
+     * Returns the name of the group, as it is stored.
+     */
+    String getName() {
+        return groupName;
+    }
+
+    /**
+     * Returns a copy of this group with {@code dashboardNotes} as its notes.
+     */
+    JsonAdaptedGroup withDashboardNotes(String dashboardNotes) {
+        return new JsonAdaptedGroup(groupName, members, persons, events, repoLink, dashboardNotes);
+    }
+
     /**
      * Converts this Jackson-friendly adapted group object into the model's {@code group} object.
+     * Members are resolved to the persons in {@code personsByName}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted group.
      */
-    public Group toModelType() throws IllegalValueException {
+    public Group toModelType(Map<Name, Person> personsByName) throws IllegalValueException {
         if (groupName == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
                     GroupName.class.getSimpleName()));
@@ -80,8 +107,7 @@ class JsonAdaptedGroup {
         final Group group = new Group(modelName);
 
         // Populate member list
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
+        for (Person person : resolveMembers(personsByName)) {
             if (group.containsPerson(person)) {
                 throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PERSON, groupName));
             }
@@ -109,4 +135,38 @@ class JsonAdaptedGroup {
 
         return group.setRepoLink(RepoLink.fromStorage(repoLink));
     }
+
+    /**
+     * Returns the persons in {@code personsByName} that are members of this group.
+     *
+     * @throws IllegalValueException if a member is not in {@code personsByName}, or is a copy that differs from it.
+     */
+    private List<Person> resolveMembers(Map<Name, Person> personsByName) throws IllegalValueException {
+        List<Person> resolved = new ArrayList<>();
+        for (String member : members) {
+            if (!Name.isValidName(member)) {
+                throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+            }
+            Person person = personsByName.get(new Name(member));
+            if (person == null) {
+                throw new IllegalValueException(String.format(
+                        JsonSerializableAddressBook.MESSAGE_NON_EXISTENT_PERSON_IN_GROUP, groupName, member));
+            }
+            resolved.add(person);
+        }
+
+        // Migrates files that store a copy of every member
+        if (persons != null) {
+            for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
+                Person copy = jsonAdaptedPerson.toModelType();
+                Person person = personsByName.get(copy.getName());
+                if (!copy.equals(person)) {
+                    throw new IllegalValueException(String.format(
+                            JsonSerializableAddressBook.MESSAGE_NON_EXISTENT_PERSON_IN_GROUP, groupName, copy));
+                }
+                resolved.add(person);
+            }
+        }
+        return resolved;
+    }
 }
@@ -47,13 +47,20 @@ class JsonAdaptedPerson {
      */
     public JsonAdaptedPerson(Person source) {
         name = source.getName().fullName;
-        phone = source.getPhone().value;
-        email = source.getEmail().value;
+        phone = source.getPhone().toString();
+        email = source.getEmail().toString();
         groupNames.addAll(source.getGroups().stream()
             .map(GroupName::toString)
             .toList());
     }
 
+    /**
+     * Returns the name of the person, as it is stored.
+     */
+    String getName() {
+        return name;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+/**
+ * The json data file of an address book.
+ *
+ * The file is either read and written as a whole, going through a {@code String} holding all of its text, or
+ * streamed one person or group at a time. Both produce the same file, but streaming does not hold the whole text
+ * in memory.
+ */
+class JsonAddressBookFile {
+
+    private static final String FORMAT_VERSION_FIELD = "formatVersion";
+    private static final String PERSONS_FIELD = "persons";
+    private static final String GROUPS_FIELD = "groups";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path filePath;
+    private final boolean isStreaming;
+
+    /**
+     * Creates a {@code JsonAddressBookFile} for the file at {@code filePath}.
+     *
+     * @param isStreaming whether the file is streamed rather than read and written as a whole.
+     */
+    public JsonAddressBookFile(Path filePath, boolean isStreaming) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isStreaming = isStreaming;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Reads the file, which must exist.
+     *
+     * @throws IOException if the file could not be read or is not a valid address book json file.
+     */
+    public Contents read() throws IOException {
+        return isStreaming ? readStreaming() : readWhole();
+    }
+
+    /**
+     * Writes {@code addressBook} to the file, replacing its contents.
+     *
+     * @return the checksum and size of the written file.
+     * @throws IOException if the file could not be written.
+     */
+    public Summary write(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        return isStreaming ? writeStreaming(addressBook) : writeWhole(addressBook);
+    }
+
+    private Contents readWhole() throws IOException {
+        byte[] bytes = Files.readAllBytes(filePath);
+        JsonSerializableAddressBook addressBook = JsonUtil.fromJsonString(new String(bytes, StandardCharsets.UTF_8),
+                JsonSerializableAddressBook.class);
+        return new Contents(addressBook, new Summary(checksum(bytes), bytes.length));
+    }
+
+    private Summary writeWhole(ReadOnlyAddressBook addressBook) throws IOException {
+        String content = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook));
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        Files.write(filePath, bytes);
+        return new Summary(checksum(bytes), bytes.length);
+    }
+
+    private Contents readStreaming() throws IOException {
+        Integer formatVersion = null;
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        List<JsonAdaptedGroup> groups = new ArrayList<>();
+
+        CheckedInputStream in = new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE), new CRC32());
+        try (JsonParser parser = JsonUtil.createParser(in)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (FORMAT_VERSION_FIELD.equals(fieldName)) {
+                    formatVersion = parser.readValueAs(Integer.class);
+                } else if (PERSONS_FIELD.equals(fieldName)) {
+                    readArray(parser, value, JsonAdaptedPerson.class, persons);
+                } else if (GROUPS_FIELD.equals(fieldName)) {
+                    readArray(parser, value, JsonAdaptedGroup.class, groups);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            expect(parser, parser.getCurrentToken(), JsonToken.END_OBJECT);
+
+            // Reads any trailing whitespace, so that the checksum covers the whole file
+            in.transferTo(OutputStream.nullOutputStream());
+            return new Contents(new JsonSerializableAddressBook(formatVersion, persons, groups),
+                    new Summary(in.getChecksum().getValue(), Files.size(filePath)));
+        }
+    }
+
+    private static <T> void readArray(JsonParser parser, JsonToken start, Class<T> elementClass, List<T> elements)
+            throws IOException {
+        if (start == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, start, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elements.add(parser.readValueAs(elementClass));
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    private Summary writeStreaming(ReadOnlyAddressBook addressBook) throws IOException {
+        CheckedOutputStream out = new CheckedOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(filePath), BUFFER_SIZE), new CRC32());
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeNumberField(FORMAT_VERSION_FIELD, JsonSerializableAddressBook.FORMAT_VERSION);
+            generator.writeArrayFieldStart(PERSONS_FIELD);
+            for (Person person : addressBook.getPersonList()) {
+                generator.writeObject(new JsonAdaptedPerson(person));
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart(GROUPS_FIELD);
+            for (Group group : addressBook.getGroupList()) {
+                generator.writeObject(new JsonAdaptedGroup(group));
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+        }
+        return new Summary(out.getChecksum().getValue(), Files.size(filePath));
+    }
+
+    private static long checksum(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * The checksum and size in bytes of the file.
+     */
+    record Summary(long checksum, long size) {}
+
+    /**
+     * The address book read from the file, along with the checksum and size of the file.
+     */
+    record Contents(JsonSerializableAddressBook addressBook, Summary summary) {}
+}
@@ -3,28 +3,52 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.jfr.AddressBookLoadedEvent;
+import seedu.address.commons.jfr.AddressBookSavedEvent;
 import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.GroupName;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * Changes are appended to a journal next to the json file, which is replayed when the data is read.
+ * The json file can be streamed instead of being read and written as a whole, which uses less memory.
+ *
+ * @see AddressBookJournal
+ * @see JsonAddressBookFile
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private boolean isStreaming;
+    private AddressBookJournal journal;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the json file at {@code filePath}.
+     *
+     * @param isStreaming whether json files are streamed rather than read and written as a whole.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isStreaming) {
         this.filePath = filePath;
+        this.isStreaming = isStreaming;
+        this.journal = new AddressBookJournal(new JsonAddressBookFile(filePath, isStreaming));
     }
 
     public Path getAddressBookFilePath() {
@@ -45,18 +69,41 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
+        logger.info("JSON file " + filePath + " found.");
+
+        AddressBookLoadedEvent event = new AddressBookLoadedEvent();
+        event.begin();
+        JsonAddressBookFile.Contents contents;
+        try {
+            contents = new JsonAddressBookFile(filePath, isStreaming).read();
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
 
+        JsonSerializableAddressBook jsonAddressBook = contents.addressBook();
+        AddressBookJournal fileJournal = getJournal(filePath);
+        fileJournal.replay(jsonAddressBook, contents.summary());
+
+        AddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            addressBook = jsonAddressBook.toModelType();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        fileJournal.setSavedState(addressBook);
+
+        event.setFilePath(filePath.toString());
+        event.setBytes(contents.summary().size());
+        event.setPersonCount(addressBook.getPersonList().size());
+        event.setGroupCount(addressBook.getGroupList().size());
+        event.commit();
+        return Optional.of(addressBook);
     }
 
     @Override
@@ -73,8 +120,54 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookSavedEvent event = new AddressBookSavedEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        long bytes = getJournal(filePath).save(addressBook);
+
+        event.setFilePath(filePath.toString());
+        event.setBytes(bytes);
+        event.setPersonCount(addressBook.getPersonList().size());
+        event.setGroupCount(addressBook.getGroupList().size());
+        event.commit();
+    }
+
+    /**
+     * Writes the address book before returning, so the returned future has already completed.
+     */
+    @Override
+    public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook) {
+        try {
+            saveAddressBook(addressBook);
+            return CompletableFuture.completedFuture(null);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public void saveDashboardNotes(Map<GroupName, String> notes, long fromVersion, long toVersion)
+            throws IOException {
+        requireNonNull(notes);
+        journal.saveNotes(notes, fromVersion, toVersion);
+    }
+
+    /**
+     * Does nothing, as saves are written before {@link #saveAddressBook(ReadOnlyAddressBook)} returns.
+     */
+    @Override
+    public void flush() {
+        // Nothing to flush
+    }
+
+    /**
+     * Returns the journal of the data file at {@code filePath}.
+     * Only the journal of this storage's own data file keeps track of what is on disk between calls.
+     */
+    private AddressBookJournal getJournal(Path filePath) {
+        return filePath.equals(this.filePath)
+                ? journal
+                : new AddressBookJournal(new JsonAddressBookFile(filePath, isStreaming));
     }
 
 }
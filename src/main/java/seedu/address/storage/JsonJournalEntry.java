@@ -0,0 +1,164 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of a single line in the address book journal.
+ *
+ * The first line of a journal is a snapshot entry, which records the checksum of the data file the journal
+ * applies to. Every following line changes a single person or group: an add entry appends the person (or group)
+ * it carries, a set entry replaces the person (or group) named {@code key} with the one it carries, and a remove
+ * entry removes the person (or group) named {@code key}. A notes entry sets the dashboard notes of the group named
+ * {@code key}, without carrying the rest of the group.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonJournalEntry {
+
+    public static final String TYPE_SNAPSHOT = "snapshot";
+    public static final String TYPE_ADD_PERSON = "addPerson";
+    public static final String TYPE_SET_PERSON = "setPerson";
+    public static final String TYPE_REMOVE_PERSON = "removePerson";
+    public static final String TYPE_ADD_GROUP = "addGroup";
+    public static final String TYPE_SET_GROUP = "setGroup";
+    public static final String TYPE_REMOVE_GROUP = "removeGroup";
+    public static final String TYPE_SET_NOTES = "setNotes";
+
+    public static final String MESSAGE_UNKNOWN_TYPE = "Journal entry has unknown type %s.";
+    public static final String MESSAGE_MISSING_CONTENT = "Journal entry of type %s is missing its %s.";
+
+    private final String type;
+    private final Long checksum;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedGroup group;
+    private final String notes;
+
+    /**
+     * Constructs a {@code JsonJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonJournalEntry(@JsonProperty("type") String type,
+                            @JsonProperty("checksum") Long checksum,
+                            @JsonProperty("key") String key,
+                            @JsonProperty("person") JsonAdaptedPerson person,
+                            @JsonProperty("group") JsonAdaptedGroup group,
+                            @JsonProperty("notes") String notes) {
+        this.type = type;
+        this.checksum = checksum;
+        this.key = key;
+        this.person = person;
+        this.group = group;
+        this.notes = notes;
+    }
+
+    /**
+     * Returns a snapshot entry for a data file with the given {@code checksum}.
+     */
+    public static JsonJournalEntry snapshot(long checksum) {
+        return new JsonJournalEntry(TYPE_SNAPSHOT, checksum, null, null, null, null);
+    }
+
+    /**
+     * Returns an entry that appends {@code person}.
+     */
+    public static JsonJournalEntry addPerson(JsonAdaptedPerson person) {
+        return new JsonJournalEntry(TYPE_ADD_PERSON, null, null, person, null, null);
+    }
+
+    /**
+     * Returns an entry that replaces the person named {@code key} with {@code person}.
+     */
+    public static JsonJournalEntry setPerson(String key, JsonAdaptedPerson person) {
+        return new JsonJournalEntry(TYPE_SET_PERSON, null, key, person, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code key}.
+     */
+    public static JsonJournalEntry removePerson(String key) {
+        return new JsonJournalEntry(TYPE_REMOVE_PERSON, null, key, null, null, null);
+    }
+
+    /**
+     * Returns an entry that appends {@code group}.
+     */
+    public static JsonJournalEntry addGroup(JsonAdaptedGroup group) {
+        return new JsonJournalEntry(TYPE_ADD_GROUP, null, null, null, group, null);
+    }
+
+    /**
+     * Returns an entry that replaces the group named {@code key} with {@code group}.
+     */
+    public static JsonJournalEntry setGroup(String key, JsonAdaptedGroup group) {
+        return new JsonJournalEntry(TYPE_SET_GROUP, null, key, null, group, null);
+    }
+
+    /**
+     * Returns an entry that removes the group named {@code key}.
+     */
+    public static JsonJournalEntry removeGroup(String key) {
+        return new JsonJournalEntry(TYPE_REMOVE_GROUP, null, key, null, null, null);
+    }
+
+    /**
+     * Returns an entry that sets the dashboard notes of the group named {@code key} to {@code notes}.
+     */
+    public static JsonJournalEntry setNotes(String key, String notes) {
+        return new JsonJournalEntry(TYPE_SET_NOTES, null, key, null, null, notes);
+    }
+
+    /**
+     * Returns true if this entry is a snapshot entry for a data file with the given {@code checksum}.
+     */
+    public boolean isSnapshotOf(long checksum) {
+        return TYPE_SNAPSHOT.equals(type) && this.checksum != null && this.checksum == checksum;
+    }
+
+    /**
+     * Applies this change entry to {@code addressBook}.
+     *
+     * @throws IllegalValueException if this entry is not a valid change of {@code addressBook}.
+     */
+    public void applyTo(JsonSerializableAddressBook addressBook) throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+
+        switch (type) {
+        case TYPE_ADD_PERSON:
+            addressBook.addPerson(require(person, "person"));
+            break;
+        case TYPE_SET_PERSON:
+            addressBook.setPerson(require(key, "key"), require(person, "person"));
+            break;
+        case TYPE_REMOVE_PERSON:
+            addressBook.removePerson(require(key, "key"));
+            break;
+        case TYPE_ADD_GROUP:
+            addressBook.addGroup(require(group, "group"));
+            break;
+        case TYPE_SET_GROUP:
+            addressBook.setGroup(require(key, "key"), require(group, "group"));
+            break;
+        case TYPE_REMOVE_GROUP:
+            addressBook.removeGroup(require(key, "key"));
+            break;
+        case TYPE_SET_NOTES:
+            addressBook.setGroupNotes(require(key, "key"), require(notes, "notes"));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+        }
+    }
+
+    private <T> T require(T content, String contentName) throws IllegalValueException {
+        if (content == null) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_CONTENT, type, contentName));
+        }
+        return content;
+    }
+}
@@ -1,42 +1,67 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ *
+ * Files without a {@code formatVersion} are version 1, in which groups store a copy of every member.
+ * From version 2, groups store the names of their members instead.
  */
 @JsonRootName(value = "addressbook")
+@JsonPropertyOrder({"formatVersion", "persons", "groups"})
 class JsonSerializableAddressBook {
 
+    public static final int FORMAT_VERSION = 2;
+
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_GROUP = "Groups list contains duplicate group(s).";
     public static final String MESSAGE_NON_EXISTENT_PERSON_IN_GROUP = "Group %s contains a non-existent person %s";
     public static final String MESSAGE_NON_EXISTENT_GROUP_IN_PERSON = "Person %s contains a non-existent group %s";
     public static final String MESSAGE_GROUP_AND_PERSON_CONFLICT =
             "Person %s group-list conflict with group %s person-list";
+    public static final String MESSAGE_UNKNOWN_JOURNAL_KEY = "Journal entry refers to %s %s, which does not exist.";
+    public static final String MESSAGE_UNSUPPORTED_FORMAT_VERSION =
+            "Data file format version %d is newer than the supported version " + FORMAT_VERSION + ".";
 
+    private final int formatVersion;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedGroup> groups = new ArrayList<>();
 
+    // Positions of the persons and groups by their keys, only built once journal entries are applied.
+    // Removed persons and groups are left as null until the journal has been applied, so positions stay valid.
+    @JsonIgnore
+    private Map<String, Integer> personPositions;
+    @JsonIgnore
+    private Map<String, Integer> groupPositions;
+
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("formatVersion") Integer formatVersion,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("groups") List<JsonAdaptedGroup> groups) {
+        this.formatVersion = formatVersion == null ? 1 : formatVersion;
         this.persons.addAll(persons);
         this.groups.addAll(groups);
     }
@@ -47,6 +72,7 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        formatVersion = FORMAT_VERSION;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).toList());
         groups.addAll(source.getGroupList().stream().map(JsonAdaptedGroup::new).toList());
     }
@@ -57,7 +83,14 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
+        if (formatVersion > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_FORMAT_VERSION, formatVersion));
+        }
+
         AddressBook addressBook = new AddressBook();
+        // Temporary indexes, so that each reference between persons and groups is checked in constant time
+        Map<Name, Person> personsByName = new HashMap<>();
+        Map<GroupName, Group> groupsByName = new HashMap<>();
         // Add persons
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
@@ -65,51 +98,164 @@ class JsonSerializableAddressBook {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
             addressBook.addPerson(person);
+            personsByName.put(person.getName(), person);
         }
-        // Add groups
+        // Add groups, whose members must be in the persons list
         for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
-            Group group = jsonAdaptedGroup.toModelType();
+            Group group = jsonAdaptedGroup.toModelType(personsByName);
             if (addressBook.hasGroup(group)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_GROUP);
             }
-            checkExistenceOfPersonsInGroup(group, addressBook.getPersonList());
             addressBook.addGroup(group);
+            groupsByName.put(group.getName(), group);
         }
 
         for (Person person : addressBook.getPersonList()) {
-            checkExistenceOfGroupsInPerson(addressBook, person);
+            checkExistenceOfGroupsInPerson(groupsByName, person);
         }
 
         return addressBook;
     }
 
-    private void checkExistenceOfPersonsInGroup(Group group, ObservableList<Person> globalPersonList)
+    /**
+     * Appends {@code person} to the persons list.
+     */
+    void addPerson(JsonAdaptedPerson person) {
+        add(persons, getPersonPositions(), toPersonKey(person.getName()), person);
+    }
+
+    /**
+     * Replaces the person named {@code key} with {@code person}, in the same position.
+     *
+     * @throws IllegalValueException if there is no person named {@code key}.
+     */
+    void setPerson(String key, JsonAdaptedPerson person) throws IllegalValueException {
+        set(persons, getPersonPositions(), "person", toPersonKey(key), toPersonKey(person.getName()), person);
+    }
+
+    /**
+     * Removes the person named {@code key}.
+     *
+     * @throws IllegalValueException if there is no person named {@code key}.
+     */
+    void removePerson(String key) throws IllegalValueException {
+        remove(persons, getPersonPositions(), "person", toPersonKey(key));
+    }
+
+    /**
+     * Appends {@code group} to the groups list.
+     */
+    void addGroup(JsonAdaptedGroup group) {
+        add(groups, getGroupPositions(), group.getName(), group);
+    }
+
+    /**
+     * Replaces the group named {@code key} with {@code group}, in the same position.
+     *
+     * @throws IllegalValueException if there is no group named {@code key}.
+     */
+    void setGroup(String key, JsonAdaptedGroup group) throws IllegalValueException {
+        set(groups, getGroupPositions(), "group", key, group.getName(), group);
+    }
+
+    /**
+     * Removes the group named {@code key}.
+     *
+     * @throws IllegalValueException if there is no group named {@code key}.
+     */
+    void removeGroup(String key) throws IllegalValueException {
+        remove(groups, getGroupPositions(), "group", key);
+    }
+
+    /**
+     * Sets the dashboard notes of the group named {@code key} to {@code notes}.
+     *
+     * @throws IllegalValueException if there is no group named {@code key}.
+     */
+    void setGroupNotes(String key, String notes) throws IllegalValueException {
+        Integer position = getGroupPositions().get(key);
+        if (position == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_JOURNAL_KEY, "group", key));
+        }
+        groups.set(position, groups.get(position).withDashboardNotes(notes));
+    }
+
+    /**
+     * Drops the persons and groups removed by the journal entries applied so far, which moves the others.
+     */
+    void finishApplyingJournal() {
+        persons.removeIf(Objects::isNull);
+        groups.removeIf(Objects::isNull);
+        personPositions = null;
+        groupPositions = null;
+    }
+
+    private Map<String, Integer> getPersonPositions() {
+        if (personPositions == null) {
+            personPositions = indexPositions(persons, person -> toPersonKey(person.getName()));
+        }
+        return personPositions;
+    }
+
+    private Map<String, Integer> getGroupPositions() {
+        if (groupPositions == null) {
+            groupPositions = indexPositions(groups, JsonAdaptedGroup::getName);
+        }
+        return groupPositions;
+    }
+
+    /**
+     * Returns the key that persons named {@code name} are found by, which ignores case as names do.
+     */
+    private static String toPersonKey(String name) {
+        return name == null ? null : Name.toCanonical(name);
+    }
+
+    private static <T> Map<String, Integer> indexPositions(List<T> list, Function<T, String> toKey) {
+        Map<String, Integer> positions = new HashMap<>();
+        for (int i = 0; i < list.size(); i++) {
+            positions.put(toKey.apply(list.get(i)), i);
+        }
+        return positions;
+    }
+
+    private static <T> void add(List<T> list, Map<String, Integer> positions, String key, T element) {
+        positions.put(key, list.size());
+        list.add(element);
+    }
+
+    private static <T> void set(List<T> list, Map<String, Integer> positions, String kind, String key,
+                                String newKey, T element) throws IllegalValueException {
+        int position = removePosition(positions, kind, key);
+        list.set(position, element);
+        positions.put(newKey, position);
+    }
+
+    private static <T> void remove(List<T> list, Map<String, Integer> positions, String kind, String key)
             throws IllegalValueException {
-        for (Person person : group.getPersons()) {
-            if (!globalPersonList.contains(person)) {
-                throw new IllegalValueException(String.format(MESSAGE_NON_EXISTENT_PERSON_IN_GROUP,
-                        group.getName(), person));
-            }
+        list.set(removePosition(positions, kind, key), null);
+    }
+
+    private static int removePosition(Map<String, Integer> positions, String kind, String key)
+            throws IllegalValueException {
+        Integer position = positions.remove(key);
+        if (position == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_JOURNAL_KEY, kind, key));
         }
+        return position;
     }
 
-    private void checkExistenceOfGroupsInPerson(AddressBook addressBook, Person person)
+    private void checkExistenceOfGroupsInPerson(Map<GroupName, Group> groupsByName, Person person)
             throws IllegalValueException {
         for (GroupName groupName : person.getGroups()) {
-            if (addressBook.getGroupList().stream()
-                    .noneMatch(existingGroup -> existingGroup.getName().equals(groupName))) {
+            Group group = groupsByName.get(groupName);
+            if (group == null) {
                 throw new IllegalValueException(
                         String.format(MESSAGE_NON_EXISTENT_GROUP_IN_PERSON, person.getName(), groupName));
             }
-
-            for (Group group : addressBook.getGroupList()) {
-                if (!group.getName().equals(groupName)) {
-                    continue;
-                }
-                if (!group.containsPerson(person)) {
-                    throw new IllegalValueException(
-                            String.format(MESSAGE_GROUP_AND_PERSON_CONFLICT, person.getName(), groupName));
-                }
+            if (!group.containsPerson(person)) {
+                throw new IllegalValueException(
+                        String.format(MESSAGE_GROUP_AND_PERSON_CONFLICT, person.getName(), groupName));
             }
         }
     }
@@ -2,7 +2,9 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -10,6 +12,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -71,8 +74,27 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook) {
+        logger.fine(() -> "Attempting to write to data file: " + addressBookStorage.getAddressBookFilePath());
+        return addressBookStorage.saveAddressBookAsync(addressBook);
+    }
+
+    @Override
+    public void saveDashboardNotes(Map<GroupName, String> notes, long fromVersion, long toVersion)
+            throws IOException {
+        logger.fine(() -> "Attempting to write notes to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.saveDashboardNotes(notes, fromVersion, toVersion);
+    }
+
+    @Override
+    public void flush() {
+        logger.fine("Waiting for pending writes to data file: " + addressBookStorage.getAddressBookFilePath());
+        addressBookStorage.flush();
+    }
+
 }
@@ -1,12 +1,15 @@
 package seedu.address.ui;
 
+import java.util.function.Consumer;
+
+import javafx.animation.PauseTransition;
+import javafx.beans.value.ObservableValue;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import javafx.util.Duration;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -16,19 +19,31 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
+    // How long typing must pause for before the command being typed is previewed
+    private static final Duration PREVIEW_DELAY = Duration.millis(150);
+
     private final CommandExecutor commandExecutor;
+    private final PauseTransition previewDelay = new PauseTransition(PREVIEW_DELAY);
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor}, which previews the command being typed
+     * with {@code commandPreviewer} whenever typing pauses.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandPreviewer commandPreviewer) {
         super(FXML);
         this.commandExecutor = commandExecutor;
-        // calls #setStyleToDefault() whenever there is a change to the text of the command box.
-        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        previewDelay.setOnFinished(unused -> commandPreviewer.preview(commandTextField.getText()));
+        // calls #setStyleToDefault() and restarts the preview delay whenever the text of the command box changes.
+        commandTextField.textProperty().addListener((unused1, unused2, unused3) -> {
+            setStyleToDefault();
+            previewDelay.playFromStart();
+        });
     }
 
     /**
@@ -41,12 +56,27 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
-        }
+        previewDelay.stop();
+
+        commandExecutor.execute(commandText, isSuccessful -> {
+            // Leaves the text alone if the user has started typing another command while this one was executed
+            if (!commandTextField.getText().equals(commandText)) {
+                return;
+            }
+
+            if (isSuccessful) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Shows the busy indicator whenever {@code isBusy} is true.
+     */
+    public void bindBusyIndicator(ObservableValue<Boolean> isBusy) {
+        busyIndicator.visibleProperty().bind(isBusy);
     }
 
     /**
@@ -75,11 +105,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command without waiting for it to complete, and calls {@code onCompletion} on the JavaFX
+         * application thread with whether it succeeded once it has.
+         *
+         * @see seedu.address.logic.CommandQueue#submit(String, Consumer, Consumer)
+         */
+        void execute(String commandText, Consumer<Boolean> onCompletion);
+    }
+
+    /**
+     * Represents a function that can preview commands as they are typed.
+     */
+    @FunctionalInterface
+    public interface CommandPreviewer {
+        /**
+         * Previews the command being typed without waiting for the preview to be shown.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#previewCommand(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void preview(String commandText);
     }
 
 }
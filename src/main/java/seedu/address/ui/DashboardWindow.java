@@ -1,12 +1,20 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
+import javafx.animation.Animation;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.control.Separator;
 import javafx.scene.control.TextArea;
@@ -16,6 +24,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.event.Event;
 import seedu.address.model.group.Group;
@@ -23,25 +32,45 @@ import seedu.address.model.person.Person;
 
 
 /**
- * Controller for a dashboard page
+ * Controller for the dashboard page of a group.
+ *
+ * The window is built once and reused each time the dashboard of its group is shown. Its member and event lists
+ * display the group's own lists, so they are updated as the group changes while the window is open.
  */
 public class DashboardWindow {
     private static final Logger logger = LogsCenter.getLogger(DashboardWindow.class);
 
+    // How long after the last change to the notes they are saved
+    private static final Duration AUTOSAVE_DELAY = Duration.millis(750);
+
+    private static final String STATUS_UNSAVED = "Saving...";
+    private static final String STATUS_SAVED = "All changes saved";
+    private static final String STATUS_SAVE_FAILED = "Could not save notes: %s";
+
+    private final ChangesSaver changesSaver;
+    private final PauseTransition autosaveDelay = new PauseTransition(AUTOSAVE_DELAY);
+
+    // Number of saves started, so that only the latest save shows its result
+    private long saveCount;
+
     private Stage root;
     private Label groupNameLabel;
     private Label repoLinkLabel;
     private TextArea notesTextArea;
-    private ListView<String> memberList;
-    private ListView<String> eventList;
+    private ListView<Person> memberList;
+    private ListView<Event> eventList;
     private Group group;
     private Button copyRepoButton;
+    private Label saveStatusLabel;
 
     /**
-     * Creates a new DashboardWindow.
+     * Creates a new DashboardWindow for {@code group} that saves changes to the notes with {@code changesSaver}.
      */
-    public DashboardWindow() {
+    public DashboardWindow(Group group, ChangesSaver changesSaver) {
+        this.changesSaver = changesSaver;
+        autosaveDelay.setOnFinished(e -> saveNotes());
         initialize();
+        setGroup(group);
     }
 
     /**
@@ -56,6 +85,9 @@ public class DashboardWindow {
         HBox mainContainer = createMainContainer();
         Scene scene = new Scene(mainContainer);
         root.setScene(scene);
+
+        // Notes that have not been saved yet are saved right away when the window is closed
+        root.setOnHidden(e -> saveNotesNow());
     }
 
     /**
@@ -141,7 +173,7 @@ public class DashboardWindow {
         );
 
         notesTextArea.textProperty()
-                .addListener(((observable, oldValue, newValue) -> handleSaveNotes()));
+                .addListener(((observable, oldValue, newValue) -> handleNotesChanged()));
         VBox.setVgrow(notesTextArea, Priority.ALWAYS);
         notesAreaSection.getChildren().addAll(notesLabel, notesTextArea);
         return notesAreaSection;
@@ -155,12 +187,17 @@ public class DashboardWindow {
         notesButtonContainer.setSpacing(12);
         notesButtonContainer.setAlignment(Pos.CENTER_RIGHT);
 
+        saveStatusLabel = new Label();
+        saveStatusLabel.setStyle("-fx-font-size: 12px; -fx-text-fill: #B0BEC5; -fx-font-family: Verdana;");
+        saveStatusLabel.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(saveStatusLabel, Priority.ALWAYS);
+
         Button clearNotesButton = new Button("Clear Notes");
         clearNotesButton.setStyle("-fx-background-color: #f44336; -fx-text-fill: white; -fx-padding: 8 16; "
                 + "-fx-font-weight: bold; -fx-font-family: Verdana;");
         clearNotesButton.setOnAction(e -> handleClearNotes());
 
-        notesButtonContainer.getChildren().addAll(clearNotesButton);
+        notesButtonContainer.getChildren().addAll(saveStatusLabel, clearNotesButton);
         return notesButtonContainer;
     }
 
@@ -266,6 +303,7 @@ public class DashboardWindow {
                 + "-fx-font-family: Verdana;");
 
         memberList = new ListView<>();
+        memberList.setCellFactory(listView -> new MemberListViewCell());
         Label memberPlaceholder = new Label("No members in this group");
         memberPlaceholder.setStyle("-fx-text-fill: white; -fx-font-family: Verdana; -fx-font-size: 16px;");
         memberList.setPlaceholder(memberPlaceholder);
@@ -296,6 +334,7 @@ public class DashboardWindow {
                 + "-fx-font-family: Verdana;");
 
         eventList = new ListView<>();
+        eventList.setCellFactory(listView -> new EventListViewCell());
         Label eventPlaceholder = new Label("No events in this group");
         eventPlaceholder.setStyle("-fx-text-fill: white; -fx-font-family: Verdana; -fx-font-size: 16px;");
         eventList.setPlaceholder(eventPlaceholder);
@@ -317,52 +356,73 @@ public class DashboardWindow {
     }
 
     /**
-     * Shows the dashboard window with the specified group data.
+     * Shows the dashboard window, or brings it to the front if it is already showing.
      */
-    public void show(Group group) {
-        if (group == null) {
-            logger.warning("Attempted to show dashboard with null group");
-            return;
-        }
+    public void show() {
+        logger.fine(() -> "Showing dashboard for group: " + group.getName());
 
-        if (root.isShowing()) {
-            root.close();
+        if (!root.isShowing()) {
+            root.show();
+            root.centerOnScreen();
         }
+        root.toFront();
+        root.requestFocus();
+    }
 
-        root = new Stage();
-        initialize();
+    /**
+     * Closes the dashboard window, saving any notes that have not been saved yet.
+     */
+    public void close() {
+        root.close();
+    }
 
+    public Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Displays {@code group} in this window, which replaces the group currently displayed, such as when its name or
+     * repository link is edited.
+     */
+    public void setGroup(Group group) {
+        requireNonNull(group);
         this.group = group;
         updateDashboardContent();
-        updateMemberAndEventList();
-        loadNotes();
-        logger.fine("Showing dashboard for group: " + group.getName());
 
-        root.show();
-        root.centerOnScreen();
-        root.requestFocus();
-        root.setTitle("Dashboard - " + group.getName());
+        // Edited groups share their member and event lists with the groups they replace, so the lists are only
+        // replaced if they are different
+        if (memberList.getItems() != group.getPersons()) {
+            memberList.setItems(group.getPersons());
+        }
+        if (eventList.getItems() != group.getEvents()) {
+            eventList.setItems(group.getEvents());
+        }
+        loadNotes();
     }
 
     /**
      * Updates the dashboard content with the current group name and its repo link.
      */
     private void updateDashboardContent() {
-        if (group != null) {
-            groupNameLabel.setText("Group: " + group.getName());
-            String repoLink = group.getRepoLink().toString();
-
-            if (group.getRepoLink() != null && !repoLink.isEmpty() && !repoLink.equals("none")) {
-                repoLinkLabel.setText(repoLink);
-                repoLinkLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: white; -fx-font-family: Verdana; "
-                        + "-fx-text-overrun: ellipsis; -fx-wrap-text: false;");
-                copyRepoButton.setDisable(false);
-                copyRepoButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; -fx-padding: 4 8; "
-                        + "-fx-font-weight: bold; -fx-font-family: Verdana; -fx-font-size: 11px;");
-            }
-
-            root.setTitle("Dashboard - " + group.getName());
+        groupNameLabel.setText("Group: " + group.getName());
+        String repoLink = group.getRepoLink().toString();
+
+        if (!repoLink.isEmpty() && !repoLink.equals("none")) {
+            repoLinkLabel.setText(repoLink);
+            repoLinkLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: white; -fx-font-family: Verdana; "
+                    + "-fx-text-overrun: ellipsis; -fx-wrap-text: false;");
+            copyRepoButton.setDisable(false);
+            copyRepoButton.setStyle("-fx-background-color: #2196F3; -fx-text-fill: white; -fx-padding: 4 8; "
+                    + "-fx-font-weight: bold; -fx-font-family: Verdana; -fx-font-size: 11px;");
+        } else {
+            repoLinkLabel.setText("No repository link set");
+            repoLinkLabel.setStyle("-fx-font-size: 14px; -fx-text-fill: #B0BEC5; -fx-font-family: Verdana;");
+            copyRepoButton.setDisable(true);
+            copyRepoButton.setStyle("-fx-background-color: #757575; -fx-text-fill: #cccccc; -fx-padding: 4 8; "
+                    + "-fx-font-weight: bold; -fx-font-family: Verdana; -fx-font-size: 12px;");
         }
+
+        root.setTitle("Dashboard - " + group.getName());
     }
 
     /**
@@ -378,50 +438,66 @@ public class DashboardWindow {
     }
 
     /**
-     * Updates the member and event lists with the current group data.
+     * Loads saved notes for the current group, unless they are already displayed.
      */
-    private void updateMemberAndEventList() {
-        if (group != null) {
-            memberList.getItems().clear();
-            eventList.getItems().clear();
-            int currentMemberIndex = 1;
-            int currentEventIndex = 1;
-
-            for (Person person : group.getPersons()) {
-                String name = currentMemberIndex + ") " + person.getNameAsString() + " (" + person.getEmail() + ")";
-                memberList.getItems().add(name);
-                currentMemberIndex++;
+    private void loadNotes() {
+        if (group.getDashboard() != null) {
+            String savedNotes = group.getDashboard().getNotes();
+            String notes = savedNotes != null ? savedNotes : "";
+            if (!notes.equals(notesTextArea.getText())) {
+                notesTextArea.setText(notes);
             }
+        }
+    }
 
-            for (Event event : group.getEvents()) {
-                String description = currentEventIndex + ") " + event.toString();
-                eventList.getItems().add(description);
-                currentEventIndex++;
-            }
+    /**
+     * Handles a change to the notes, by updating the notes of the group and saving them once the user has stopped
+     * typing for a while.
+     */
+    private void handleNotesChanged() {
+        if (group == null || group.getDashboard() == null) {
+            return;
+        }
 
+        String notes = notesTextArea.getText();
+        if (notes.equals(group.getDashboard().getNotes())) {
+            return;
         }
+        group.getDashboard().setNotes(notes);
+        saveStatusLabel.setText(STATUS_UNSAVED);
+        autosaveDelay.playFromStart();
     }
 
     /**
-     * Loads saved notes for the current group.
+     * Saves the notes right away if they have changed since they were last saved.
      */
-    private void loadNotes() {
-        if (group != null && group.getDashboard() != null) {
-            String savedNotes = group.getDashboard().getNotes();
-            notesTextArea.setText(savedNotes != null ? savedNotes : "");
+    private void saveNotesNow() {
+        if (autosaveDelay.getStatus() == Animation.Status.RUNNING) {
+            autosaveDelay.stop();
+            saveNotes();
         }
     }
 
     /**
-     * Handles saving of notes.
+     * Saves the changes to the notes, and shows whether they were saved once they have been written.
      */
-    private void handleSaveNotes() {
-        if (group != null && group.getDashboard() != null) {
-            String notes = notesTextArea.getText();
-            group.getDashboard().setNotes(notes);
-
-            logger.info("Notes saved for group: " + group.getName());
-        }
+    private void saveNotes() {
+        long save = ++saveCount;
+        String groupName = group.getNameAsString();
+        changesSaver.saveChanges().whenComplete((isSaved, failure) -> Platform.runLater(() -> {
+            // The notes have changed again, or a later save will show its own result
+            if (save != saveCount || autosaveDelay.getStatus() == Animation.Status.RUNNING) {
+                return;
+            }
+            if (failure == null) {
+                saveStatusLabel.setText(STATUS_SAVED);
+                logger.fine(() -> "Notes saved for group: " + groupName);
+                return;
+            }
+            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+            logger.warning("Failed to save notes for group " + groupName + ": " + cause.getMessage());
+            saveStatusLabel.setText(String.format(STATUS_SAVE_FAILED, cause.getMessage()));
+        }));
     }
 
     /**
@@ -430,9 +506,53 @@ public class DashboardWindow {
     private void handleClearNotes() {
         notesTextArea.clear();
         if (group != null) {
-            logger.info("Notes cleared for group: " + group.getName());
+            logger.fine(() -> "Notes cleared for group: " + group.getName());
         }
     }
 
-}
+    /**
+     * Custom {@code ListCell} that displays the name and email of a member of the group.
+     */
+    private static class MemberListViewCell extends ListCell<Person> {
+        @Override
+        protected void updateItem(Person person, boolean empty) {
+            super.updateItem(person, empty);
+
+            if (empty || person == null) {
+                setText(null);
+            } else {
+                setText((getIndex() + 1) + ") " + person.getNameAsString() + " (" + person.getEmail() + ")");
+            }
+        }
+    }
+
+    /**
+     * Custom {@code ListCell} that displays an event of the group.
+     */
+    private static class EventListViewCell extends ListCell<Event> {
+        @Override
+        protected void updateItem(Event event, boolean empty) {
+            super.updateItem(event, empty);
+
+            if (empty || event == null) {
+                setText(null);
+            } else {
+                setText((getIndex() + 1) + ") " + event);
+            }
+        }
+    }
 
+    /**
+     * Represents a function that saves the changes made to the address book.
+     */
+    @FunctionalInterface
+    public interface ChangesSaver {
+        /**
+         * Saves the changes made to the address book since it was last saved, and returns a future that completes
+         * once they have been written.
+         *
+         * @see seedu.address.logic.Logic#saveChanges()
+         */
+        CompletableFuture<Boolean> saveChanges();
+    }
+}
@@ -27,19 +27,23 @@ public class EventListPanel extends UiPart<Region> {
      */
     public EventListPanel(ObservableList<Event> eventList) {
         super(FXML);
-        eventListView.setItems(eventList);
         eventListView.setCellFactory(listView -> new EventListViewCell());
-
         eventListView.setFixedCellSize(-1);
+        eventListView.setStyle("-fx-scroll-bar-visible: false;");
+        setEvents(eventList);
+    }
 
+    /**
+     * Displays {@code eventList} instead of the list currently displayed, reusing this panel and its cells.
+     */
+    public void setEvents(ObservableList<Event> eventList) {
+        eventListView.setItems(eventList);
         eventListView.prefHeightProperty().bind(
                 Bindings.createDoubleBinding(() -> {
-                    int itemCount = eventListView.getItems().size();
+                    int itemCount = eventList.size();
                     double estimatedHeight = Math.max(1, itemCount) * 25; // Base height per item
                     return Math.max(50, estimatedHeight);
-                }, eventListView.getItems()));
-
-        eventListView.setStyle("-fx-scroll-bar-visible: false;");
+                }, eventList));
     }
 
     /**
@@ -1,18 +1,39 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.event.Event;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of a {@code Group}.
+ *
+ * The card is compact by default, showing how many members and events the group has along with the first few of
+ * them. Expanding it shows every member and event in nested lists, which are only created when first needed.
+ * The card can be reused to display another group through {@link #setGroup(Group, int)}, and should be cleared
+ * through {@link #clearGroup()} when it no longer displays one.
  */
 public class GroupCard extends UiPart<Region> {
 
     private static final String FXML = "GroupListCard.fxml";
+    private static final int PREVIEW_SIZE = 3;
+    private static final String EXPAND_TEXT = "Show all";
+    private static final String COLLAPSE_TEXT = "Show less";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -22,7 +43,7 @@ public class GroupCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Group group;
+    private Group group;
 
     @FXML
     private HBox cardPane;
@@ -33,31 +54,143 @@ public class GroupCard extends UiPart<Region> {
     @FXML
     private Label id;
     @FXML
+    private Label summary;
+    @FXML
+    private Button expandButton;
+    @FXML
+    private VBox preview;
+    @FXML
+    private Label memberPreview;
+    @FXML
+    private Label eventPreview;
+    @FXML
     private VBox personListPlaceholder;
     @FXML
     private VBox eventListPlaceholder;
 
+    // Names of the groups whose cards are expanded, shared by the cards of a list so that it survives reuse
+    private final Set<GroupName> expandedGroups;
+
+    // The lists of the displayed group, which the summary and previews are kept up to date with
+    private ObservableList<Person> persons;
+    private ObservableList<Event> events;
+    private final InvalidationListener contentsListener = observable -> updateContents();
+
+    // Created when the card is first expanded
+    private MiniPersonListPanel personListPanel;
+    private EventListPanel eventListPanel;
+
     /**
-     * Creates a {@code GroupCard} with the given {@code Group} and index to display.
+     * Creates a {@code GroupCard} that does not display any group yet.
+     *
+     * @param expandedGroups names of the groups to display expanded, which the card adds to and removes from as
+     *     the user expands and collapses it.
      */
-    public GroupCard(Group group, int displayedIndex) {
+    public GroupCard(Set<GroupName> expandedGroups) {
         super(FXML);
+        this.expandedGroups = expandedGroups;
+        expandButton.setOnAction(event -> toggleExpanded());
+    }
+
+    public Group getGroup() {
+        return group;
+    }
+
+    /**
+     * Displays {@code group} with the given index instead of the group currently displayed.
+     */
+    public void setGroup(Group group, int displayedIndex) {
+        stopListening();
         this.group = group;
+        persons = group.getPersons();
+        events = group.getEvents();
+        persons.addListener(contentsListener);
+        events.addListener(contentsListener);
+
         id.setText(displayedIndex + ". ");
         name.setText(group.getName().fullName);
-        if (group.getRepoLink().isRepoSet()) {
-            repoIndicator.setStyle("-fx-background-color: #2ecc71;"); // green
+        boolean isRepoSet = group.getRepoLink().isRepoSet();
+        repoIndicator.setStyle(isRepoSet ? "-fx-background-color: #2ecc71;" : ""); // green
+        setShown(repoIndicator, isRepoSet);
+
+        updateContents();
+    }
+
+    /**
+     * Stops displaying the current group, so that the card no longer listens to its members and events.
+     */
+    public void clearGroup() {
+        stopListening();
+        group = null;
+        persons = null;
+        events = null;
+        if (personListPanel != null) {
+            personListPanel.setPersons(FXCollections.emptyObservableList());
+            eventListPanel.setEvents(FXCollections.emptyObservableList());
+        }
+    }
+
+    private void stopListening() {
+        if (persons != null) {
+            persons.removeListener(contentsListener);
+            events.removeListener(contentsListener);
+        }
+    }
+
+    private boolean isExpanded() {
+        return expandedGroups.contains(group.getName());
+    }
+
+    private void toggleExpanded() {
+        if (!expandedGroups.remove(group.getName())) {
+            expandedGroups.add(group.getName());
+        }
+        updateContents();
+    }
+
+    /**
+     * Shows the members and events of the displayed group, in full or as a preview.
+     */
+    private void updateContents() {
+        summary.setText(String.format("%d %s, %d %s", persons.size(), persons.size() == 1 ? "member" : "members",
+                events.size(), events.size() == 1 ? "event" : "events"));
+        expandButton.setText(isExpanded() ? COLLAPSE_TEXT : EXPAND_TEXT);
+        setShown(expandButton, persons.size() > PREVIEW_SIZE || events.size() > PREVIEW_SIZE || isExpanded());
+
+        if (isExpanded()) {
+            if (personListPanel == null) {
+                personListPanel = new MiniPersonListPanel(persons);
+                personListPlaceholder.getChildren().add(personListPanel.getRoot());
+                eventListPanel = new EventListPanel(events);
+                eventListPlaceholder.getChildren().add(eventListPanel.getRoot());
+            } else {
+                personListPanel.setPersons(persons);
+                eventListPanel.setEvents(events);
+            }
         } else {
-            repoIndicator.setVisible(false);
-            repoIndicator.setManaged(false);
+            memberPreview.setText("Members: " + getPreview(persons, person -> person.getName().fullName));
+            eventPreview.setText("Events: " + getPreview(events, Event::toString));
         }
+        setShown(preview, !isExpanded());
+        setShown(personListPlaceholder, isExpanded());
+        setShown(eventListPlaceholder, isExpanded());
+    }
 
-        MiniPersonListPanel personListPanel =
-                new MiniPersonListPanel(group.getPersons());
-        personListPlaceholder.getChildren().add(personListPanel.getRoot());
+    /**
+     * Returns the first few of {@code items}, followed by how many more there are.
+     */
+    private static <T> String getPreview(List<T> items, Function<T, String> toText) {
+        if (items.isEmpty()) {
+            return "none";
+        }
+        String shown = items.subList(0, Math.min(PREVIEW_SIZE, items.size())).stream()
+                .map(toText)
+                .collect(Collectors.joining(", "));
+        return items.size() > PREVIEW_SIZE ? shown + " and " + (items.size() - PREVIEW_SIZE) + " more" : shown;
+    }
 
-        EventListPanel eventListPanel =
-                new EventListPanel(group.getEvents());
-        eventListPlaceholder.getChildren().add(eventListPanel.getRoot());
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
     }
 }
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.HashSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -9,6 +11,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
 
 /**
  * Panel containing the list of groups.
@@ -20,6 +23,9 @@ public class GroupListPanel extends UiPart<Region> {
     @FXML
     private ListView<Group> groupListView;
 
+    // Groups whose cards the user has expanded
+    private final Set<GroupName> expandedGroups = new HashSet<>();
+
     /**
      * Creates a {@code GroupListPanel} with the given {@code ObservableList}.
      */
@@ -31,17 +37,27 @@ public class GroupListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Group} using a {@code GroupCard}.
+     * Each cell creates its card once, and rebinds it to whichever group the cell is showing.
      */
     class GroupListViewCell extends ListCell<Group> {
+        private GroupCard groupCard;
+
         @Override
         protected void updateItem(Group group, boolean empty) {
             super.updateItem(group, empty);
 
             if (empty || group == null) {
+                if (groupCard != null) {
+                    groupCard.clearGroup();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new GroupCard(group, getIndex() + 1).getRoot());
+                if (groupCard == null) {
+                    groupCard = new GroupCard(expandedGroups);
+                }
+                groupCard.setGroup(group, getIndex() + 1);
+                setGraphic(groupCard.getRoot());
             }
         }
     }
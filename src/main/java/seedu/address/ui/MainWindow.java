@@ -1,7 +1,12 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,11 +17,11 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandQueue;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -30,13 +35,14 @@ public class MainWindow extends UiPart<Stage> {
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandQueue commandQueue;
 
     // Independent Ui parts residing in this Ui container
     private GroupListPanel groupListPanel;
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
-    private DashboardWindow dashboardWindow;
+    private final Map<GroupName, DashboardWindow> dashboardWindows = new HashMap<>();
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -65,6 +71,7 @@ public class MainWindow extends UiPart<Stage> {
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandQueue = new CommandQueue(logic);
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -72,7 +79,7 @@ public class MainWindow extends UiPart<Stage> {
         setAccelerators();
 
         helpWindow = new HelpWindow();
-        dashboardWindow = new DashboardWindow();
+        logic.getAddressBook().getGroupList().addListener(this::handleGroupListChanged);
     }
 
     public Stage getPrimaryStage() {
@@ -129,7 +136,8 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::previewCommand);
+        commandBox.bindBusyIndicator(commandQueue.busyProperty());
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -170,15 +178,63 @@ public class MainWindow extends UiPart<Stage> {
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
         helpWindow.hide();
+        List.copyOf(dashboardWindows.values()).forEach(DashboardWindow::close);
         primaryStage.hide();
     }
 
     /**
-     * Opens the dashboard window or focuses on it if it's already opened.
+     * Opens the dashboard window of {@code group} or focuses on it if it's already opened.
+     * The dashboards of other groups are left open.
      */
     @FXML
     private void handleDashboard(Group group) {
-        dashboardWindow.show(group);
+        DashboardWindow dashboardWindow = dashboardWindows.get(group.getName());
+        if (dashboardWindow == null) {
+            dashboardWindow = new DashboardWindow(group, logic::saveChanges);
+            dashboardWindows.put(group.getName(), dashboardWindow);
+        } else if (dashboardWindow.getGroup() != group) {
+            dashboardWindow.setGroup(group);
+        }
+        dashboardWindow.show();
+    }
+
+    /**
+     * Keeps the dashboards in step with the groups they display. A dashboard follows its group when the group is
+     * replaced by an edited group, and is closed when its group is deleted.
+     */
+    private void handleGroupListChanged(ListChangeListener.Change<? extends Group> change) {
+        while (change.next()) {
+            List<? extends Group> removed = change.getRemoved();
+            List<? extends Group> added = change.getAddedSubList();
+            for (Group removedGroup : removed) {
+                DashboardWindow dashboardWindow = dashboardWindows.remove(removedGroup.getName());
+                if (dashboardWindow == null) {
+                    continue;
+                }
+
+                Group replacement = findReplacement(removedGroup, removed, added);
+                if (replacement == null) {
+                    dashboardWindow.close();
+                } else {
+                    dashboardWindow.setGroup(replacement);
+                    dashboardWindows.put(replacement.getName(), dashboardWindow);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the group in {@code added} that replaces {@code removedGroup}, which is the group with the same name,
+     * or the only added group if it is the only group replaced. Returns null if the group is not replaced.
+     */
+    private static Group findReplacement(Group removedGroup, List<? extends Group> removed,
+            List<? extends Group> added) {
+        for (Group addedGroup : added) {
+            if (addedGroup.isSameGroup(removedGroup)) {
+                return addedGroup;
+            }
+        }
+        return removed.size() == 1 && added.size() == 1 ? added.get(0) : null;
     }
 
     public PersonListPanel getPersonListPanel() {
@@ -190,33 +246,48 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Shows an error that did not come from the command being executed, such as a failed background save.
+     */
+    void showErrorMessage(String message) {
+        logger.info("Showing error: " + message);
+        resultDisplay.setFeedbackToUser(message);
+    }
+
+    /**
+     * Executes the command in the background, and shows its result once it has been executed.
+     * Previews that have not been shown yet are cancelled, so that they do not replace the result of the command.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandQueue#submit(String, Consumer, Consumer)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private void executeCommand(String commandText, Consumer<Boolean> onCompletion) {
+        logic.cancelPreview();
+        commandQueue.submit(commandText, commandResult -> {
+            handleCommandResult(commandResult);
+            onCompletion.accept(true);
+        }, e -> {
+            logger.info(() -> "An error occurred while executing command: " + commandText);
+            resultDisplay.setFeedbackToUser(e.getMessage());
+            onCompletion.accept(false);
+        });
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a successfully executed command.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info(() -> "Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            if (commandResult.isShowDashboard()) {
-                handleDashboard(commandResult.getGroupToShow());
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        if (commandResult.isShowDashboard()) {
+            handleDashboard(commandResult.getGroupToShow());
         }
     }
 }
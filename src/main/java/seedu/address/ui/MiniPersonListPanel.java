@@ -26,17 +26,22 @@ public class MiniPersonListPanel extends UiPart<Region> {
      */
     public MiniPersonListPanel(ObservableList<Person> personList) {
         super(FXML);
-        personListView.setItems(personList);
         personListView.setCellFactory(listView -> new MiniPersonListViewCell());
-
         personListView.setFixedCellSize(15);
+        personListView.setStyle("-fx-scroll-bar-visible: false;");
+        setPersons(personList);
+    }
+
+    /**
+     * Displays {@code personList} instead of the list currently displayed, reusing this panel and its cells.
+     */
+    public void setPersons(ObservableList<Person> personList) {
+        personListView.setItems(personList);
         personListView.prefHeightProperty().bind(
                 Bindings.max(15,
-                        Bindings.size(personListView.getItems())
+                        Bindings.size(personList)
                                 .multiply(personListView.getFixedCellSize())
                                 .add(10)));
-
-        personListView.setStyle("-fx-scroll-bar-visible: false;");
     }
 
     /**
@@ -1,14 +1,22 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
-import javafx.scene.layout.FlowPane;
+import javafx.scene.control.Tooltip;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+import seedu.address.model.group.GroupName;
 import seedu.address.model.person.Person;
 
 /**
  * A UI component that displays information of a {@code Person}.
+ * The card can be reused to display another person through {@link #setPerson(Person, int)}.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -22,7 +30,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -37,19 +45,59 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private Label email;
     @FXML
-    private FlowPane groups;
+    private HBox groups;
+
+    // Lists every group, including those cut off the end of the line of groups
+    private final Tooltip groupsTooltip = new Tooltip();
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates a {@code PersonCard} that does not display any person yet.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
+        // Groups that do not fit are cut off, rather than drawn over the rest of the card
+        Rectangle groupsClip = new Rectangle();
+        groupsClip.widthProperty().bind(groups.widthProperty());
+        groupsClip.heightProperty().bind(groups.heightProperty());
+        groups.setClip(groupsClip);
+        Tooltip.install(groups, groupsTooltip);
+    }
+
+    /**
+     * Creates a {@code PersonCard} with the given {@code Person} and index to display.
+     */
+    public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} with the given index instead of the person currently displayed.
+     * Labels of groups are reused, so that a card can be rebound cheaply as its list is scrolled.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
-        phone.setText(person.getPhone().value);
-        email.setText(person.getEmail().value);
-        person.getGroups().stream()
-                .forEach(groupName -> groups.getChildren().add(new Label(groupName.toString())));
+        phone.setText(person.getPhone().toString());
+        email.setText(person.getEmail().toString());
+
+        List<GroupName> groupNames = List.copyOf(person.getGroups());
+        ObservableList<Node> groupLabels = groups.getChildren();
+        if (groupLabels.size() > groupNames.size()) {
+            groupLabels.remove(groupNames.size(), groupLabels.size());
+        }
+        for (int i = 0; i < groupNames.size(); i++) {
+            if (i < groupLabels.size()) {
+                ((Label) groupLabels.get(i)).setText(groupNames.get(i).toString());
+            } else {
+                groupLabels.add(new Label(groupNames.get(i).toString()));
+            }
+        }
+        groupsTooltip.setText(groupNames.stream().map(GroupName::toString).collect(Collectors.joining("\n")));
     }
 }
@@ -10,4 +10,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows {@code message} to the user in the result display.
+     * Can be called from any thread.
+     */
+    void showErrorMessage(String message);
+
 }
@@ -0,0 +1,142 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncLogHandler(null, 1,
+                AsyncLogHandler.OverflowPolicy.DROP));
+        assertThrows(NullPointerException.class, () -> new AsyncLogHandler(List.of(), 1, null));
+    }
+
+    @Test
+    public void publish_records_passedOnInOrder() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, AsyncLogHandler.OverflowPolicy.BLOCK);
+
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, target.messages.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, target.messages.get(i));
+        }
+        assertEquals(1, target.flushCount);
+    }
+
+    @Test
+    public void publish_sourceOfRecord_foundOnPublishingThread() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, AsyncLogHandler.OverflowPolicy.DROP);
+        java.util.logging.Logger logger = java.util.logging.Logger.getLogger("AsyncLogHandlerTest");
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+
+        logger.info("message");
+        handler.flush();
+        logger.removeHandler(handler);
+
+        assertEquals(AsyncLogHandlerTest.class.getName(), target.records.get(0).getSourceClassName());
+    }
+
+    @Test
+    public void publish_queueFullWithDropPolicy_dropsAndReports() throws Exception {
+        RecordingHandler target = new RecordingHandler();
+        target.block();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 2, AsyncLogHandler.OverflowPolicy.DROP);
+
+        // The first record is being written, so two more fill the queue and the last two are dropped
+        handler.publish(new LogRecord(Level.INFO, "message 0"));
+        target.awaitFirstRecord();
+        for (int i = 1; i <= 4; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(2, handler.getDroppedCount());
+
+        target.release();
+        handler.flush();
+        handler.publish(new LogRecord(Level.INFO, "message 5"));
+        handler.flush();
+
+        assertEquals(List.of("message 0", "message 1", "message 2",
+                "2 log records were dropped as logging fell behind.", "message 5"), target.messages);
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void close_pendingRecords_writtenAndLaterRecordsIgnored() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(target), 16, AsyncLogHandler.OverflowPolicy.BLOCK);
+
+        handler.publish(new LogRecord(Level.INFO, "message"));
+        handler.close();
+        handler.publish(new LogRecord(Level.INFO, "ignored"));
+        handler.flush();
+
+        assertEquals(List.of("message"), target.messages);
+        assertTrue(target.isClosed);
+    }
+
+    /**
+     * A {@code Handler} that records the messages it is given.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = Collections.synchronizedList(new ArrayList<>());
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch hasRecord = new CountDownLatch(1);
+        private CountDownLatch isReleased = new CountDownLatch(0);
+        private volatile int flushCount;
+        private volatile boolean isClosed;
+
+        void block() {
+            isReleased = new CountDownLatch(1);
+        }
+
+        void release() {
+            isReleased.countDown();
+        }
+
+        void awaitFirstRecord() throws InterruptedException {
+            assertTrue(hasRecord.await(5, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+            messages.add(record.getMessage());
+            hasRecord.countDown();
+            try {
+                assertTrue(isReleased.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
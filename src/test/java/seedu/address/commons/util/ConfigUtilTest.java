@@ -65,6 +65,7 @@ public class ConfigUtilTest {
         Config config = new Config();
         config.setLogLevel(Level.INFO);
         config.setUserPrefsFilePath(Paths.get("preferences.json"));
+        config.setSlowCommandThresholdMillis(250);
         return config;
     }
 
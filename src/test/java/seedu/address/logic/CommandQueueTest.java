@@ -0,0 +1,140 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.person.AddCommand;
+import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class CommandQueueTest {
+
+    private static final String ADD_COMMAND = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+            + EMAIL_DESC_AMY;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final UiThread uiThread = new UiThread();
+    private CommandQueue commandQueue;
+
+    /** Results and failure messages of the executed commands, in the order they were reported. */
+    private final List<String> reported = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        Logic logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        commandQueue = new CommandQueue(logic, uiThread);
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandQueue(null));
+    }
+
+    @Test
+    public void submit_commands_reportedInOrder() throws Exception {
+        submit(ADD_COMMAND);
+        submit("uicfhmowqewca");
+        submit(ADD_COMMAND);
+        submit(ListCommand.COMMAND_WORD);
+        uiThread.runTasks(4);
+
+        assertEquals(List.of("success: " + String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                "failure: " + MESSAGE_UNKNOWN_COMMAND,
+                "failure: " + AddCommand.MESSAGE_DUPLICATE_PERSON,
+                "success: " + ListCommand.MESSAGE_SUCCESS), reported);
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void submit_command_executedOnUiThread() throws Exception {
+        submit(ADD_COMMAND);
+
+        Runnable execution = uiThread.nextTask();
+
+        // The command has only been parsed until the ui thread runs it
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        execution.run();
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void busyProperty_pendingCommands_true() throws Exception {
+        assertFalse(commandQueue.busyProperty().get());
+
+        submit(ListCommand.COMMAND_WORD);
+        submit("delete-contact 9");
+        assertTrue(commandQueue.busyProperty().get());
+
+        uiThread.runTasks(1);
+        assertTrue(commandQueue.busyProperty().get());
+
+        uiThread.runTasks(1);
+        assertFalse(commandQueue.busyProperty().get());
+        assertEquals("failure: " + MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, reported.get(1));
+    }
+
+    private void submit(String commandText) {
+        commandQueue.submit(commandText, result -> reported.add("success: " + result.getFeedbackToUser()),
+                e -> reported.add("failure: " + e.getMessage()));
+    }
+
+    /**
+     * Stands in for the JavaFX application thread by holding the tasks handed to it until the test runs them.
+     */
+    private static class UiThread implements Executor {
+        private final BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        /**
+         * Waits for the next task to be handed over, and returns it without running it.
+         */
+        Runnable nextTask() throws InterruptedException {
+            Runnable task = tasks.poll(5, TimeUnit.SECONDS);
+            assertTrue(task != null, "Timed out waiting for a command to be parsed");
+            return task;
+        }
+
+        /**
+         * Waits for and runs the next {@code count} tasks, in the order they were handed over.
+         */
+        void runTasks(int count) throws InterruptedException {
+            for (int i = 0; i < count; i++) {
+                nextTask().run();
+            }
+        }
+    }
+}
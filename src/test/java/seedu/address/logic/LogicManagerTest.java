@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
@@ -12,16 +15,24 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.logic.commands.person.ListCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStats;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -30,6 +41,7 @@ import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.testutil.GroupBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class LogicManagerTest {
@@ -81,6 +93,103 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_commandWithoutChanges_doesNotSave() throws Exception {
+        // Saving would fail, so the command only succeeds if the address book is not saved
+        useStorageThrowingOnSave(DUMMY_IO_EXCEPTION);
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void parseCommand_validCommand_doesNotExecute() throws Exception {
+        Command command = logic.parseCommand(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY);
+        assertEquals(new ModelManager(), model);
+
+        logic.execute(command);
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(new PersonBuilder(AMY).build());
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_stats_showsRecordedCommands() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+
+        String feedback = logic.execute(StatsCommand.COMMAND_WORD).getFeedbackToUser();
+        assertTrue(feedback.contains(ListCommand.COMMAND_WORD + " "));
+        assertTrue(feedback.contains(CommandStats.INVALID_COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_commandAfterNotesChanged_saves() {
+        model.addGroup(new GroupBuilder().build());
+        useStorageThrowingOnSave(DUMMY_IO_EXCEPTION);
+
+        // Saving fails, so the command only fails if the address book is saved
+        model.getFilteredGroupList().get(0).getDashboard().setNotes("Meet on Friday");
+        assertThrows(CommandException.class, String.format(LogicManager.FILE_OPS_ERROR_FORMAT,
+                DUMMY_IO_EXCEPTION.getMessage()), () -> logic.execute(ListCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void execute_commandWhileSavePending_doesNotSaveAgain() throws Exception {
+        List<CompletableFuture<Void>> saves = new ArrayList<>();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook) {
+                        CompletableFuture<Void> save = new CompletableFuture<>();
+                        saves.add(save);
+                        return save;
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        model.addGroup(new GroupBuilder().build());
+        logic.execute(ListCommand.COMMAND_WORD);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, saves.size());
+
+        // The failed save is tried again by the next command
+        saves.get(0).completeExceptionally(DUMMY_IO_EXCEPTION);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, saves.size());
+    }
+
+    @Test
+    public void saveChanges_noChanges_notSaved() throws Exception {
+        // Saving would fail, so this only succeeds if the address book is not saved
+        useStorageThrowingOnSave(DUMMY_IO_EXCEPTION);
+        assertFalse(logic.saveChanges().get());
+    }
+
+    @Test
+    public void saveChanges_notesChanged_saved() throws Exception {
+        model.addGroup(new GroupBuilder().build());
+        assertTrue(logic.saveChanges().get());
+
+        model.getFilteredGroupList().get(0).getDashboard().setNotes("Meet on Friday");
+        assertTrue(logic.saveChanges().get());
+        assertFalse(logic.saveChanges().get());
+
+        ReadOnlyAddressBook saved = new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get();
+        assertEquals("Meet on Friday", saved.getGroupList().get(0).getDashboard().getNotes());
+    }
+
+    @Test
+    public void saveChanges_storageThrowsIoException_failsWithIoException() throws Exception {
+        useStorageThrowingOnSave(DUMMY_IO_EXCEPTION);
+        model.addGroup(new GroupBuilder().build());
+        assertSame(DUMMY_IO_EXCEPTION, getFailure(logic.saveChanges()));
+
+        // The failed save did not count as saved, so it is tried again
+        assertSame(DUMMY_IO_EXCEPTION, getFailure(logic.saveChanges()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -146,9 +255,35 @@ public class LogicManagerTest {
      * @param expectedMessage the message expected inside exception thrown by the Logic component
      */
     private void assertCommandFailureForExceptionFromStorage(IOException e, String expectedMessage) {
+        useStorageThrowingOnSave(e);
+
+        // Triggers the saveAddressBook method by executing an add command
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY;
+        Person expectedPerson = new PersonBuilder(AMY).build();
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addPerson(expectedPerson);
+        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
+    }
+
+    /**
+     * Returns the exception that {@code future} failed with.
+     */
+    private static Throwable getFailure(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("The future should have failed.");
+    }
+
+    /**
+     * Injects the Logic component with an AddressBookStorage that throws {@code e} when saving.
+     */
+    private void useStorageThrowingOnSave(IOException e) {
         Path prefPath = temporaryFolder.resolve("ExceptionUserPrefs.json");
 
-        // Inject LogicManager with an AddressBookStorage that throws the IOException e when saving
         JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(prefPath) {
             @Override
             public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath)
@@ -162,13 +297,5 @@ public class LogicManagerTest {
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         logic = new LogicManager(model, storage);
-
-        // Triggers the saveAddressBook method by executing an add command
-        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
-                + EMAIL_DESC_AMY;
-        Person expectedPerson = new PersonBuilder(AMY).build();
-        ModelManager expectedModel = new ModelManager();
-        expectedModel.addPerson(expectedPerson);
-        assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 }
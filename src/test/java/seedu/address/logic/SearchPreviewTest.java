@@ -0,0 +1,123 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
+
+public class SearchPreviewTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final List<Runnable> pendingSearches = new ArrayList<>();
+    private final SearchPreview searchPreview = new SearchPreview(model, Runnable::run, pendingSearches::add);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new SearchPreview(null));
+    }
+
+    @Test
+    public void preview_findContact_showsMatchingPersonsOnceFound() {
+        searchPreview.preview("find-contact pauline");
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        runPendingSearches();
+        assertEquals(List.of(ALICE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_findGroup_showsMatchingGroups() {
+        searchPreview.preview("  find-group cs2101  ");
+        runPendingSearches();
+        assertEquals(List.of("CS2101 CA2", "CS2101 CA3"),
+                model.getFilteredGroupList().stream().map(Group::getName).map(Object::toString).toList());
+    }
+
+    @Test
+    public void preview_newerPreview_cancelsOlderPreview() {
+        searchPreview.preview("find-contact pauline");
+        searchPreview.preview("find-contact benson");
+
+        pendingSearches.remove(0).run();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+
+        runPendingSearches();
+        assertEquals(List.of(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_notFindCommand_cancelsPreviews() {
+        searchPreview.preview("find-contact pauline");
+        searchPreview.preview("find-contact");
+        searchPreview.preview("list");
+
+        runPendingSearches();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_previewBeingPrepared_notShown() {
+        searchPreview.preview("find-contact pauline");
+        searchPreview.cancel();
+
+        runPendingSearches();
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_notFindCommandAfterPreviewShown_revertsToCommandFilter() {
+        model.updateFilteredPersonList(person -> !person.equals(BENSON));
+        List<Person> expectedPersons = List.copyOf(model.getFilteredPersonList());
+        searchPreview.preview("find-contact pauline");
+        runPendingSearches();
+
+        searchPreview.preview("delete 1");
+        assertEquals(expectedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void preview_otherList_revertsPreviewedList() {
+        searchPreview.preview("find-contact pauline");
+        runPendingSearches();
+
+        searchPreview.preview("find-group cs2101");
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void cancel_previewShown_revertsToCommandFilter() {
+        searchPreview.preview("find-group cs2101");
+        runPendingSearches();
+
+        searchPreview.cancel();
+        assertEquals(getTypicalAddressBook().getGroupList(), model.getFilteredGroupList());
+    }
+
+    @Test
+    public void preview_personAddedWhilePreparing_preparedAgain() {
+        searchPreview.preview("find-contact amy");
+        model.addPerson(AMY);
+
+        runPendingSearches();
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+    }
+
+    private void runPendingSearches() {
+        while (!pendingSearches.isEmpty()) {
+            pendingSearches.remove(0).run();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -11,8 +12,15 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
+import seedu.address.model.group.GroupSetOperation;
 import seedu.address.model.group.RepoLink;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.util.IncrementalFilteredList;
 
 /**
  * A default model stub that has all methods failing.
@@ -64,6 +72,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         throw new AssertionError("This method should not be called.");
@@ -114,6 +127,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void removePersonFromGroupsByName(Set<GroupName> groupNames, Person toRemove) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setGroupRepo(Group group, RepoLink repoLink) {
         throw new AssertionError("This method should not be called.");
@@ -138,4 +156,54 @@ public class ModelStub implements Model {
     public void updateFilteredGroupList(Predicate<Group> predicate) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public void findGroupsByName(GroupNameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findPersonsByName(NameContainsKeywordsPredicate predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public QueryPlan findPersons(PersonQuery query) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void findGroupMembers(GroupSetOperation operation, List<Group> groups) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public IncrementalFilteredList.Snapshot<Group> snapshotFilteredGroups(Predicate<Group> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean showFilteredGroups(IncrementalFilteredList.Result<Group> result) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void revertFilteredGroupListPreview() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public IncrementalFilteredList.Snapshot<Person> snapshotFilteredPersons(Predicate<Person> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean showFilteredPersons(IncrementalFilteredList.Result<Person> result) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void revertFilteredPersonListPreview() {
+        throw new AssertionError("This method should not be called.");
+    }
 }
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.stats.CommandStats;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_stats_success() {
+        CommandStats commandStats = new CommandStats();
+        commandStats.record("list-contact", CommandStats.Phase.EXECUTE, 1_000_000);
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, commandStats.format());
+        assertCommandSuccess(new StatsCommand(commandStats), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandStats commandStats = new CommandStats();
+        StatsCommand statsCommand = new StatsCommand(commandStats);
+
+        // same object -> returns true
+        assertTrue(statsCommand.equals(statsCommand));
+
+        // same stats -> returns true
+        assertTrue(statsCommand.equals(new StatsCommand(commandStats)));
+
+        // null -> returns false
+        assertFalse(statsCommand.equals(null));
+
+        // different stats -> returns false
+        assertFalse(statsCommand.equals(new StatsCommand(new CommandStats())));
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.commands.group;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_GROUP_DISPLAYED_INDEX;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalGroups.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_GROUP;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_GROUP;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_GROUP;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupSetOperation;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code GroupSetCommand}.
+ */
+public class GroupSetCommandTest {
+
+    // The typical groups are NO MEMBER, CS2103T, CS2101 CA2, CS2101 CA3 and IS1108, in that order
+    private static final Index INDEX_FOURTH_GROUP = Index.fromOneBased(4);
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        GroupSetCommand intersectCommand =
+                new GroupSetCommand(GroupSetOperation.INTERSECTION, List.of(INDEX_FIRST_GROUP, INDEX_SECOND_GROUP));
+
+        // same object -> returns true
+        assertTrue(intersectCommand.equals(intersectCommand));
+
+        // same values -> returns true
+        assertTrue(intersectCommand.equals(
+                new GroupSetCommand(GroupSetOperation.INTERSECTION, List.of(INDEX_FIRST_GROUP, INDEX_SECOND_GROUP))));
+
+        // different types -> returns false
+        assertFalse(intersectCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(intersectCommand.equals(null));
+
+        // different operation -> returns false
+        assertFalse(intersectCommand.equals(
+                new GroupSetCommand(GroupSetOperation.UNION, List.of(INDEX_FIRST_GROUP, INDEX_SECOND_GROUP))));
+
+        // different order of groups -> returns false
+        assertFalse(intersectCommand.equals(
+                new GroupSetCommand(GroupSetOperation.INTERSECTION, List.of(INDEX_SECOND_GROUP, INDEX_FIRST_GROUP))));
+    }
+
+    @Test
+    public void execute_intersection_personsInAllGroupsFound() {
+        assertMembersFound(GroupSetOperation.INTERSECTION, List.of(INDEX_SECOND_GROUP, INDEX_FOURTH_GROUP),
+                Set.of(BENSON, DANIEL, FIONA));
+    }
+
+    @Test
+    public void execute_union_personsInAnyGroupFound() {
+        assertMembersFound(GroupSetOperation.UNION, List.of(INDEX_THIRD_GROUP, INDEX_FOURTH_GROUP),
+                Set.of(BENSON, CARL, DANIEL, ELLE, FIONA));
+    }
+
+    @Test
+    public void execute_difference_personsOnlyInFirstGroupFound() {
+        assertMembersFound(GroupSetOperation.DIFFERENCE, List.of(INDEX_SECOND_GROUP, INDEX_FOURTH_GROUP),
+                Set.of(CARL));
+        assertMembersFound(GroupSetOperation.DIFFERENCE, List.of(INDEX_FOURTH_GROUP, INDEX_SECOND_GROUP),
+                Set.of(ELLE));
+    }
+
+    @Test
+    public void execute_groupWithoutMembers_noPersonFound() {
+        assertMembersFound(GroupSetOperation.INTERSECTION, List.of(INDEX_FIRST_GROUP, INDEX_SECOND_GROUP), Set.of());
+    }
+
+    @Test
+    public void execute_invalidGroupIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredGroupList().size() + 1);
+        GroupSetCommand command =
+                new GroupSetCommand(GroupSetOperation.UNION, List.of(INDEX_FIRST_GROUP, outOfBoundIndex));
+        assertCommandFailure(command, model, MESSAGE_INVALID_GROUP_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<Index> groupIndexes = List.of(INDEX_FIRST_GROUP, INDEX_SECOND_GROUP);
+        GroupSetCommand command = new GroupSetCommand(GroupSetOperation.DIFFERENCE, groupIndexes);
+        String expected = GroupSetCommand.class.getCanonicalName() + "{operation=" + GroupSetOperation.DIFFERENCE
+                + ", groupIndexes=" + groupIndexes + "}";
+        assertEquals(expected, command.toString());
+    }
+
+    /**
+     * Asserts that combining the groups at {@code groupIndexes} with {@code operation} lists {@code expectedPersons}.
+     */
+    private void assertMembersFound(GroupSetOperation operation, List<Index> groupIndexes,
+            Set<Person> expectedPersons) {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, expectedPersons.size());
+        expectedModel.updateFilteredPersonList(expectedPersons::contains);
+        assertCommandSuccess(new GroupSetCommand(operation, groupIndexes), model, expectedMessage, expectedModel);
+        assertEquals(expectedPersons, Set.copyOf(model.getFilteredPersonList()));
+    }
+}
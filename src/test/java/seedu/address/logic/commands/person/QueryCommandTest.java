@@ -0,0 +1,65 @@
+package seedu.address.logic.commands.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code QueryCommand}.
+ */
+public class QueryCommandTest {
+    private static final PersonQuery NOT_IN_CS2103T =
+            new PersonQuery.Not(new PersonQuery.InGroup(new GroupName("CS2103T")));
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        QueryCommand queryCommand = new QueryCommand(NOT_IN_CS2103T, false);
+
+        // same values -> returns true
+        assertTrue(queryCommand.equals(new QueryCommand(NOT_IN_CS2103T, false)));
+
+        // different types -> returns false
+        assertFalse(queryCommand.equals(1));
+
+        // different query -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(new PersonQuery.NameContains("alex"), false)));
+
+        // explaining -> returns false
+        assertFalse(queryCommand.equals(new QueryCommand(NOT_IN_CS2103T, true)));
+    }
+
+    @Test
+    public void execute_query_personsFound() {
+        expectedModel.findPersons(NOT_IN_CS2103T);
+        assertCommandSuccess(new QueryCommand(NOT_IN_CS2103T, false), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3), expectedModel);
+        assertEquals(List.of(ALICE, ELLE, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_explain_showsPlan() {
+        QueryPlan plan = expectedModel.findPersons(NOT_IN_CS2103T);
+        assertCommandSuccess(new QueryCommand(NOT_IN_CS2103T, true), model,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3) + "\n" + plan.explain(), expectedModel);
+    }
+}
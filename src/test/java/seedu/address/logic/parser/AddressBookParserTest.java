@@ -5,12 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
 import static seedu.address.logic.parser.event.DeleteEventCommandParserTest.VALID_DELETE_EVENT_COMMAND_ARGS;
 import static seedu.address.logic.parser.event.EditEventCommandParserTest.VALID_EDIT_EVENT_COMMAND_ARGS;
 import static seedu.address.model.event.DescriptionTest.VALID_DESCRIPTION_STRING;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_GROUP;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_GROUP;
 
 import java.util.Arrays;
 import java.util.HashSet;
@@ -18,9 +20,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.event.AddEventCommand;
 import seedu.address.logic.commands.event.DeleteEventCommand;
 import seedu.address.logic.commands.event.EditEventCommand;
@@ -29,6 +33,7 @@ import seedu.address.logic.commands.group.DeleteGroupCommand;
 import seedu.address.logic.commands.group.EditGroupCommand;
 import seedu.address.logic.commands.group.EditGroupCommand.EditGroupDescriptor;
 import seedu.address.logic.commands.group.FindGroupCommand;
+import seedu.address.logic.commands.group.GroupSetCommand;
 import seedu.address.logic.commands.group.ListGroupCommand;
 import seedu.address.logic.commands.person.AddCommand;
 import seedu.address.logic.commands.person.DeleteCommand;
@@ -36,11 +41,15 @@ import seedu.address.logic.commands.person.EditCommand;
 import seedu.address.logic.commands.person.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.person.FindCommand;
 import seedu.address.logic.commands.person.ListCommand;
+import seedu.address.logic.commands.person.QueryCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.stats.CommandStats;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupNameContainsKeywordsPredicate;
+import seedu.address.model.group.GroupSetOperation;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
 import seedu.address.testutil.EditGroupDescriptorBuilder;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.GroupBuilder;
@@ -87,6 +96,25 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD + " 3") instanceof ExitCommand);
     }
 
+    @Test
+    public void parseCommand_query() throws Exception {
+        QueryCommand command = (QueryCommand) parser.parseCommand(QueryCommand.COMMAND_WORD + " n/foo OR n/bar");
+        assertEquals(new QueryCommand(new PersonQuery.Or(List.of(new PersonQuery.NameContains("foo"),
+                new PersonQuery.NameContains("bar"))), false), command);
+    }
+
+    @Test
+    public void parseCommand_groupSet() throws Exception {
+        String arguments = " " + PREFIX_GROUP_INDEX + "2 " + PREFIX_GROUP_INDEX + "1";
+        List<Index> groupIndexes = List.of(INDEX_SECOND_GROUP, INDEX_FIRST_GROUP);
+        assertEquals(new GroupSetCommand(GroupSetOperation.INTERSECTION, groupIndexes),
+                parser.parseCommand(GroupSetCommand.INTERSECTION_COMMAND_WORD + arguments));
+        assertEquals(new GroupSetCommand(GroupSetOperation.UNION, groupIndexes),
+                parser.parseCommand(GroupSetCommand.UNION_COMMAND_WORD + arguments));
+        assertEquals(new GroupSetCommand(GroupSetOperation.DIFFERENCE, groupIndexes),
+                parser.parseCommand(GroupSetCommand.DIFFERENCE_COMMAND_WORD + arguments));
+    }
+
     @Test
     public void parseCommand_find() throws Exception {
         List<String> keywords = Arrays.asList("foo", "bar", "baz");
@@ -95,6 +123,14 @@ public class AddressBookParserTest {
         assertEquals(new FindCommand(new NameContainsKeywordsPredicate(keywords)), command);
     }
 
+    @Test
+    public void parseCommand_stats() throws Exception {
+        CommandStats commandStats = new CommandStats();
+        AddressBookParser statsParser = new AddressBookParser(commandStats);
+        assertEquals(new StatsCommand(commandStats), statsParser.parseCommand(StatsCommand.COMMAND_WORD));
+        assertEquals(new StatsCommand(commandStats), statsParser.parseCommand(StatsCommand.COMMAND_WORD + " 3"));
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
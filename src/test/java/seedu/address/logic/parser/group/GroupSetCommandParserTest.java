@@ -0,0 +1,52 @@
+package seedu.address.logic.parser.group;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP_INDEX;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_GROUP_INDEX;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_GROUP;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_GROUP;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_GROUP;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.group.GroupSetCommand;
+import seedu.address.model.group.GroupSetOperation;
+
+public class GroupSetCommandParserTest {
+    private GroupSetCommandParser parser = new GroupSetCommandParser(GroupSetOperation.DIFFERENCE);
+
+    @Test
+    public void parse_validArgs_returnsGroupSetCommandWithIndexesInOrder() {
+        assertParseSuccess(parser, " " + PREFIX_GROUP_INDEX + "3 " + PREFIX_GROUP_INDEX + "1",
+                new GroupSetCommand(GroupSetOperation.DIFFERENCE, List.of(INDEX_THIRD_GROUP, INDEX_FIRST_GROUP)));
+
+        assertParseSuccess(parser, " " + PREFIX_GROUP_INDEX + "1 " + PREFIX_GROUP_INDEX + "2 "
+                        + PREFIX_GROUP_INDEX + "3",
+                new GroupSetCommand(GroupSetOperation.DIFFERENCE,
+                        List.of(INDEX_FIRST_GROUP, INDEX_SECOND_GROUP, INDEX_THIRD_GROUP)));
+    }
+
+    @Test
+    public void parse_fewerThanTwoGroups_throwsParseException() {
+        assertParseFailure(parser, "",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupSetCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_GROUP_INDEX + "1",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupSetCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " 1 " + PREFIX_GROUP_INDEX + "1 " + PREFIX_GROUP_INDEX + "2",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, GroupSetCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidIndex_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_GROUP_INDEX + "1 " + PREFIX_GROUP_INDEX + "a",
+                MESSAGE_INVALID_GROUP_INDEX);
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.parser.person;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.logic.parser.person.QueryCommandParser.MESSAGE_EMPTY_CONDITION;
+import static seedu.address.logic.parser.person.QueryCommandParser.MESSAGE_INVALID_PHONE_PREFIX;
+import static seedu.address.logic.parser.person.QueryCommandParser.MESSAGE_UNBALANCED_PARENTHESES;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.person.QueryCommand;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Email;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.PersonQuery.And;
+import seedu.address.model.query.PersonQuery.EmailIs;
+import seedu.address.model.query.PersonQuery.EventContains;
+import seedu.address.model.query.PersonQuery.InGroup;
+import seedu.address.model.query.PersonQuery.NameContains;
+import seedu.address.model.query.PersonQuery.Not;
+import seedu.address.model.query.PersonQuery.Or;
+import seedu.address.model.query.PersonQuery.PhoneStartsWith;
+
+public class QueryCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, QueryCommand.MESSAGE_USAGE);
+
+    private static final PersonQuery ALEX = new NameContains("alex");
+    private static final PersonQuery BEN = new NameContains("ben");
+
+    private QueryCommandParser parser = new QueryCommandParser();
+
+    @Test
+    public void parse_singleConditions_returnsQueryCommand() {
+        assertParseSuccess(parser, "n/alex yeoh", query(new NameContains("alex yeoh")));
+        assertParseSuccess(parser, "p/+6591", query(new PhoneStartsWith("+6591")));
+        assertParseSuccess(parser, " e/e1234567@u.nus.edu ", query(new EmailIs(new Email("e1234567@u.nus.edu"))));
+        assertParseSuccess(parser, "g/CS2101 CA2", query(new InGroup(new GroupName("CS2101 CA2"))));
+        assertParseSuccess(parser, "d/demo day", query(new EventContains("demo day")));
+    }
+
+    @Test
+    public void parse_operators_followPrecedence() {
+        PersonQuery group = new InGroup(new GroupName("CS2103T"));
+
+        // NOT binds tighter than AND, which binds tighter than OR
+        assertParseSuccess(parser, "n/alex OR n/ben AND NOT g/CS2103T",
+                query(new Or(List.of(ALEX, new And(List.of(BEN, new Not(group)))))));
+
+        // conditions without an operator between them are combined with AND
+        assertParseSuccess(parser, "n/alex n/ben OR g/CS2103T", query(new Or(List.of(new And(List.of(ALEX, BEN)),
+                group))));
+
+        // parentheses group conditions
+        assertParseSuccess(parser, "(n/alex OR n/ben) AND g/CS2103T",
+                query(new And(List.of(new Or(List.of(ALEX, BEN)), group))));
+        assertParseSuccess(parser, "NOT ( (n/alex OR n/ben) )", query(new Not(new Or(List.of(ALEX, BEN)))));
+    }
+
+    @Test
+    public void parse_parenthesesInValue_keptInValue() {
+        PersonQuery group = new InGroup(new GroupName("team (tp)"));
+        assertParseSuccess(parser, "g/team (tp)", query(group));
+        assertParseSuccess(parser, "(g/team (tp)) AND n/alex", query(new And(List.of(group, ALEX))));
+    }
+
+    @Test
+    public void parse_explain_returnsExplainingQueryCommand() {
+        assertParseSuccess(parser, "explain n/alex", new QueryCommand(ALEX, true));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "explain", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/alex OR", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "AND n/alex", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "n/alex ) AND n/ben", MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "(n/alex OR n/ben", MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "n/alex)", MESSAGE_UNBALANCED_PARENTHESES);
+        assertParseFailure(parser, "n/ AND n/alex", MESSAGE_EMPTY_CONDITION);
+        assertParseFailure(parser, "p/9123a", MESSAGE_INVALID_PHONE_PREFIX);
+        assertParseFailure(parser, "e/alex@example.com", Email.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, "g/CS2103T!", GroupName.MESSAGE_CONSTRAINTS);
+    }
+
+    private static QueryCommand query(PersonQuery query) {
+        return new QueryCommand(query, false);
+    }
+}
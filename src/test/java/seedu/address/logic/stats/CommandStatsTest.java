@@ -0,0 +1,54 @@
+package seedu.address.logic.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.stats.CommandStats.Phase;
+
+public class CommandStatsTest {
+
+    @Test
+    public void record_null_throwsNullPointerException() {
+        CommandStats commandStats = new CommandStats();
+        assertThrows(NullPointerException.class, () -> commandStats.record(null, Phase.PARSE, 1));
+        assertThrows(NullPointerException.class, () -> commandStats.record("list-contact", null, 1));
+    }
+
+    @Test
+    public void record_separatePerCommandWordAndPhase() {
+        CommandStats commandStats = new CommandStats();
+        assertTrue(commandStats.isEmpty());
+
+        commandStats.record("list-contact", Phase.PARSE, 3);
+        commandStats.record("list-contact", Phase.EXECUTE, 5);
+        commandStats.record("list-contact", Phase.EXECUTE, 7);
+        commandStats.record("add-contact", Phase.SAVE, 2);
+
+        assertFalse(commandStats.isEmpty());
+        assertEquals(new LatencyHistogram.Summary(1, 3, 3, 3, 3),
+                commandStats.getSummary("list-contact", Phase.PARSE));
+        assertEquals(2, commandStats.getSummary("list-contact", Phase.EXECUTE).count());
+        assertEquals(0, commandStats.getSummary("list-contact", Phase.SAVE).count());
+        assertEquals(1, commandStats.getSummary("add-contact", Phase.SAVE).count());
+        assertEquals(0, commandStats.getSummary("find-contact", Phase.PARSE).count());
+    }
+
+    @Test
+    public void format_onlyRecordedPhases_sortedByCommandWord() {
+        CommandStats commandStats = new CommandStats();
+        commandStats.record("list-contact", Phase.EXECUTE, 1_500_000);
+        commandStats.record("add-contact", Phase.PARSE, 250_000);
+
+        String[] lines = commandStats.format().split(System.lineSeparator());
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("command"));
+        assertTrue(lines[1].startsWith("add-contact      parse         1"));
+        assertTrue(lines[1].endsWith("0.25ms"));
+        assertTrue(lines[2].startsWith("list-contact     execute       1"));
+        assertTrue(lines[2].endsWith("1.50ms"));
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.logic.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getSummary_nothingRecorded_allZero() {
+        assertEquals(new LatencyHistogram.Summary(0, 0, 0, 0, 0), new LatencyHistogram().getSummary());
+    }
+
+    @Test
+    public void getSummary_smallLatencies_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 7; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        assertEquals(new LatencyHistogram.Summary(8, 3, 7, 7, 7), histogram.getSummary());
+    }
+
+    @Test
+    public void getSummary_largeLatencies_withinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000L);
+        }
+
+        LatencyHistogram.Summary summary = histogram.getSummary();
+        assertEquals(1000, summary.count());
+        assertEquals(1_000_000_000L, summary.max());
+        assertWithinBucketError(500_000_000L, summary.p50());
+        assertWithinBucketError(950_000_000L, summary.p95());
+        assertWithinBucketError(990_000_000L, summary.p99());
+    }
+
+    @Test
+    public void record_concurrently_allCounted() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        LatencyHistogram.Summary summary = histogram.getSummary();
+        assertEquals(40_000, summary.count());
+        assertEquals(9_999, summary.max());
+    }
+
+    @Test
+    public void bucketOf_boundsOfEveryBucket_consistent() {
+        for (int index = 0; index < LatencyHistogram.bucketOf(Long.MAX_VALUE); index++) {
+            long upperBound = LatencyHistogram.upperBoundOf(index);
+            assertEquals(index, LatencyHistogram.bucketOf(upperBound));
+            assertEquals(index + 1, LatencyHistogram.bucketOf(upperBound + 1));
+        }
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)));
+    }
+
+    private static void assertWithinBucketError(long expected, long actual) {
+        assertTrue(actual >= expected && actual <= expected * 1.125, "Expected about " + expected + " but was "
+                + actual);
+    }
+}
@@ -2,21 +2,33 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.group.GroupSetOperation;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.PersonBuilder;
@@ -80,6 +92,159 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getVersion_queries_unchanged() {
+        addressBook.resetData(getTypicalAddressBook());
+        long version = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getGroupList().get(0).getDashboard().getNotes();
+        assertEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_personsModified_changes() {
+        long version = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removePerson(ALICE);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_groupContentsModified_changes() {
+        addressBook.resetData(getTypicalAddressBook());
+        Group group = addressBook.getGroupList().get(1);
+
+        long version = addressBook.getVersion();
+        group.setDashboard("New notes");
+        assertNotEquals(version, addressBook.getVersion());
+
+        // Setting the same notes again is not a modification
+        version = addressBook.getVersion();
+        group.setDashboard("New notes");
+        assertEquals(version, addressBook.getVersion());
+
+        version = addressBook.getVersion();
+        addressBook.removePersonFromAllGroups(group.getPersons().get(0));
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getVersion_groupRemoved_changes() {
+        addressBook.resetData(getTypicalAddressBook());
+        Group group = addressBook.getGroupList().get(1);
+        group.setDashboard("Most recent change");
+
+        long version = addressBook.getVersion();
+        addressBook.removeGroup(group);
+        assertNotEquals(version, addressBook.getVersion());
+    }
+
+    @Test
+    public void getChangesBetween_changesMade_returnsChangesInOrder() {
+        addressBook.resetData(getTypicalAddressBook());
+        Group group = addressBook.getGroupList().get(1);
+        long version = addressBook.getVersion();
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        long editedVersion = addressBook.getVersion();
+        group.setDashboard("New notes");
+
+        assertEquals(Optional.of(List.of(new AddressBookChange.PersonEdited(ALICE, editedAlice),
+                new AddressBookChange.NotesEdited(group.getName()))),
+                addressBook.getChangesBetween(version, addressBook.getVersion()));
+        assertEquals(Optional.of(List.of(new AddressBookChange.PersonEdited(ALICE, editedAlice))),
+                addressBook.getChangesBetween(version, editedVersion));
+    }
+
+    @Test
+    public void getChangesBetween_dataReplaced_returnsEmpty() {
+        long version = addressBook.getVersion();
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Optional.empty(), addressBook.getChangesBetween(version, addressBook.getVersion()));
+    }
+
+    @Test
+    public void constructor_copy_keepsVersion() {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(addressBook.getVersion(), new AddressBook(addressBook).getVersion());
+    }
+
+    @Test
+    public void findGroupMembers_operations_combineMembers() {
+        addressBook.resetData(getTypicalAddressBook());
+        Group cs2103t = getGroup("CS2103T");
+        Group cs2101Ca2 = getGroup("CS2101 CA2");
+        Group cs2101Ca3 = getGroup("CS2101 CA3");
+
+        assertEquals(Set.of(BENSON, DANIEL, FIONA),
+                addressBook.findGroupMembers(GroupSetOperation.INTERSECTION, List.of(cs2103t, cs2101Ca3)));
+        assertEquals(Set.of(BENSON, CARL, DANIEL, ELLE, FIONA),
+                addressBook.findGroupMembers(GroupSetOperation.UNION, List.of(cs2101Ca2, cs2101Ca3)));
+        assertEquals(Set.of(CARL),
+                addressBook.findGroupMembers(GroupSetOperation.DIFFERENCE, List.of(cs2103t, cs2101Ca3)));
+        assertEquals(Set.of(ELLE),
+                addressBook.findGroupMembers(GroupSetOperation.DIFFERENCE, List.of(cs2101Ca3, cs2103t)));
+    }
+
+    @Test
+    public void findGroupMembers_membersChanged_followsChanges() {
+        addressBook.resetData(getTypicalAddressBook());
+        Group cs2101Ca2 = getGroup("CS2101 CA2");
+
+        // An edited email keeps the person's ordinal
+        Person editedCarl = new PersonBuilder(CARL).withEmail(VALID_EMAIL_BOB).build();
+        addressBook.setPerson(CARL, editedCarl);
+        assertEquals(Set.of(editedCarl),
+                addressBook.findGroupMembers(GroupSetOperation.UNION, List.of(cs2101Ca2)));
+
+        // A removed person is removed from their groups along with their ordinal
+        addressBook.removePerson(editedCarl);
+        assertEquals(Set.of(), addressBook.findGroupMembers(GroupSetOperation.UNION, List.of(cs2101Ca2)));
+        assertFalse(cs2101Ca2.containsPerson(editedCarl));
+
+        // A person added to a group before the address book may reuse the released ordinal
+        Person amy = new PersonBuilder(AMY).withGroups("CS2101 CA2").build();
+        cs2101Ca2.addPerson(amy);
+        addressBook.addPerson(amy);
+        assertEquals(Set.of(amy), addressBook.findGroupMembers(GroupSetOperation.UNION, List.of(cs2101Ca2)));
+        assertEquals(Set.of(), addressBook.findGroupMembers(GroupSetOperation.INTERSECTION,
+                List.of(cs2101Ca2, getGroup("CS2103T"))));
+    }
+
+    @Test
+    public void resetData_withGroups_groupsCopied() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        addressBook.resetData(typicalAddressBook);
+        assertEquals(typicalAddressBook, addressBook);
+
+        // Removing a person from the copy leaves the groups of the original alone
+        addressBook.removePerson(CARL);
+        Group originalCs2101Ca2 = typicalAddressBook.getGroup(new GroupName("CS2101 CA2")).orElseThrow();
+        assertTrue(originalCs2101Ca2.containsPerson(CARL));
+        assertFalse(getGroup("CS2101 CA2").containsPerson(CARL));
+    }
+
+    @Test
+    public void findGroupMembers_copiedAddressBook_usesOwnOrdinals() {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        addressBook.resetData(typicalAddressBook);
+        addressBook.setPersons(List.of(FIONA, ELLE, DANIEL, CARL, BENSON, ALICE));
+
+        assertEquals(Set.of(BENSON, DANIEL, FIONA), addressBook.findGroupMembers(GroupSetOperation.INTERSECTION,
+                List.of(getGroup("CS2103T"), getGroup("CS2101 CA3"))));
+        assertEquals(Set.of(CARL), typicalAddressBook.findGroupMembers(GroupSetOperation.DIFFERENCE,
+                List.of(typicalAddressBook.getGroup(new GroupName("CS2103T")).orElseThrow(),
+                        typicalAddressBook.getGroup(new GroupName("CS2101 CA3")).orElseThrow())));
+    }
+
+    private Group getGroup(String name) {
+        return addressBook.getGroup(new GroupName(name)).orElseThrow();
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList() + "}";
@@ -107,6 +272,21 @@ public class AddressBookTest {
         public ObservableList<Group> getGroupList() {
             return groups;
         }
+
+        @Override
+        public Optional<Group> getGroup(GroupName name) {
+            return groups.stream().filter(group -> group.getName().equals(name)).findFirst();
+        }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
+
+        @Override
+        public Optional<List<AddressBookChange>> getChangesBetween(long fromVersion, long toVersion) {
+            return Optional.empty();
+        }
     }
 
 }
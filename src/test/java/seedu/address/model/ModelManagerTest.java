@@ -7,16 +7,23 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalInt;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +100,47 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void findPersonsByName_personEdited_stillFiltersByName() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.findPersonsByName(new NameContainsKeywordsPredicate(List.of("pauline")));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        // The edited person is not in the name index when the persons were found, but is still tested
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99998888").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFilteredPersonList());
+
+        Person renamedBenson = new PersonBuilder(BENSON).withName("Benson Pauline").build();
+        modelManager.setPerson(BENSON, renamedBenson);
+        assertEquals(List.of(editedAlice, renamedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersonsByName_shortKeyword_testsEveryPerson() {
+        modelManager = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new UserPrefs());
+        modelManager.findPersonsByName(new NameContainsKeywordsPredicate(List.of("be")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void findPersons_fewCandidates_examinesOnlyCandidates() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        QueryPlan plan = modelManager.findPersons(new PersonQuery.EmailIs(BENSON.getEmail()));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+        assertEquals(OptionalInt.of(1), plan.getRowsExamined());
+    }
+
+    @Test
+    public void findPersons_manyCandidates_examinesEveryPerson() {
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        QueryPlan plan = modelManager.findPersons(new PersonQuery.NameContains("meier"));
+        assertEquals(OptionalInt.of(getTypicalAddressBook().getPersonList().size()), plan.getRowsExamined());
+        assertTrue(plan.explain().contains("Rows examined: 7 of 7"));
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
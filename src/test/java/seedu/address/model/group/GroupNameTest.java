@@ -1,13 +1,23 @@
 package seedu.address.model.group;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class GroupNameTest {
 
+    // Properties below are checked over this many randomly generated names, with a fixed seed for reproducibility
+    private static final int TRIALS = 500;
+    private static final long SEED = 2103L;
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789_-()";
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new GroupName(null));
@@ -57,4 +67,80 @@ public class GroupNameTest {
         // different values -> returns false
         assertFalse(groupName.equals(new GroupName("Other Valid Name")));
     }
+
+    @Test
+    public void equals_differentCase_returnsFalse() {
+        assertFalse(new GroupName("CS2103T").equals(new GroupName("cs2103t")));
+    }
+
+    @Test
+    public void property_equalsIffCanonicalNamesEqual() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            GroupName first = new GroupName(randomName(random));
+            GroupName second = new GroupName(random.nextBoolean()
+                    ? randomizeCase(first.fullName, random) : randomName(random));
+
+            assertEquals(first.getCanonicalName().equals(second.getCanonicalName()), first.equals(second));
+            assertEquals(first.equals(second), second.equals(first));
+            if (first.equals(second)) {
+                assertEquals(first.hashCode(), second.hashCode());
+            }
+        }
+    }
+
+    @Test
+    public void property_copiesAreEqualWithSameHashCode() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            String value = randomName(random);
+            GroupName original = new GroupName(value);
+            GroupName copy = new GroupName(new String(value.toCharArray()));
+
+            assertTrue(original.equals(copy), value);
+            assertEquals(original.hashCode(), copy.hashCode());
+            assertEquals(original, new GroupName(original.getCanonicalName()));
+        }
+    }
+
+    @Test
+    public void property_hashSetKeysMatchEquals() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            String value = randomName(random);
+            Set<GroupName> set = new HashSet<>();
+            Set<String> expectedKeys = new HashSet<>();
+            for (int j = 0; j < 5; j++) {
+                String variant = randomizeCase(value, random);
+                set.add(new GroupName(variant));
+                expectedKeys.add(variant);
+            }
+            assertEquals(expectedKeys.size(), set.size());
+            expectedKeys.forEach(key -> assertTrue(set.contains(new GroupName(key))));
+        }
+    }
+
+    /**
+     * Returns a random valid group name of up to 50 characters, not starting with a space.
+     */
+    private static String randomName(Random random) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        int length = random.nextInt(50);
+        for (int i = 0; i < length; i++) {
+            builder.append(random.nextInt(8) == 0 ? ' ' : ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code value} with the case of each letter chosen at random.
+     */
+    private static String randomizeCase(String value, Random random) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            builder.append(random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
 }
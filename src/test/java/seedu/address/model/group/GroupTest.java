@@ -2,7 +2,10 @@ package seedu.address.model.group;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGroups.CS2101_CA2;
 import static seedu.address.testutil.TypicalGroups.CS2103T;
 import static seedu.address.testutil.TypicalGroups.IS1108;
@@ -44,6 +47,46 @@ public class GroupTest {
         assertFalse(IS1108.isSameGroup(editedIS1108));
     }
 
+    @Test
+    public void copy_modifiedCopy_originalUnchanged() {
+        Group original = new GroupBuilder(CS2101_CA2).build();
+        original.setDashboard("Meet on Friday");
+        Group copy = original.copy();
+        assertEquals(original, copy);
+        assertEquals("Meet on Friday", copy.getDashboard().getNotes());
+
+        copy.addPerson(ALICE);
+        copy.setDashboard("Meet on Monday");
+        assertFalse(original.containsPerson(ALICE));
+        assertEquals("Meet on Friday", original.getDashboard().getNotes());
+    }
+
+    @Test
+    public void snapshot_modifiedOriginal_snapshotUnchanged() {
+        Group original = new GroupBuilder(CS2101_CA2).build();
+        original.setDashboard("Meet on Friday");
+        Group snapshot = original.snapshot();
+        assertEquals(original, snapshot);
+        assertSame(snapshot, original.snapshot());
+
+        original.addPerson(ALICE);
+        original.setDashboard("Meet on Monday");
+        assertFalse(snapshot.containsPerson(ALICE));
+        assertEquals("Meet on Friday", snapshot.getDashboard().getNotes());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.addPerson(ALICE));
+    }
+
+    @Test
+    public void snapshot_notesModified_sharesMembersAndEvents() {
+        Group original = new GroupBuilder(CS2101_CA2).build();
+        Group snapshot = original.snapshot();
+        original.setDashboard("Meet on Friday");
+        Group laterSnapshot = original.snapshot();
+        assertNotSame(snapshot, laterSnapshot);
+        assertSame(snapshot.getPersons(), laterSnapshot.getPersons());
+        assertSame(snapshot.getEvents(), laterSnapshot.getEvents());
+    }
+
     @Test
     public void equals() {
         // same values -> returns true
@@ -72,6 +115,18 @@ public class GroupTest {
 
     }
 
+    @Test
+    public void withUpdatedName_keepsMembersEventsAndNotes() {
+        Group group = new GroupBuilder(CS2103T).build();
+        group.setDashboard("Sprint planning on Monday");
+
+        Group renamed = group.withUpdatedName(new GroupName("CS2103T-F12"));
+        assertEquals(new GroupName("CS2103T-F12"), renamed.getName());
+        assertSame(group.getPersons(), renamed.getPersons());
+        assertSame(group.getEvents(), renamed.getEvents());
+        assertEquals("Sprint planning on Monday", renamed.getDashboard().getNotes());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Group.class.getCanonicalName() + "{name=" + CS2103T.getName()
@@ -2,14 +2,18 @@ package seedu.address.model.group;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalGroups.CS2103T;
 import static seedu.address.testutil.TypicalGroups.IS1108;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +48,51 @@ public class UniqueGroupListTest {
         assertTrue(uniqueGroupList.contains(editedCS2103T));
     }
 
+    @Test
+    public void getGroup_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueGroupList.getGroup(null));
+    }
+
+    @Test
+    public void getGroup_groupInList_returnsGroup() {
+        uniqueGroupList.add(CS2103T);
+        assertEquals(Optional.of(CS2103T), uniqueGroupList.getGroup(CS2103T.getName()));
+        assertEquals(Optional.empty(), uniqueGroupList.getGroup(IS1108.getName()));
+    }
+
+    @Test
+    public void getGroup_afterSetGroupWithDifferentName_updatesLookup() {
+        uniqueGroupList.add(CS2103T);
+        Group renamed = new GroupBuilder(CS2103T).withName("CS2103T T10").build();
+        uniqueGroupList.setGroup(CS2103T, renamed);
+        assertEquals(Optional.empty(), uniqueGroupList.getGroup(CS2103T.getName()));
+        assertEquals(Optional.of(renamed), uniqueGroupList.getGroup(renamed.getName()));
+        assertTrue(uniqueGroupList.contains(renamed));
+        assertFalse(uniqueGroupList.contains(CS2103T));
+    }
+
+    @Test
+    public void getGroup_afterRemoveAndSetGroups_updatesLookup() {
+        uniqueGroupList.add(CS2103T);
+        uniqueGroupList.remove(CS2103T);
+        assertFalse(uniqueGroupList.contains(CS2103T));
+
+        uniqueGroupList.setGroups(List.of(IS1108));
+        assertEquals(Optional.of(IS1108), uniqueGroupList.getGroup(IS1108.getName()));
+        assertEquals(Optional.empty(), uniqueGroupList.getGroup(CS2103T.getName()));
+    }
+
+    @Test
+    public void removePersonFromGroups_namedGroups_removesOnlyFromNamedGroups() {
+        Group first = new GroupBuilder().withName("Alpha").withPersons(ALICE).build();
+        Group second = new GroupBuilder().withName("Beta").withPersons(ALICE).build();
+        uniqueGroupList.setGroups(List.of(first, second));
+
+        uniqueGroupList.removePersonFromGroups(Set.of(first.getName(), new GroupName("Missing")), ALICE);
+        assertFalse(first.containsPerson(ALICE));
+        assertTrue(second.containsPerson(ALICE));
+    }
+
     @Test
     public void add_nullGroup_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueGroupList.add(null));
@@ -164,6 +213,29 @@ public class UniqueGroupListTest {
                 -> uniqueGroupList.asUnmodifiableObservableList().remove(0));
     }
 
+    @Test
+    public void getVersion_groupInListModified_changes() {
+        Group group = new GroupBuilder().build();
+        uniqueGroupList.add(group);
+        long version = uniqueGroupList.getVersion();
+        group.addPerson(ALICE);
+        assertNotEquals(version, uniqueGroupList.getVersion());
+
+        version = uniqueGroupList.getVersion();
+        group.getDashboard().setNotes("notes");
+        assertNotEquals(version, uniqueGroupList.getVersion());
+    }
+
+    @Test
+    public void getVersion_removedGroupModified_unchanged() {
+        Group group = new GroupBuilder().build();
+        uniqueGroupList.add(group);
+        uniqueGroupList.remove(group);
+        long version = uniqueGroupList.getVersion();
+        group.addPerson(ALICE);
+        assertEquals(version, uniqueGroupList.getVersion());
+    }
+
     @Test
     public void toStringMethod() {
         assertEquals(uniqueGroupList.asUnmodifiableObservableList().toString(), uniqueGroupList.toString());
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -79,4 +80,16 @@ public class EmailTest {
         // different values -> returns false
         assertFalse(email.equals(new Email("e1234557@u.nus.edu")));
     }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("e1234567@u.nus.edu", new Email("e1234567@u.nus.edu").toString());
+        assertEquals("e0000000@u.nus.edu", new Email("e0000000@u.nus.edu").toString()); // only zeros
+        assertEquals("e0001234@u.nus.edu", new Email("e0001234@u.nus.edu").toString()); // leading zeros
+    }
+
+    @Test
+    public void hashCode_equalEmails_sameHashCode() {
+        assertEquals(new Email("e0001234@u.nus.edu").hashCode(), new Email("e0001234@u.nus.edu").hashCode());
+    }
 }
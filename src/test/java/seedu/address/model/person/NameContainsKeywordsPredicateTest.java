@@ -14,6 +14,34 @@ import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
 
+    @Test
+    public void isRefinementOf() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("al"));
+
+        // lengthened keyword -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(List.of("ALI")).isRefinementOf(predicate));
+
+        // same keywords -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(List.of("al")).isRefinementOf(predicate));
+
+        // every keyword contains one of the other keywords -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(List.of("alice", "bob"))
+                .isRefinementOf(new NameContainsKeywordsPredicate(List.of("al", "bo"))));
+
+        // fewer keywords -> returns true
+        assertTrue(new NameContainsKeywordsPredicate(List.of("alice"))
+                .isRefinementOf(new NameContainsKeywordsPredicate(List.of("alice", "bob"))));
+
+        // added keyword -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(List.of("al", "bob")).isRefinementOf(predicate));
+
+        // shortened keyword -> returns false
+        assertFalse(new NameContainsKeywordsPredicate(List.of("a")).isRefinementOf(predicate));
+
+        // different type -> returns false
+        assertFalse(predicate.isRefinementOf(person -> true));
+    }
+
     @Test
     public void equals() {
         List<String> firstPredicateKeywordList = Collections.singletonList("first");
@@ -1,13 +1,23 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
 
+    // Properties below are checked over this many randomly generated names, with a fixed seed for reproducibility
+    private static final int TRIALS = 500;
+    private static final long SEED = 2103L;
+    private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
     @Test
     public void constructor_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> new Name(null));
@@ -57,4 +67,92 @@ public class NameTest {
         // different values -> returns false
         assertFalse(name.equals(new Name("Other Valid Name")));
     }
+
+    @Test
+    public void equals_differentCase_returnsTrue() {
+        assertTrue(new Name("CS2103T Team").equals(new Name("cs2103t team")));
+        assertEquals(new Name("CS2103T Team").hashCode(), new Name("cs2103t team").hashCode());
+    }
+
+    @Test
+    public void property_caseVariantsAreEqualWithSameHashCode() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            String value = randomName(random);
+            Name original = new Name(value);
+            Name variant = new Name(randomizeCase(value, random));
+
+            assertTrue(original.equals(variant), value);
+            assertTrue(variant.equals(original), value);
+            assertEquals(original.hashCode(), variant.hashCode());
+            assertEquals(original.getCanonicalName(), variant.getCanonicalName());
+        }
+    }
+
+    @Test
+    public void property_equalsIffCanonicalNamesEqual() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            Name first = new Name(randomName(random));
+            Name second = new Name(random.nextBoolean() ? randomizeCase(first.fullName, random) : randomName(random));
+
+            assertEquals(first.getCanonicalName().equals(second.getCanonicalName()), first.equals(second));
+            if (first.equals(second)) {
+                assertEquals(first.hashCode(), second.hashCode());
+            }
+        }
+    }
+
+    @Test
+    public void property_canonicalNameIsIdempotent() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            Name name = new Name(randomName(random));
+            assertEquals(name.getCanonicalName(), Name.toCanonical(name.getCanonicalName()));
+            assertEquals(name, new Name(name.getCanonicalName()));
+        }
+    }
+
+    @Test
+    public void property_hashSetTreatsCaseVariantsAsOneKey() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < TRIALS; i++) {
+            String value = randomName(random);
+            Set<Name> set = new HashSet<>();
+            for (int j = 0; j < 5; j++) {
+                set.add(new Name(randomizeCase(value, random)));
+            }
+            assertEquals(1, set.size());
+            assertTrue(set.contains(new Name(value)));
+        }
+    }
+
+    /**
+     * Returns a random valid name of one to three alphanumeric words.
+     */
+    private static String randomName(Random random) {
+        StringBuilder builder = new StringBuilder();
+        int wordCount = 1 + random.nextInt(3);
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            int wordLength = 1 + random.nextInt(12);
+            for (int j = 0; j < wordLength; j++) {
+                builder.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns {@code value} with the case of each letter chosen at random.
+     */
+    private static String randomizeCase(String value, Random random) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            builder.append(random.nextBoolean() ? Character.toUpperCase(c) : Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
 }
@@ -0,0 +1,87 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonOrdinalsTest {
+
+    private final PersonOrdinals ordinals = new PersonOrdinals();
+
+    @Test
+    public void assign_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ordinals.assign(null));
+    }
+
+    @Test
+    public void assign_newPersons_numberedDensely() {
+        assertEquals(0, ordinals.assign(ALICE));
+        assertEquals(1, ordinals.assign(BENSON));
+        assertEquals(0, ordinals.assign(ALICE));
+        assertEquals(2, ordinals.size());
+        assertEquals(Optional.of(BENSON.getEmail()), ordinals.getEmail(1));
+    }
+
+    @Test
+    public void assign_personWithSameEmail_sameOrdinal() {
+        ordinals.assign(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Tan").build();
+        assertEquals(0, ordinals.find(editedBenson));
+    }
+
+    @Test
+    public void find_unnumberedPerson_returnsMinusOne() {
+        assertEquals(-1, ordinals.find(ALICE));
+        assertEquals(Optional.empty(), ordinals.getEmail(0));
+        assertEquals(Optional.empty(), ordinals.getEmail(-1));
+    }
+
+    @Test
+    public void release_numberedPerson_ordinalReusedSmallestFirst() {
+        ordinals.assign(ALICE);
+        ordinals.assign(BENSON);
+        ordinals.assign(CARL);
+        ordinals.release(CARL);
+        ordinals.release(ALICE);
+
+        assertEquals(-1, ordinals.find(ALICE));
+        assertEquals(Optional.empty(), ordinals.getEmail(0));
+        assertEquals(0, ordinals.assign(CARL));
+        assertEquals(2, ordinals.assign(ALICE));
+    }
+
+    @Test
+    public void transfer_emailChanged_ordinalKept() {
+        ordinals.assign(ALICE);
+        ordinals.assign(BENSON);
+        Person editedBenson = new PersonBuilder(BENSON).withEmail(VALID_EMAIL_BOB).build();
+        ordinals.transfer(BENSON, editedBenson);
+
+        assertEquals(1, ordinals.find(editedBenson));
+        assertEquals(-1, ordinals.find(BENSON));
+        assertEquals(Optional.of(editedBenson.getEmail()), ordinals.getEmail(1));
+    }
+
+    @Test
+    public void reset_persons_numberedInOrder() {
+        ordinals.assign(CARL);
+        ordinals.assign(ALICE);
+        ordinals.release(CARL);
+        ordinals.reset(List.of(BENSON, ALICE));
+
+        assertEquals(0, ordinals.find(BENSON));
+        assertEquals(1, ordinals.find(ALICE));
+        assertEquals(-1, ordinals.find(CARL));
+        assertEquals(2, ordinals.assign(CARL));
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
@@ -13,6 +14,7 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.group.GroupName;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -71,6 +73,43 @@ public class PersonTest {
 
     }
 
+    @Test
+    public void constructor_equalGroupNames_sharesGroupNames() {
+        Person alice = new PersonBuilder(ALICE).withGroups("CS2103T").build();
+        Person bob = new PersonBuilder(BOB).withGroups("CS2103T").build();
+        assertSame(alice.getGroups().iterator().next(), bob.getGroups().iterator().next());
+    }
+
+    @Test
+    public void addGroup() {
+        Person person = new PersonBuilder(ALICE).withGroups("CS2103T").build();
+
+        // new group -> added
+        Person added = person.addGroup(new GroupName("CS2101"));
+        assertEquals(new PersonBuilder(ALICE).withGroups("CS2103T", "CS2101").build(), added);
+
+        // existing group -> unchanged
+        assertEquals(person, person.addGroup(new GroupName("CS2103T")));
+    }
+
+    @Test
+    public void removeGroup() {
+        Person person = new PersonBuilder(ALICE).withGroups("CS2103T", "CS2101").build();
+
+        // existing group -> removed
+        assertEquals(new PersonBuilder(ALICE).withGroups("CS2103T").build(),
+                person.removeGroup(new GroupName("CS2101")));
+
+        // missing group -> unchanged
+        assertEquals(person, person.removeGroup(new GroupName("IS1108")));
+    }
+
+    @Test
+    public void hashCode_equalPersons_sameHashCode() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertEquals(ALICE.hashCode(), aliceCopy.hashCode());
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
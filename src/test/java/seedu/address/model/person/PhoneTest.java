@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -57,5 +58,25 @@ public class PhoneTest {
 
         // different values -> returns false
         assertFalse(phone.equals(new Phone("87456123")));
+
+        // same digits with a different number of leading zeros -> returns false
+        assertFalse(new Phone("012345678").equals(new Phone("0012345678")));
+
+        // same digits with and without a plus sign -> returns false
+        assertFalse(phone.equals(new Phone("+12345678")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("93121534", new Phone("93121534").toString());
+        assertEquals("+6593121534", new Phone("+6593121534").toString());
+        assertEquals("00000000", new Phone("00000000").toString()); // only zeros
+        assertEquals("+0065931215", new Phone("+0065931215").toString()); // leading zeros
+        assertEquals("999999999999999", new Phone("999999999999999").toString()); // largest phone number
+    }
+
+    @Test
+    public void hashCode_equalPhones_sameHashCode() {
+        assertEquals(new Phone("+6593121534").hashCode(), new Phone("+6593121534").hashCode());
     }
 }
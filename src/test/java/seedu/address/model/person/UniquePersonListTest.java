@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalPersons.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -44,6 +47,27 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithSameNameDifferentCaseInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person aliceInUpperCase = new PersonBuilder(BOB).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(aliceInUpperCase));
+    }
+
+    @Test
+    public void contains_personWithSamePhoneOrEmailInList_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new PersonBuilder(BOB).withPhone(ALICE.getPhone().toString()).build()));
+        assertTrue(uniquePersonList.contains(new PersonBuilder(BOB).withEmail(ALICE.getEmail().toString()).build()));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -105,6 +129,22 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_editedPersonKeepsOneFieldButClashesWithOtherPerson_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone(BOB.getPhone().toString()).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, editedAlice));
+    }
+
+    @Test
+    public void setPerson_identityFieldsChanged_updatesLookups() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -135,6 +175,8 @@ public class UniquePersonListTest {
         expectedUniquePersonList.add(BOB);
         uniquePersonList.setPersons(expectedUniquePersonList);
         assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
     }
 
     @Test
@@ -158,6 +200,74 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameEmailPersons_throwsDuplicatePersonException() {
+        Person bobWithAliceEmail = new PersonBuilder(BOB).withEmail(ALICE.getEmail().toString()).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, bobWithAliceEmail);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void findNameCandidates_nameSearchable_returnsPersonsWithKeywordTrigrams() {
+        UniquePersonList searchableList = new UniquePersonList(true);
+        searchableList.add(ALICE);
+        searchableList.add(BOB);
+
+        assertEquals(Optional.of(Set.of(ALICE)), searchableList.findNameCandidates(List.of("PAUL")));
+        assertEquals(Optional.of(Set.of(ALICE, BOB)), searchableList.findNameCandidates(List.of("ali", "choo")));
+        assertEquals(Optional.of(Set.of()), searchableList.findNameCandidates(List.of("carl")));
+        assertEquals(Optional.empty(), searchableList.findNameCandidates(List.of("al")));
+
+        searchableList.remove(new PersonBuilder(ALICE).build());
+        assertEquals(Optional.of(Set.of()), searchableList.findNameCandidates(List.of("paul")));
+    }
+
+    @Test
+    public void findNameCandidates_notNameSearchable_returnsEmptyOptional() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findNameCandidates(List.of("alice")));
+    }
+
+    @Test
+    public void countPhonePrefixMatches_searchable_countsPersonsWithPrefix() {
+        UniquePersonList searchableList = new UniquePersonList(true);
+        searchableList.add(ALICE);
+        searchableList.add(BOB);
+        String alicePhone = ALICE.getPhone().toString();
+
+        assertEquals(OptionalInt.of(1), searchableList.countPhonePrefixMatches(alicePhone.substring(0, 3)));
+        assertEquals(OptionalInt.of(0), searchableList.countPhonePrefixMatches(alicePhone + "0"));
+        assertEquals(OptionalInt.empty(), new UniquePersonList().countPhonePrefixMatches(alicePhone));
+    }
+
+    @Test
+    public void findPhonePrefixMatches_searchable_returnsPersonsWithPrefix() {
+        UniquePersonList searchableList = new UniquePersonList(true);
+        searchableList.add(ALICE);
+        searchableList.add(BOB);
+        String alicePhone = ALICE.getPhone().toString();
+
+        assertEquals(Optional.of(Set.of(ALICE)), searchableList.findPhonePrefixMatches(alicePhone.substring(0, 3)));
+        assertEquals(Optional.of(Set.of(ALICE)), searchableList.findPhonePrefixMatches(alicePhone));
+        assertEquals(Optional.of(Set.of()), searchableList.findPhonePrefixMatches(alicePhone + "0"));
+
+        searchableList.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("81234567").build());
+        assertEquals(Optional.of(Set.of()), searchableList.findPhonePrefixMatches(alicePhone));
+    }
+
+    @Test
+    public void findPhonePrefixMatches_notSearchable_returnsEmptyOptional() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findPhonePrefixMatches("9"));
+    }
+
+    @Test
+    public void findByEmail() {
+        uniquePersonList.add(ALICE);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findByEmail(ALICE.getEmail()));
+        assertEquals(Optional.empty(), uniquePersonList.findByEmail(BOB.getEmail()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
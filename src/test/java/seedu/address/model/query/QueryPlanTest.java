@@ -0,0 +1,151 @@
+package seedu.address.model.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Description;
+import seedu.address.model.event.Event;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.PersonQuery.And;
+import seedu.address.model.query.PersonQuery.EmailIs;
+import seedu.address.model.query.PersonQuery.EventContains;
+import seedu.address.model.query.PersonQuery.InGroup;
+import seedu.address.model.query.PersonQuery.NameContains;
+import seedu.address.model.query.PersonQuery.Not;
+import seedu.address.model.query.PersonQuery.Or;
+import seedu.address.model.query.PersonQuery.PhoneStartsWith;
+import seedu.address.model.query.QueryPlan.AccessPath;
+
+public class QueryPlanTest {
+
+    private static final PersonQuery IN_CS2103T = new InGroup(new GroupName("CS2103T"));
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void plan_and_usesMostSelectiveIndex() {
+        // the email hash index finds a single person
+        QueryPlan plan = QueryPlan.plan(new And(List.of(IN_CS2103T, new EmailIs(BENSON.getEmail()))), addressBook);
+        assertEquals(Optional.of(Set.of(BENSON)), plan.getCandidates());
+        assertTrue(plan.explain().contains("email hash index"));
+
+        // the name trigram index finds fewer persons than the membership set
+        plan = QueryPlan.plan(new And(List.of(IN_CS2103T, new NameContains("meier"))), addressBook);
+        assertEquals(Optional.of(Set.of(BENSON, DANIEL)), plan.getCandidates());
+        assertTrue(plan.explain().contains("name trigram index"));
+    }
+
+    @Test
+    public void plan_and_findsPersonsOfChosenIndexOnly() {
+        QueryPlan plan = QueryPlan.plan(new And(List.of(new UnusedIndex(), new EmailIs(BENSON.getEmail()))),
+                addressBook);
+        assertEquals(Optional.of(Set.of(BENSON)), plan.getCandidates());
+    }
+
+    @Test
+    public void plan_orWithUnindexedCondition_findsNoPersons() {
+        QueryPlan plan = QueryPlan.plan(new Or(List.of(new UnusedIndex(), new Not(IN_CS2103T))), addressBook);
+        assertEquals(Optional.empty(), plan.getCandidates());
+    }
+
+    @Test
+    public void estimateCandidates_combinedConditions_combinesEstimates() {
+        PersonQuery phone = new PhoneStartsWith("9482");
+        PersonQuery email = new EmailIs(ALICE.getEmail());
+        assertEquals(OptionalInt.of(3), phone.estimateCandidates(addressBook));
+        assertEquals(OptionalInt.of(1), new And(List.of(phone, email, new Not(email))).estimateCandidates(addressBook));
+        assertEquals(OptionalInt.of(4), new Or(List.of(phone, email)).estimateCandidates(addressBook));
+        assertEquals(OptionalInt.empty(), new Or(List.of(phone, new Not(email))).estimateCandidates(addressBook));
+    }
+
+    @Test
+    public void plan_orOfIndexedConditions_usesUnion() {
+        QueryPlan plan = QueryPlan.plan(new Or(List.of(new PhoneStartsWith("9482"), new EmailIs(ALICE.getEmail()))),
+                addressBook);
+        assertEquals(Optional.of(Set.of(ELLE, FIONA, GEORGE, ALICE)), plan.getCandidates());
+    }
+
+    @Test
+    public void plan_unindexedConditions_scansAllPersons() {
+        // names cannot be looked up by keywords shorter than a trigram
+        QueryPlan plan = QueryPlan.plan(new Or(List.of(new NameContains("al"), new PhoneStartsWith("9435"))),
+                addressBook);
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertTrue(plan.explain().contains("full scan"));
+
+        plan = QueryPlan.plan(new Not(IN_CS2103T), addressBook);
+        assertEquals(Optional.empty(), plan.getCandidates());
+        assertEquals(List.of(ALICE, ELLE, GEORGE), filter(plan));
+    }
+
+    @Test
+    public void plan_eventContains_findsMembersOfGroupsWithEvent() {
+        addressBook.getGroup(new GroupName("CS2101 CA2")).get().addEvent(new Event(new Description("Demo Day")));
+
+        QueryPlan plan = QueryPlan.plan(new EventContains("demo"), addressBook);
+        assertEquals(Optional.of(Set.of(CARL)), plan.getCandidates());
+        assertTrue(plan.getPredicate().test(CARL));
+        assertFalse(plan.getPredicate().test(BENSON));
+    }
+
+    @Test
+    public void plan_missingGroup_findsNoPersons() {
+        QueryPlan plan = QueryPlan.plan(new InGroup(new GroupName("CS9999")), addressBook);
+        assertEquals(Optional.of(Set.of()), plan.getCandidates());
+    }
+
+    @Test
+    public void withRowsExamined_notRun_rowsExaminedShown() {
+        QueryPlan plan = QueryPlan.plan(new NameContains("meier"), addressBook);
+        assertEquals(OptionalInt.empty(), plan.getRowsExamined());
+        assertFalse(plan.explain().contains("Rows examined"));
+
+        QueryPlan executedPlan = plan.withRowsExamined(7);
+        assertEquals(OptionalInt.of(7), executedPlan.getRowsExamined());
+        assertTrue(executedPlan.explain().contains("(2 candidates)"));
+        assertTrue(executedPlan.explain().contains("Rows examined: 7 of 7"));
+    }
+
+    private List<Person> filter(QueryPlan plan) {
+        return addressBook.getPersonList().stream().filter(plan.getPredicate()).toList();
+    }
+
+    /**
+     * A condition estimated to find every person through an index, whose persons should never be found.
+     */
+    private static class UnusedIndex implements PersonQuery {
+        @Override
+        public Predicate<Person> toPredicate(AddressBook addressBook) {
+            return person -> true;
+        }
+
+        @Override
+        public Optional<AccessPath> findAccessPath(AddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public OptionalInt estimateCandidates(AddressBook addressBook) {
+            return OptionalInt.of(addressBook.getPersonList().size());
+        }
+    }
+}
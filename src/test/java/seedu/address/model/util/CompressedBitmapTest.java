@@ -0,0 +1,157 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class CompressedBitmapTest {
+
+    @Test
+    public void add_negativeValue_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+
+    @Test
+    public void add_newAndExistingValues_returnsWhetherAdded() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        assertTrue(bitmap.add(3));
+        assertFalse(bitmap.add(3));
+        assertTrue(bitmap.add(1_000_000));
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(1_000_000));
+        assertFalse(bitmap.contains(4));
+        assertFalse(bitmap.contains(-3));
+        assertEquals(2, bitmap.cardinality());
+    }
+
+    @Test
+    public void remove_valuesInAndNotInBitmap_returnsWhetherRemoved() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 64, 65);
+        assertTrue(bitmap.remove(64));
+        assertFalse(bitmap.remove(64));
+        assertFalse(bitmap.remove(-1));
+        assertFalse(bitmap.remove(200));
+        assertArrayEquals(new int[] {1, 65}, bitmap.toArray());
+
+        // Emptied words are no longer kept
+        assertTrue(bitmap.remove(1));
+        assertTrue(bitmap.remove(65));
+        assertTrue(bitmap.isEmpty());
+        assertEquals(new CompressedBitmap(), bitmap);
+    }
+
+    @Test
+    public void toArray_valuesAddedOutOfOrder_returnsSortedValues() {
+        assertArrayEquals(new int[] {0, 63, 64, 130, 5000}, CompressedBitmap.of(5000, 64, 0, 130, 63).toArray());
+    }
+
+    @Test
+    public void and_overlappingBitmaps_returnsCommonValues() {
+        CompressedBitmap first = CompressedBitmap.of(1, 2, 70, 200, 9000);
+        CompressedBitmap second = CompressedBitmap.of(2, 71, 200, 9001);
+        assertEquals(CompressedBitmap.of(2, 200), first.and(second));
+        assertEquals(new CompressedBitmap(), first.and(new CompressedBitmap()));
+    }
+
+    @Test
+    public void or_overlappingBitmaps_returnsAllValues() {
+        CompressedBitmap first = CompressedBitmap.of(1, 70, 9000);
+        CompressedBitmap second = CompressedBitmap.of(2, 70, 300);
+        assertEquals(CompressedBitmap.of(1, 2, 70, 300, 9000), first.or(second));
+        assertEquals(first, first.or(new CompressedBitmap()));
+    }
+
+    @Test
+    public void andNot_overlappingBitmaps_returnsValuesOnlyInFirst() {
+        CompressedBitmap first = CompressedBitmap.of(1, 2, 70, 9000);
+        CompressedBitmap second = CompressedBitmap.of(2, 70, 300);
+        assertEquals(CompressedBitmap.of(1, 9000), first.andNot(second));
+        assertEquals(CompressedBitmap.of(300), second.andNot(first));
+    }
+
+    @Test
+    public void setOperations_operandsUnchanged() {
+        CompressedBitmap first = CompressedBitmap.of(1, 2);
+        CompressedBitmap second = CompressedBitmap.of(2, 3);
+        first.and(second);
+        first.or(second);
+        first.andNot(second);
+        assertEquals(CompressedBitmap.of(1, 2), first);
+        assertEquals(CompressedBitmap.of(2, 3), second);
+    }
+
+    @Test
+    public void setOperations_randomBitmaps_matchBitSet() {
+        Random random = new Random(2103);
+        for (int trial = 0; trial < 50; trial++) {
+            BitSet firstBits = new BitSet();
+            BitSet secondBits = new BitSet();
+            CompressedBitmap first = new CompressedBitmap();
+            CompressedBitmap second = new CompressedBitmap();
+            for (int i = 0; i < 200; i++) {
+                int value = random.nextInt(4000);
+                firstBits.set(value);
+                first.add(value);
+                value = random.nextInt(4000);
+                secondBits.set(value);
+                second.add(value);
+            }
+
+            BitSet and = (BitSet) firstBits.clone();
+            and.and(secondBits);
+            BitSet or = (BitSet) firstBits.clone();
+            or.or(secondBits);
+            BitSet andNot = (BitSet) firstBits.clone();
+            andNot.andNot(secondBits);
+
+            assertArrayEquals(and.stream().toArray(), first.and(second).toArray());
+            assertArrayEquals(or.stream().toArray(), first.or(second).toArray());
+            assertArrayEquals(andNot.stream().toArray(), first.andNot(second).toArray());
+            assertEquals(firstBits.cardinality(), first.cardinality());
+        }
+    }
+
+    @Test
+    public void copy_modifiedCopy_originalUnchanged() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 100);
+        CompressedBitmap copy = bitmap.copy();
+        assertEquals(bitmap, copy);
+
+        copy.add(2);
+        copy.remove(100);
+        assertEquals(CompressedBitmap.of(1, 100), bitmap);
+    }
+
+    @Test
+    public void equals() {
+        CompressedBitmap bitmap = CompressedBitmap.of(1, 100);
+
+        // same values -> returns true
+        assertTrue(bitmap.equals(bitmap));
+        assertTrue(bitmap.equals(CompressedBitmap.of(100, 1)));
+        assertEquals(bitmap.hashCode(), CompressedBitmap.of(100, 1).hashCode());
+
+        // different values -> returns false
+        assertFalse(bitmap.equals(CompressedBitmap.of(1)));
+        assertNotEquals(bitmap, CompressedBitmap.of(1, 101));
+
+        // different types -> returns false
+        assertFalse(bitmap.equals(1));
+
+        // null -> returns false
+        assertFalse(bitmap.equals(null));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("{3, 64}", CompressedBitmap.of(64, 3).toString());
+    }
+}
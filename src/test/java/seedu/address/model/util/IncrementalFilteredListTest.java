@@ -0,0 +1,279 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class IncrementalFilteredListTest {
+
+    private final ObservableList<String> source =
+            FXCollections.observableArrayList("alice", "alicia", "benson", "carl", "daniel");
+    private final IncrementalFilteredList<String> filteredList = new IncrementalFilteredList<>(source);
+    private final List<String> tested = new ArrayList<>();
+
+    @Test
+    public void constructor_showsAllElements() {
+        assertNull(filteredList.getPredicate());
+        assertEquals(source, filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () ->
+                filteredList.asUnmodifiableObservableList().remove(0));
+    }
+
+    @Test
+    public void setPredicate_newPredicate_testsEveryElement() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        assertEquals(List.of("alice", "alicia"), filteredList.asUnmodifiableObservableList());
+        assertEquals(source, tested);
+    }
+
+    @Test
+    public void setPredicate_refinement_testsOnlyElementsInView() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        tested.clear();
+
+        filteredList.setPredicate(new ContainsPredicate("alic"));
+        assertEquals(List.of("alice", "alicia"), tested);
+        assertEquals(List.of("alice", "alicia"), filteredList.asUnmodifiableObservableList());
+
+        tested.clear();
+        filteredList.setPredicate(new ContainsPredicate("alice"));
+        assertEquals(List.of("alice", "alicia"), tested);
+        assertEquals(List.of("alice"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_notRefinement_testsEveryElement() {
+        filteredList.setPredicate(new ContainsPredicate("alice"));
+        tested.clear();
+
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        assertEquals(source, tested);
+        assertEquals(List.of("alice", "alicia"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_null_showsAllElements() {
+        filteredList.setPredicate(new ContainsPredicate("alice"));
+        filteredList.setPredicate(null);
+        assertEquals(source, filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_withCandidates_testsOnlyCandidates() {
+        filteredList.setPredicate(new ContainsPredicate("a"), Set.of("carl", "daniel", "benson"));
+        assertEquals(List.of("benson", "carl", "daniel"), tested);
+        assertEquals(List.of("carl", "daniel"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_fewCandidates_testsOnlyCandidatesInSourceOrder() {
+        source.addAll("alex", "bernice", "charlotte", "david", "eve", "fiona", "gary");
+
+        // Candidates not in the source list are ignored
+        filteredList.setPredicate(new ContainsPredicate("a"), Set.of("gary", "carl", "zack"));
+        assertEquals(Set.of("carl", "gary"), Set.copyOf(tested));
+        assertEquals(List.of("carl", "gary"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_fewCandidatesAfterSourceChanged_findsCandidatesAtNewPositions() {
+        source.addAll("alex", "bernice", "charlotte", "david", "eve", "fiona", "gary");
+        filteredList.setPredicate(new ContainsPredicate("a"), Set.of("carl"));
+
+        source.remove("alice");
+        source.set(0, "alison");
+        source.add("hannah");
+        source.add(2, "bob");
+        FXCollections.sort(source);
+        filteredList.setPredicate(new ContainsPredicate("a"), Set.of("alison", "hannah", "carl"));
+        assertEquals(List.of("alison", "carl", "hannah"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_fewCandidatesWithEqualElements_findsEveryEqualElement() {
+        source.addAll("alex", "carl", "david", "eve", "fiona", "gary");
+
+        filteredList.setPredicate(new ContainsPredicate("a"), Set.of("carl"));
+        assertEquals(List.of("carl", "carl"), filteredList.asUnmodifiableObservableList());
+
+        source.remove(3);
+        filteredList.setPredicate(new ContainsPredicate("a"), Set.of("carl"));
+        assertEquals(List.of("carl"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_elementAdded_testsOnlyAddedElement() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        tested.clear();
+
+        source.add("alex");
+        source.add(1, "bob");
+        assertEquals(List.of("alex", "bob"), tested);
+        assertEquals(List.of("alice", "alicia", "alex"), filteredList.asUnmodifiableObservableList());
+
+        source.add(0, "alan");
+        assertEquals(List.of("alan", "alice", "alicia", "alex"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_elementRemoved_testsNoElement() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        tested.clear();
+
+        source.remove("alice");
+        source.remove("carl");
+        assertEquals(List.of(), tested);
+        assertEquals(List.of("alicia"), filteredList.asUnmodifiableObservableList());
+
+        // Elements after the removed ones are still found at their new positions
+        source.add("alex");
+        assertEquals(List.of("alicia", "alex"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_elementReplaced_testsOnlyNewElement() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        tested.clear();
+
+        source.set(0, "alison");
+        source.set(1, "bernice");
+        source.set(2, "alfred");
+        assertEquals(List.of("alison", "bernice", "alfred"), tested);
+        assertEquals(List.of("alison", "alfred"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void sourceChanged_allElementsReplaced_showsAcceptedElements() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+
+        source.setAll(List.of("bob", "alex", "ali"));
+        assertEquals(List.of("alex", "ali"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void snapshot_filterAndShow_showsAcceptedElements() {
+        IncrementalFilteredList.Snapshot<String> snapshot = filteredList.snapshot(new ContainsPredicate("al"));
+        assertEquals(source, filteredList.asUnmodifiableObservableList());
+
+        IncrementalFilteredList.Result<String> result = snapshot.filter(() -> false).get();
+        assertEquals(List.of("alice", "alicia"), result.getElements());
+
+        assertTrue(filteredList.show(result));
+        assertEquals(List.of("alice", "alicia"), filteredList.asUnmodifiableObservableList());
+
+        // The view keeps up with later changes to the source list
+        source.add(0, "alfred");
+        source.remove("alice");
+        assertEquals(List.of("alfred", "alicia"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void snapshot_refinement_testsOnlyElementsInView() {
+        filteredList.setPredicate(new ContainsPredicate("al"));
+        tested.clear();
+
+        IncrementalFilteredList.Snapshot<String> snapshot = filteredList.snapshot(new ContainsPredicate("alice"));
+        assertTrue(filteredList.show(snapshot.filter(() -> false).get()));
+        assertEquals(List.of("alice", "alicia"), tested);
+        assertEquals(List.of("alice"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void filter_cancelled_returnsEmpty() {
+        assertTrue(filteredList.snapshot(new ContainsPredicate("al")).filter(() -> true).isEmpty());
+        assertEquals(List.of(), tested);
+    }
+
+    @Test
+    public void show_sourceChangedSinceSnapshot_returnsFalse() {
+        IncrementalFilteredList.Snapshot<String> snapshot = filteredList.snapshot(new ContainsPredicate("al"));
+        source.add("alfred");
+
+        assertFalse(filteredList.show(snapshot.filter(() -> false).get()));
+        assertNull(filteredList.getPredicate());
+        assertEquals(source, filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void show_predicateChangedSinceSnapshot_returnsFalse() {
+        IncrementalFilteredList.Snapshot<String> snapshot = filteredList.snapshot(new ContainsPredicate("al"));
+        filteredList.setPredicate(new ContainsPredicate("carl"));
+
+        assertFalse(filteredList.show(snapshot.filter(() -> false).get()));
+        assertEquals(List.of("carl"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void revertPreview_sourceUnchanged_restoresViewWithoutTesting() {
+        filteredList.setPredicate(new ContainsPredicate("a"));
+        assertTrue(filteredList.show(filteredList.snapshot(new ContainsPredicate("al")).filter(() -> false).get()));
+        assertTrue(filteredList.isPreviewing());
+        tested.clear();
+
+        filteredList.revertPreview();
+        assertFalse(filteredList.isPreviewing());
+        assertEquals(List.of(), tested);
+        assertEquals(List.of("alice", "alicia", "carl", "daniel"), filteredList.asUnmodifiableObservableList());
+        assertEquals("a", ((ContainsPredicate) filteredList.getPredicate()).substring);
+    }
+
+    @Test
+    public void revertPreview_sourceChanged_filtersByPredicateLastSet() {
+        filteredList.setPredicate(new ContainsPredicate("a"));
+        assertTrue(filteredList.show(filteredList.snapshot(new ContainsPredicate("al")).filter(() -> false).get()));
+        assertTrue(filteredList.show(filteredList.snapshot(new ContainsPredicate("ali")).filter(() -> false).get()));
+        source.add(0, "zara");
+        source.remove("carl");
+
+        filteredList.revertPreview();
+        assertEquals(List.of("zara", "alice", "alicia", "daniel"), filteredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setPredicate_whilePreviewing_discardsPreview() {
+        assertTrue(filteredList.show(filteredList.snapshot(new ContainsPredicate("al")).filter(() -> false).get()));
+        filteredList.setPredicate(new ContainsPredicate("carl"));
+        assertFalse(filteredList.isPreviewing());
+
+        filteredList.revertPreview();
+        assertEquals(List.of("carl"), filteredList.asUnmodifiableObservableList());
+    }
+
+    /**
+     * Accepts the strings containing a substring, recording every string it tests.
+     */
+    private class ContainsPredicate implements RefinablePredicate<String> {
+        private final String substring;
+
+        ContainsPredicate(String substring) {
+            this.substring = substring;
+        }
+
+        @Override
+        public boolean test(String value) {
+            tested.add(value);
+            return value.contains(substring);
+        }
+
+        @Override
+        public boolean isRefinementOf(Predicate<?> other) {
+            return other instanceof ContainsPredicate otherPredicate && substring.contains(otherPredicate.substring);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_firstValue_returnsValue() {
+        String value = new String("CS2103T");
+        assertSame(value, interner.intern(value));
+    }
+
+    @Test
+    public void intern_equalValues_returnsFirstValue() {
+        String first = new String("CS2103T");
+        String second = new String("CS2103T");
+        assertNotSame(first, second);
+
+        assertSame(first, interner.intern(first));
+        assertSame(first, interner.intern(second));
+    }
+
+    @Test
+    public void intern_differentValues_returnsEachValue() {
+        String first = new String("CS2103T");
+        String second = new String("CS2101");
+
+        assertSame(first, interner.intern(first));
+        assertSame(second, interner.intern(second));
+        assertEquals("CS2103T", interner.intern(new String("CS2103T")));
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private static final String ALICE = "alice pauline";
+    private static final String ALICIA = "alicia tan";
+    private static final String BENSON = "benson meier";
+
+    private final TrigramIndex<String> index = new TrigramIndex<>();
+
+    @Test
+    public void add_nullText_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, ALICE));
+    }
+
+    @Test
+    public void findCandidates_nullKeywords_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.findCandidates(null));
+    }
+
+    @Test
+    public void findCandidates_emptyIndex_returnsNoCandidates() {
+        assertEquals(Optional.of(Set.of()), index.findCandidates(List.of("alice")));
+    }
+
+    @Test
+    public void findCandidates_keywordInText_returnsElement() {
+        addAll();
+
+        assertEquals(Optional.of(Set.of(ALICE, ALICIA)), index.findCandidates(List.of("ali")));
+        assertEquals(Optional.of(Set.of(ALICE)), index.findCandidates(List.of("alice")));
+        assertEquals(Optional.of(Set.of(ALICE)), index.findCandidates(List.of("ice pau"))); // across a space
+        assertEquals(Optional.of(Set.of(BENSON)), index.findCandidates(List.of("meier")));
+    }
+
+    @Test
+    public void findCandidates_multipleKeywords_returnsElementsMatchingAnyKeyword() {
+        addAll();
+        assertEquals(Optional.of(Set.of(ALICE, BENSON)), index.findCandidates(List.of("alice", "benson")));
+    }
+
+    @Test
+    public void findCandidates_keywordNotInText_returnsNoCandidates() {
+        addAll();
+        assertEquals(Optional.of(Set.of()), index.findCandidates(List.of("carl")));
+        assertEquals(Optional.of(Set.of()), index.findCandidates(List.of("ALICE"))); // case is not ignored
+    }
+
+    @Test
+    public void findCandidates_shortKeyword_returnsEmptyOptional() {
+        addAll();
+        assertEquals(Optional.empty(), index.findCandidates(List.of("al")));
+        assertEquals(Optional.empty(), index.findCandidates(List.of("alice", "b")));
+    }
+
+    @Test
+    public void findCandidates_allTrigramsButNotKeyword_returnsElement() {
+        // Has every trigram of "alial", without containing it
+        index.add("alixxali", ALICE);
+        assertEquals(Optional.of(Set.of()), index.findCandidates(List.of("alial")));
+
+        index.add("aliaxial", ALICIA);
+        assertEquals(Optional.of(Set.of(ALICIA)), index.findCandidates(List.of("alial")));
+    }
+
+    @Test
+    public void estimateCandidates_keywords_boundsCandidates() {
+        addAll();
+        assertEquals(OptionalInt.of(2), index.estimateCandidates(List.of("ali")));
+        assertEquals(OptionalInt.of(1), index.estimateCandidates(List.of("alice")));
+        assertEquals(OptionalInt.of(2), index.estimateCandidates(List.of("alice", "benson")));
+        assertEquals(OptionalInt.of(0), index.estimateCandidates(List.of("carl")));
+        assertEquals(OptionalInt.empty(), index.estimateCandidates(List.of("alice", "b")));
+    }
+
+    @Test
+    public void remove_indexedElement_notFound() {
+        addAll();
+        index.remove(ALICE, ALICE);
+
+        assertEquals(Optional.of(Set.of(ALICIA)), index.findCandidates(List.of("ali")));
+        assertEquals(Optional.of(Set.of()), index.findCandidates(List.of("pauline")));
+    }
+
+    @Test
+    public void clear_indexedElements_notFound() {
+        addAll();
+        index.clear();
+        assertTrue(index.findCandidates(List.of("ali")).get().isEmpty());
+    }
+
+    private void addAll() {
+        index.add(ALICE, ALICE);
+        index.add(ALICIA, ALICIA);
+        index.add(BENSON, BENSON);
+    }
+}
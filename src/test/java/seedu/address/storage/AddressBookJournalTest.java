@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookJournalTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path dataFile;
+    private Path journalFile;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        dataFile = testFolder.resolve("addressbook.json");
+        journalFile = AddressBookJournal.getJournalPath(dataFile);
+        addressBook = getTypicalAddressBook();
+        storage = new JsonAddressBookStorage(dataFile);
+        storage.saveAddressBook(addressBook);
+    }
+
+    private ReadOnlyAddressBook readWithNewStorage() throws DataLoadingException {
+        return new JsonAddressBookStorage(dataFile).readAddressBook().get();
+    }
+
+    @Test
+    public void getJournalPath_dataFile_siblingWithExtension() {
+        assertEquals(testFolder.resolve("addressbook.json.journal"), journalFile);
+    }
+
+    @Test
+    public void save_firstSave_writesDataFileAndJournalHeader() throws Exception {
+        assertEquals(1, Files.readAllLines(journalFile).size());
+        assertEquals(addressBook, new AddressBook(readWithNewStorage()));
+    }
+
+    @Test
+    public void save_personAdded_appendsToJournalOnly() throws Exception {
+        String dataFileContent = FileUtil.readFromFile(dataFile);
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(dataFileContent, FileUtil.readFromFile(dataFile));
+        assertEquals(2, Files.readAllLines(journalFile).size());
+        assertEquals(addressBook, new AddressBook(readWithNewStorage()));
+    }
+
+    @Test
+    public void save_personEditedAndRemoved_replaysChanges() throws Exception {
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("91234567").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(BENSON);
+        addressBook.removePersonFromAllGroups(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        ReadOnlyAddressBook readBack = readWithNewStorage();
+        assertEquals(addressBook, new AddressBook(readBack));
+        assertEquals(addressBook.getGroupList(), readBack.getGroupList());
+    }
+
+    @Test
+    public void save_groupChangedInPlace_replaysChanges() throws Exception {
+        Group group = addressBook.getGroupList().get(1);
+        group.setDashboard("Meet on Friday");
+        storage.saveAddressBook(addressBook);
+
+        Group readBackGroup = readWithNewStorage().getGroupList().get(1);
+        assertEquals("Meet on Friday", readBackGroup.getDashboard().getNotes());
+    }
+
+    @Test
+    public void save_groupModifiedSeveralTimes_writesGroupOnce() throws Exception {
+        Group group = addressBook.getGroupList().get(1);
+        group.setDashboard("Meet on Friday");
+        group.setDashboard("Meet on Monday");
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(3, Files.readAllLines(journalFile).size());
+        assertEquals("Meet on Monday", readWithNewStorage().getGroupList().get(1).getDashboard().getNotes());
+    }
+
+    @Test
+    public void save_groupRenamedTwice_replaysInPlace() throws Exception {
+        Group group = new GroupBuilder().withName("Project Alpha").build();
+        addressBook.addGroup(group);
+        storage.saveAddressBook(addressBook);
+
+        Group renamed = group.withUpdatedName(new GroupName("Project Beta"));
+        addressBook.setGroup(group, renamed);
+        addressBook.setGroup(renamed, renamed.withUpdatedName(new GroupName("Project Gamma")));
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook.getGroupList(), readWithNewStorage().getGroupList());
+    }
+
+    @Test
+    public void save_dataReplaced_rewritesDataFile() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.resetData(getTypicalAddressBook());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalFile).size());
+        assertEquals(addressBook, new AddressBook(readWithNewStorage()));
+    }
+
+    @Test
+    public void save_nothingChanged_journalUnchanged() throws Exception {
+        List<String> journal = Files.readAllLines(journalFile);
+        storage.saveAddressBook(addressBook);
+        assertEquals(journal, Files.readAllLines(journalFile));
+    }
+
+    @Test
+    public void saveDashboardNotes_notesEdited_appendsNotesOnly() throws Exception {
+        long savedVersion = addressBook.getVersion();
+        Group group = addressBook.getGroupList().get(1);
+        group.setDashboard("Meet on Friday");
+        storage.saveDashboardNotes(Map.of(group.getName(), "Meet on Friday"), savedVersion,
+                addressBook.getVersion());
+
+        List<String> journal = Files.readAllLines(journalFile);
+        assertEquals(2, journal.size());
+        assertTrue(journal.get(1).contains(JsonJournalEntry.TYPE_SET_NOTES));
+        assertEquals(addressBook, new AddressBook(readWithNewStorage()));
+        assertEquals("Meet on Friday", readWithNewStorage().getGroupList().get(1).getDashboard().getNotes());
+    }
+
+    @Test
+    public void saveDashboardNotes_otherVersionOnDisk_throwsIoException() {
+        long savedVersion = addressBook.getVersion();
+        addressBook.addPerson(HOON);
+        Group group = addressBook.getGroupList().get(1);
+        group.setDashboard("Meet on Friday");
+        assertThrows(IOException.class, AddressBookJournal.MESSAGE_UNKNOWN_SAVED_VERSION, () ->
+                storage.saveDashboardNotes(Map.of(group.getName(), "Meet on Friday"), savedVersion - 1,
+                        addressBook.getVersion()));
+    }
+
+    @Test
+    public void save_afterRead_appendsToJournal() throws Exception {
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.addPerson(HOON);
+        storage.saveAddressBook(readBack);
+
+        assertEquals(2, Files.readAllLines(journalFile).size());
+        assertTrue(readWithNewStorage().getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void read_journalOfOtherDataFile_journalIgnored() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+
+        // Simulates a compaction interrupted after the data file was rewritten
+        FileUtil.writeToFile(dataFile, FileUtil.readFromFile(dataFile) + "\n");
+
+        assertFalse(readWithNewStorage().getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void read_incompleteLastEntry_entryIgnored() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        Files.write(journalFile, "{\"type\":\"pers".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        JsonAddressBookStorage newStorage = new JsonAddressBookStorage(dataFile);
+        AddressBook readBack = new AddressBook(newStorage.readAddressBook().get());
+        assertEquals(addressBook, readBack);
+
+        // The journal is rewritten on the next save, rather than appended to after the incomplete entry
+        newStorage.saveAddressBook(readBack);
+        assertEquals(1, Files.readAllLines(journalFile).size());
+        assertEquals(addressBook, new AddressBook(readWithNewStorage()));
+    }
+
+    @Test
+    public void read_corruptEntry_throwsDataLoadingException() throws Exception {
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        List<String> lines = Files.readAllLines(journalFile);
+        Files.write(journalFile, List.of(lines.get(0), "not json", lines.get(1)));
+
+        assertThrows(DataLoadingException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void read_entryForUnknownPerson_throwsDataLoadingException() throws Exception {
+        Files.write(journalFile, "{\"type\":\"removePerson\",\"key\":\"Nobody\"}\n"
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, this::readWithNewStorage);
+    }
+
+    @Test
+    public void read_unknownEntryType_throwsDataLoadingException() throws Exception {
+        Files.write(journalFile, "{\"type\":\"events\"}\n".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, this::readWithNewStorage);
+    }
+}
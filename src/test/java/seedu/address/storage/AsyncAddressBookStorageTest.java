@@ -0,0 +1,261 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.group.GroupName;
+
+public class AsyncAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AsyncAddressBookStorage(null));
+    }
+
+    @Test
+    public void saveAddressBook_null_throwsNullPointerException() {
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new RecordingStorage());
+        assertThrows(NullPointerException.class, () -> storage.saveAddressBook(null));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_jsonStorage_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(new JsonAddressBookStorage(filePath));
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.flush();
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedBeforeWritten_writesStateAtSave() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(addressBook);
+        String expectedNotes = addressBook.getGroupList().get(1).getDashboard().getNotes();
+
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        addressBook.getGroupList().get(1).setDashboard("Changed after save");
+        recordingStorage.release();
+        storage.flush();
+
+        ReadOnlyAddressBook written = recordingStorage.saved.get(0);
+        assertEquals(expected, new AddressBook(written));
+        assertEquals(expectedNotes, written.getGroupList().get(1).getDashboard().getNotes());
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_coalesced() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        storage.saveAddressBook(addressBook);
+        recordingStorage.awaitFirstWrite();
+
+        // The first save is being written, so only the last of these needs to be written after it
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        recordingStorage.release();
+        storage.flush();
+
+        assertEquals(2, recordingStorage.saved.size());
+        assertEquals(addressBook, new AddressBook(recordingStorage.saved.get(1)));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_handlerCalled() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = failure;
+        recordingStorage.release();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+        List<IOException> reported = new ArrayList<>();
+        storage.setSaveFailureHandler(reported::add);
+
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(List.of(failure), reported);
+
+        // Later saves are still written
+        recordingStorage.failure = null;
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.flush();
+        assertEquals(1, recordingStorage.saved.size());
+    }
+
+    @Test
+    public void saveAddressBookAsync_written_completesAfterWrite() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+
+        CompletableFuture<Void> first = storage.saveAddressBookAsync(addressBook);
+        recordingStorage.awaitFirstWrite();
+        addressBook.addPerson(HOON);
+        CompletableFuture<Void> second = storage.saveAddressBookAsync(addressBook);
+        addressBook.addPerson(IDA);
+        CompletableFuture<Void> third = storage.saveAddressBookAsync(addressBook);
+        assertFalse(first.isDone());
+
+        // The second save is skipped, so it completes once the third is written
+        recordingStorage.release();
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        third.get(5, TimeUnit.SECONDS);
+        assertEquals(2, recordingStorage.saved.size());
+    }
+
+    @Test
+    public void saveAddressBookAsync_writeFails_completesExceptionally() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.failure = failure;
+        recordingStorage.release();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+
+        CompletableFuture<Void> save = storage.saveAddressBookAsync(getTypicalAddressBook());
+        assertThrows(ExecutionException.class, () -> save.get(5, TimeUnit.SECONDS));
+        assertSame(failure, save.handle((unused, e) -> e).get());
+    }
+
+    @Test
+    public void saveAddressBook_onlyNotesEdited_savesNotesOnly() throws Exception {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        recordingStorage.release();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        Group group = addressBook.getGroupList().get(1);
+        group.setDashboard("Meet on Friday");
+        storage.saveAddressBook(addressBook);
+        group.setDashboard("Meet on Monday");
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+
+        assertEquals(1, recordingStorage.saved.size());
+        assertEquals(Map.of(group.getName(), "Meet on Monday"), recordingStorage.savedNotes);
+
+        // Any other change takes a snapshot again
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        storage.flush();
+        assertEquals(2, recordingStorage.saved.size());
+    }
+
+    @Test
+    public void flush_noPendingSaves_returns() {
+        RecordingStorage recordingStorage = new RecordingStorage();
+        AsyncAddressBookStorage storage = new AsyncAddressBookStorage(recordingStorage);
+        storage.flush();
+        assertTrue(recordingStorage.saved.isEmpty());
+    }
+
+    /**
+     * An {@code AddressBookStorage} that records the address books it saves.
+     * Saves block until {@link #release()} is called.
+     */
+    private static class RecordingStorage implements AddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+        private final Map<GroupName, String> savedNotes = new HashMap<>();
+        private final CountDownLatch isWriting = new CountDownLatch(1);
+        private final CountDownLatch isReleased = new CountDownLatch(1);
+        private volatile IOException failure;
+
+        void release() {
+            isReleased.countDown();
+        }
+
+        void awaitFirstWrite() throws InterruptedException {
+            assertTrue(isWriting.await(5, TimeUnit.SECONDS));
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            return Path.of("recording.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveAddressBook(addressBook, getAddressBookFilePath());
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            isWriting.countDown();
+            try {
+                assertTrue(isReleased.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            saved.add(addressBook);
+        }
+
+        @Override
+        public void saveDashboardNotes(Map<GroupName, String> notes, long fromVersion, long toVersion) {
+            savedNotes.putAll(notes);
+        }
+
+        @Override
+        public CompletableFuture<Void> saveAddressBookAsync(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void flush() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
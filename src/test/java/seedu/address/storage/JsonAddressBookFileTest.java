@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+
+public class JsonAddressBookFileTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path NOT_JSON_FILE = Paths.get("src", "test", "data", "JsonAddressBookStorageTest",
+            "notJsonFormatAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_streaming_sameFileAsWholeWrite() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        Path wholeFile = testFolder.resolve("whole.json");
+        Path streamedFile = testFolder.resolve("streamed.json");
+
+        JsonAddressBookFile.Summary wholeSummary = new JsonAddressBookFile(wholeFile, false).write(addressBook);
+        JsonAddressBookFile.Summary streamedSummary =
+                new JsonAddressBookFile(streamedFile, true).write(addressBook);
+
+        assertArrayEquals(Files.readAllBytes(wholeFile), Files.readAllBytes(streamedFile));
+        assertEquals(wholeSummary, streamedSummary);
+        assertEquals(Files.size(streamedFile), streamedSummary.size());
+    }
+
+    @Test
+    public void read_streaming_sameAsWholeRead() throws Exception {
+        JsonAddressBookFile.Contents whole = new JsonAddressBookFile(TYPICAL_PERSONS_FILE, false).read();
+        JsonAddressBookFile.Contents streamed = new JsonAddressBookFile(TYPICAL_PERSONS_FILE, true).read();
+
+        assertEquals(whole.summary(), streamed.summary());
+        assertEquals(whole.addressBook().toModelType(), streamed.addressBook().toModelType());
+        assertEquals(whole.addressBook().toModelType().getGroupList(),
+                streamed.addressBook().toModelType().getGroupList());
+    }
+
+    @Test
+    public void readAndWrite_streaming_success() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        JsonAddressBookFile file = new JsonAddressBookFile(testFolder.resolve("addressbook.json"), true);
+
+        JsonAddressBookFile.Summary written = file.write(addressBook);
+        JsonAddressBookFile.Contents read = file.read();
+
+        assertEquals(written, read.summary());
+        assertEquals(addressBook, read.addressBook().toModelType());
+    }
+
+    @Test
+    public void read_streamingUnknownFieldsAndMissingLists_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 1, \"tags\" : [ \"a\" ] },\n"
+                + "  \"persons\" : null }\n");
+
+        AddressBook addressBook = new JsonAddressBookFile(filePath, true).read().addressBook().toModelType();
+        assertEquals(new AddressBook(), addressBook);
+    }
+
+    @Test
+    public void read_streamingNotJson_throwsIoException() {
+        assertThrows(IOException.class, () -> new JsonAddressBookFile(NOT_JSON_FILE, true).read());
+    }
+
+    @Test
+    public void read_streamingNotAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        FileUtil.writeToFile(filePath, "[]");
+        assertThrows(IOException.class, () -> new JsonAddressBookFile(filePath, true).read());
+    }
+}
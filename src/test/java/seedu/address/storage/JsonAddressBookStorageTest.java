@@ -87,6 +87,23 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_streaming_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, true);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath, true).readAddressBook().get()));
+
+        // Files written by either storage can be read by the other
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -11,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -19,6 +23,13 @@ public class JsonSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path NON_EXISTENT_MEMBER_FILE =
+            TEST_DATA_FOLDER.resolve("nonExistentMemberAddressBook.json");
+    private static final Path NON_EXISTENT_GROUP_FILE = TEST_DATA_FOLDER.resolve("nonExistentGroupAddressBook.json");
+    private static final Path GROUP_AND_PERSON_CONFLICT_FILE =
+            TEST_DATA_FOLDER.resolve("groupAndPersonConflictAddressBook.json");
+    private static final Path UNSUPPORTED_FORMAT_VERSION_FILE =
+            TEST_DATA_FOLDER.resolve("unsupportedFormatVersionAddressBook.json");
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -44,4 +55,59 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_embeddedMembers_migratedToNames() throws Exception {
+        // The typical persons file stores a copy of every group member
+        AddressBook migrated = JsonUtil.readJsonFile(TYPICAL_PERSONS_FILE, JsonSerializableAddressBook.class).get()
+                .toModelType();
+        for (Group group : migrated.getGroupList()) {
+            for (Person member : group.getPersons()) {
+                assertTrue(migrated.getPersonList().stream().anyMatch(person -> person == member));
+            }
+        }
+
+        // Each person is only written once, in the persons list
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(migrated));
+        String bensonPhone = BENSON.getPhone().toString();
+        assertEquals(json.indexOf(bensonPhone), json.lastIndexOf(bensonPhone));
+        AddressBook reloaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(migrated, reloaded);
+        assertEquals(migrated.getGroupList(), reloaded.getGroupList());
+    }
+
+    @Test
+    public void toModelType_nonExistentMember_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NON_EXISTENT_MEMBER_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(
+                JsonSerializableAddressBook.MESSAGE_NON_EXISTENT_PERSON_IN_GROUP, "CS2103", "Benson Meier"),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_nonExistentGroup_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(NON_EXISTENT_GROUP_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(
+                JsonSerializableAddressBook.MESSAGE_NON_EXISTENT_GROUP_IN_PERSON, "Alice Pauline", "CS2101"),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_groupAndPersonConflict_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(GROUP_AND_PERSON_CONFLICT_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(
+                JsonSerializableAddressBook.MESSAGE_GROUP_AND_PERSON_CONFLICT, "Alice Pauline", "CS2103"),
+                dataFromFile::toModelType);
+    }
+
+    @Test
+    public void toModelType_unsupportedFormatVersion_throwsIllegalValueException() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(UNSUPPORTED_FORMAT_VERSION_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertThrows(IllegalValueException.class, String.format(
+                JsonSerializableAddressBook.MESSAGE_UNSUPPORTED_FORMAT_VERSION, 3), dataFromFile::toModelType);
+    }
+
 }